@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# JVM jar와 native image 비교. ./gradlew nativeCompare 로 실행한다.
+#   scripts/native-compare.sh [반복 횟수]
+# 변형별로 ready, first-request(ms)와 최대 RSS(MB)의 중앙값을 출력한다. (GNU time 필요)
+set -euo pipefail
+
+RUNS=${1:-5}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+JAR=$(find "$ROOT/build/libs" -maxdepth 1 -name '*.jar' ! -name '*-plain.jar' | head -n 1)
+NATIVE="$ROOT/build/native/nativeCompile/qna"
+JAVA=${JAVA:-java}
+TIME=${TIME:-/usr/bin/time}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+measure() {
+  local output
+  output=$("$TIME" -v "$@" --qna.startup-probe.enabled=true 2>&1)
+  local probe rss
+  probe=$(echo "$output" | sed -n 's/.*startup-probe ready=\([0-9]*\)ms first-request=\([0-9]*\)ms.*/\1 \2/p')
+  rss=$(echo "$output" | sed -n 's/.*Maximum resident set size (kbytes): \([0-9]*\).*/\1/p')
+  echo "$probe $((rss / 1024))"
+}
+
+report() {
+  local name=$1; shift
+  local results
+  results=$(for _ in $(seq "$RUNS"); do measure "$@"; done)
+  printf '%-8s %10s %18s %10s\n' "$name" \
+    "$(echo "$results" | awk '{ print $1 }' | median)" \
+    "$(echo "$results" | awk '{ print $2 }' | median)" \
+    "$(echo "$results" | awk '{ print $3 }' | median)"
+}
+
+printf '%-8s %10s %18s %10s\n' variant "ready(ms)" "first-request(ms)" "rss(MB)"
+report jvm "$JAVA" -jar "$JAR"
+report native "$NATIVE"
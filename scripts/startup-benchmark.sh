@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# 기동 시간 벤치마크. ./gradlew cdsArchive 로 압축 해제된 jar와 CDS 아카이브를 만든 뒤 실행한다.
+#   scripts/startup-benchmark.sh [반복 횟수]
+# 변형별로 ready(컨텍스트 준비 완료)와 first-request(첫 조회 완료)의 중앙값을 ms 단위로 출력한다.
+set -euo pipefail
+
+RUNS=${1:-5}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+APP_DIR="$ROOT/build/cds/application"
+JAR=$(find "$APP_DIR" -maxdepth 1 -name '*.jar' | head -n 1)
+JSA="$ROOT/build/cds/application.jsa"
+JAVA=${JAVA:-java}
+
+if [[ -z "$JAR" || ! -f "$JSA" ]]; then
+  echo "run ./gradlew cdsArchive first" >&2
+  exit 1
+fi
+
+declare -A VARIANTS=(
+  [jvm]=""
+  [lazy]="--spring.profiles.active=fast-startup"
+  [aot]="-Dspring.aot.enabled=true"
+  [cds]="-XX:SharedArchiveFile=$JSA"
+  [aot+cds+lazy]="-Dspring.aot.enabled=true -XX:SharedArchiveFile=$JSA --spring.profiles.active=fast-startup"
+)
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+run_variant() {
+  local jvm_args=() app_args=()
+  for arg in $1; do
+    if [[ "$arg" == --* ]]; then app_args+=("$arg"); else jvm_args+=("$arg"); fi
+  done
+  "$JAVA" "${jvm_args[@]}" -jar "$JAR" --qna.startup-probe.enabled=true "${app_args[@]}" 2>&1 \
+    | sed -n 's/.*startup-probe ready=\([0-9]*\)ms first-request=\([0-9]*\)ms.*/\1 \2/p'
+}
+
+printf '%-14s %10s %18s\n' variant "ready(ms)" "first-request(ms)"
+for variant in jvm lazy aot cds aot+cds+lazy; do
+  results=$(for _ in $(seq "$RUNS"); do run_variant "${VARIANTS[$variant]}"; done)
+  ready=$(echo "$results" | awk '{ print $1 }' | median)
+  first=$(echo "$results" | awk '{ print $2 }' | median)
+  printf '%-14s %10s %18s\n' "$variant" "$ready" "$first"
+done
@@ -0,0 +1,80 @@
+package qna.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 질문 여러 개의 삭제 확인과 이력 생성을 코어 수(parallelism)별로 비교한다.
+ * sequential은 질문마다 Question.delete()를 부르는 기존 방식이다.
+ * 같은 엔티티를 여러 번 삭제해도 플래그만 다시 켜지므로 매 호출마다 데이터를 새로 만들지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QuestionBatchDeleterBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    int parallelism;
+
+    @Param({"1000"})
+    int questions;
+
+    @Param({"10", "1000"})
+    int answersPerQuestion;
+
+    private List<Question> targets;
+    private LoginUser loginUser;
+    private ForkJoinPool pool;
+    private QuestionBatchDeleter deleter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User writer = new User(1L, "writer", "password", "name", "writer@test.com");
+        loginUser = LoginUser.of(writer);
+        targets = new ArrayList<>(questions);
+        long answerId = 1;
+        for (long questionId = 1; questionId <= questions; questionId++) {
+            Question question = new Question(questionId, "title", "contents", writer);
+            for (int i = 0; i < answersPerQuestion; i++) {
+                question.addAnswer(new Answer(answerId++, writer, question, "contents"));
+            }
+            targets.add(question);
+        }
+        pool = new ForkJoinPool(parallelism);
+        deleter = new QuestionBatchDeleter(pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<DeleteHistory> batch() {
+        return deleter.delete(targets, loginUser, LocalDateTime.now());
+    }
+
+    @Benchmark
+    public List<DeleteHistory> sequential() {
+        List<DeleteHistory> histories = new ArrayList<>();
+        for (Question question : targets) {
+            question.validate(loginUser);
+            histories.addAll(question.delete());
+        }
+        return histories;
+    }
+}
@@ -2,7 +2,13 @@ package qna;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
+@ConfigurationPropertiesScan
+@ImportRuntimeHints(QnaRuntimeHints.class)
 @SpringBootApplication
 public class Application {
 
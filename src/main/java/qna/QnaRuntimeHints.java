@@ -0,0 +1,63 @@
+package qna;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import qna.domain.Answer;
+import qna.domain.AnswerCursor;
+import qna.domain.AnswerView;
+import qna.domain.AnswerWriter;
+import qna.domain.BackfillCheckpoint;
+import qna.domain.ContentChangeListener;
+import qna.domain.DeleteHistory;
+import qna.domain.PurgeCheckpoint;
+import qna.domain.PurgeTarget;
+import qna.domain.Question;
+import qna.domain.QuestionDeleteJob;
+import qna.domain.QuestionListing;
+import qna.domain.TimeOrderedIdentifierGenerator;
+import qna.domain.User;
+import qna.domain.UserActivity;
+import qna.domain.UserContent;
+
+import java.util.List;
+
+/**
+ * native image에서 Hibernate가 리플렉션으로 다루는 도메인 타입 힌트.
+ * 엔티티는 필드 접근과 protected 기본 생성자, 엔티티 리스너와 id 생성기는 생성자와 콜백 메서드,
+ * JPQL 생성자 표현식(select new ...)의 대상은 public 생성자가 필요하다.
+ * Flyway 스크립트는 vendor별 디렉터리에 있어 기본 위치(db/migration) 힌트에 잡히지 않으므로 따로 등록한다.
+ */
+public class QnaRuntimeHints implements RuntimeHintsRegistrar {
+    private static final List<Class<?>> ENTITIES = List.of(
+            Question.class,
+            Answer.class,
+            User.class,
+            DeleteHistory.class,
+            QuestionListing.class,
+            PurgeCheckpoint.class,
+            QuestionDeleteJob.class,
+            UserActivity.class,
+            BackfillCheckpoint.class
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> entity : ENTITIES) {
+            hints.reflection().registerType(entity, MemberCategory.values());
+        }
+        // User.GUEST_USER의 타입. private 중첩 클래스라 이름으로 등록한다.
+        hints.reflection().registerType(TypeReference.of("qna.domain.User$GuestUser"), MemberCategory.values());
+        hints.reflection().registerType(ContentChangeListener.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(TimeOrderedIdentifierGenerator.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(PurgeTarget.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(AnswerView.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(AnswerCursor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(UserContent.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(AnswerWriter.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("db/migration/*/*");
+    }
+}
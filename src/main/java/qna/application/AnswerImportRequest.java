@@ -0,0 +1,7 @@
+package qna.application;
+
+/**
+ * 일괄 수집할 답변 한 건.
+ */
+public record AnswerImportRequest(Long questionId, Long writerId, String contents) {
+}
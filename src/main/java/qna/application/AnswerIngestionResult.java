@@ -0,0 +1,41 @@
+package qna.application;
+
+import java.util.List;
+
+/**
+ * 답변 일괄 수집 결과. 배치별 결과와 전체 처리량을 담는다.
+ */
+public record AnswerIngestionResult(List<BatchReport> batches, long elapsedNanos) {
+
+    public long inserted() {
+        return batches.stream().mapToLong(BatchReport::inserted).sum();
+    }
+
+    public long rejected() {
+        return batches.stream().mapToLong(batch -> batch.rejections().size()).sum();
+    }
+
+    public long failed() {
+        return batches.stream().filter(BatchReport::isFailed).mapToLong(BatchReport::size).sum();
+    }
+
+    public double answersPerSecond() {
+        return elapsedNanos == 0 ? 0 : inserted() / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * @param position 입력 스트림에서의 순번 (0부터)
+     */
+    public record Rejection(long position, AnswerImportRequest request, String reason) {
+    }
+
+    /**
+     * @param error 배치 전체가 실패했을 때의 원인. 성공했으면 null
+     */
+    public record BatchReport(int batchNo, int size, int inserted, List<Rejection> rejections, String error, long elapsedNanos) {
+
+        public boolean isFailed() {
+            return error != null;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.AnswerChangedEvent;
+import qna.domain.DomainClock;
+import qna.domain.QuestionChangedEvent;
+import qna.domain.QuestionRepository;
+import qna.domain.TimeOrderedIdGenerator;
+import qna.domain.UserActivityChangedEvent;
+import qna.domain.UserRepository;
+import qna.shard.ShardContext;
+import qna.shard.ShardRouter;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 여러 질문에 대한 답변을 대량으로 수집한다.
+ * 입력을 batchSize 단위로 끊어, 작성자/질문 존재 여부를 IN 조회 한 번씩으로 확인하고
+ * 영속성 컨텍스트를 거치지 않는 JDBC 배치 insert로 저장한다. 배치마다 짧은 트랜잭션을 쓴다.
+ * id는 JPA로 저장한 답변과 같은 TimeOrderedIdGenerator로 매기고, 작성 시각은 배치마다 DomainClock을 한 번 읽어 나눠 쓴다.
+ * 답변은 질문의 샤드에 두어야 하므로 배치를 질문의 샤드별로 다시 나눠, 나뉜 배치마다 그 샤드에서 확인하고 넣는다.
+ * 작성자는 모든 샤드에 복제되어 있으므로 어느 샤드에서든 확인할 수 있다.
+ */
+@Service
+public class AnswerIngestionService {
+    private static final Logger log = LoggerFactory.getLogger(AnswerIngestionService.class);
+    private static final String INSERT_ANSWER =
+            "insert into answer (id, contents, question_id, writer_id, deleted, created_at) values (?, ?, ?, ?, false, ?)";
+
+    private final UserRepository userRepository;
+    private final QuestionRepository questionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TimeOrderedIdGenerator idGenerator;
+    private final ShardRouter shardRouter;
+    private final int batchSize;
+    private final Counter insertedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    public AnswerIngestionService(
+            UserRepository userRepository,
+            QuestionRepository questionRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            TimeOrderedIdGenerator idGenerator,
+            ShardRouter shardRouter,
+            MeterRegistry meterRegistry,
+            @Value("${qna.ingestion.batch-size:1000}") int batchSize) {
+        this.userRepository = userRepository;
+        this.questionRepository = questionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.idGenerator = idGenerator;
+        this.shardRouter = shardRouter;
+        this.batchSize = batchSize;
+        this.insertedCounter = meterRegistry.counter("qna.ingestion.answers", "outcome", "inserted");
+        this.rejectedCounter = meterRegistry.counter("qna.ingestion.answers", "outcome", "rejected");
+        this.failedCounter = meterRegistry.counter("qna.ingestion.answers", "outcome", "failed");
+        this.batchTimer = meterRegistry.timer("qna.ingestion.batch");
+    }
+
+    public AnswerIngestionResult ingest(Stream<AnswerImportRequest> requests) {
+        long startedAt = System.nanoTime();
+        List<AnswerIngestionResult.BatchReport> reports = new ArrayList<>();
+        Iterator<AnswerImportRequest> iterator = requests.iterator();
+        long position = 0;
+        while (iterator.hasNext()) {
+            List<AnswerImportRequest> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                batch.add(iterator.next());
+            }
+            for (Map.Entry<Integer, List<Integer>> shard : byShard(batch).entrySet()) {
+                reports.add(ingestBatch(reports.size(), shard.getKey(), position, batch, shard.getValue()));
+            }
+            position += batch.size();
+        }
+
+        AnswerIngestionResult result = new AnswerIngestionResult(reports, System.nanoTime() - startedAt);
+        log.info("answer ingestion finished. inserted={}, rejected={}, failed={}, answers/s={}",
+                result.inserted(), result.rejected(), result.failed(), String.format("%.1f", result.answersPerSecond()));
+        return result;
+    }
+
+    // 샤드 번호 → 그 샤드에 넣을 요청의 배치 안 위치. 샤드가 하나면 배치 전체가 한 묶음이다.
+    private Map<Integer, List<Integer>> byShard(List<AnswerImportRequest> batch) {
+        Map<Integer, List<Integer>> shards = new TreeMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            shards.computeIfAbsent(shardRouter.shardOf(batch.get(i).questionId()), shard -> new ArrayList<>()).add(i);
+        }
+        return shards;
+    }
+
+    private AnswerIngestionResult.BatchReport ingestBatch(
+            int batchNo, int shard, long firstPosition, List<AnswerImportRequest> batch, List<Integer> indexes) {
+        long startedAt = System.nanoTime();
+        List<AnswerIngestionResult.Rejection> rejections = new ArrayList<>();
+        try (ShardContext.Scope scope = ShardContext.bind(shard)) {
+            Integer inserted = transactionTemplate.execute(status -> {
+                List<AnswerImportRequest> accepted = validate(firstPosition, batch, indexes, rejections);
+                LocalDateTime now = DomainClock.now();
+                insert(accepted, now);
+                accepted.stream()
+                        .map(AnswerImportRequest::questionId)
+                        .distinct()
+                        .forEach(questionId -> {
+                            eventPublisher.publishEvent(new QuestionChangedEvent(questionId));
+                            eventPublisher.publishEvent(AnswerChangedEvent.bulkInserted(questionId));
+                        });
+                // JDBC로 넣은 답변은 엔티티 리스너를 거치지 않으므로 작성자별 답변 수를 직접 알린다.
+                accepted.stream()
+                        .collect(Collectors.groupingBy(AnswerImportRequest::writerId, Collectors.counting()))
+                        .forEach((writerId, count) -> eventPublisher.publishEvent(
+                                new UserActivityChangedEvent(writerId, 0, count.intValue(), now)));
+                return accepted.size();
+            });
+            long elapsed = System.nanoTime() - startedAt;
+            batchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            insertedCounter.increment(inserted);
+            rejectedCounter.increment(rejections.size());
+            return new AnswerIngestionResult.BatchReport(batchNo, indexes.size(), inserted, rejections, null, elapsed);
+        } catch (DataAccessException e) {
+            long elapsed = System.nanoTime() - startedAt;
+            batchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            failedCounter.increment(indexes.size());
+            log.warn("answer ingestion batch failed. batchNo={}, shard={}, size={}", batchNo, shard, indexes.size(), e);
+            return new AnswerIngestionResult.BatchReport(batchNo, indexes.size(), 0, List.of(), e.getMessage(), elapsed);
+        }
+    }
+
+    private List<AnswerImportRequest> validate(long firstPosition, List<AnswerImportRequest> batch, List<Integer> indexes,
+                                               List<AnswerIngestionResult.Rejection> rejections) {
+        List<AnswerImportRequest> requests = indexes.stream().map(batch::get).toList();
+        Set<Long> writerIds = requests.stream().map(AnswerImportRequest::writerId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> questionIds = requests.stream().map(AnswerImportRequest::questionId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> existingWriters = writerIds.isEmpty() ? new HashSet<>() : new HashSet<>(userRepository.findExistingIds(writerIds));
+        Set<Long> liveQuestions = questionIds.isEmpty() ? new HashSet<>() : new HashSet<>(questionRepository.findLiveIds(questionIds));
+
+        List<AnswerImportRequest> accepted = new ArrayList<>(indexes.size());
+        rejections.clear();
+        for (int i : indexes) {
+            AnswerImportRequest request = batch.get(i);
+            if (!existingWriters.contains(request.writerId())) {
+                rejections.add(new AnswerIngestionResult.Rejection(firstPosition + i, request, "작성자가 존재하지 않습니다."));
+            } else if (!liveQuestions.contains(request.questionId())) {
+                rejections.add(new AnswerIngestionResult.Rejection(firstPosition + i, request, "질문이 존재하지 않거나 삭제되었습니다."));
+            } else {
+                accepted.add(request);
+            }
+        }
+        return accepted;
+    }
+
+    private void insert(List<AnswerImportRequest> accepted, LocalDateTime createdAt) {
+        Timestamp now = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_ANSWER, accepted, batchSize, (statement, request) -> {
+            statement.setLong(1, idGenerator.next());
+            statement.setString(2, request.contents());
+            statement.setLong(3, request.questionId());
+            statement.setLong(4, request.writerId());
+            statement.setTimestamp(5, now);
+        });
+    }
+}
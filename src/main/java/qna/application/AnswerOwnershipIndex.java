@@ -0,0 +1,280 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import qna.domain.AnswerChangedEvent;
+import qna.domain.AnswerRepository;
+import qna.domain.AnswerWriter;
+import qna.domain.LoginUser;
+import qna.domain.Question;
+import qna.domain.QuestionDeletedEvent;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 질문별 답변 id → 작성자 id 색인. 질문을 삭제할 때 답변 엔티티를 읽지 않고 다른 사람의 답변이 있는지 확인한다.
+ *
+ * 색인에 없는 질문은 처음 확인할 때 답변 작성자만 DB에서 읽어 올리고, 이후에는 답변 저장/삭제 이벤트로 커밋될 때마다 고친다.
+ * 읽는 도중에 커밋된 답변도 빠지지 않도록 읽기 전에 빈 묶음을 먼저 등록하고, 읽는 동안의 삭제는 묶음을 버려 다시 읽게 한다.
+ * 답변 수가 maxAnswers를 넘으면 임의의 질문을 내려 크기를 지킨다.
+ */
+@Service
+public class AnswerOwnershipIndex {
+    public enum Ownership {
+        OWNED, FOREIGN, UNKNOWN
+    }
+
+    /**
+     * OWNED일 때만 answerIds가 확인한 순간 색인에 있던 답변 id들이다. 그 밖에는 비어 있다.
+     */
+    public record OwnedAnswers(Ownership ownership, List<Long> answerIds) {
+    }
+
+    // id는 1부터 시작하므로 음수를 없음으로 쓴다.
+    private static final long MISSING = -1L;
+
+    private final AnswerRepository answerRepository;
+    private final long maxAnswers;
+    private final Map<Long, Group> groups = new ConcurrentHashMap<>();
+    // 읽는 도중 버려진 묶음 때문에 조금 어긋날 수 있는 근사치다.
+    private final AtomicLong indexedAnswers = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public AnswerOwnershipIndex(
+            AnswerRepository answerRepository,
+            MeterRegistry meterRegistry,
+            @Value("${qna.ownership-index.max-answers:5000000}") long maxAnswers) {
+        this.answerRepository = answerRepository;
+        this.maxAnswers = maxAnswers;
+        this.hits = meterRegistry.counter("qna.ownership-index.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("qna.ownership-index.lookups", "result", "miss");
+        Gauge.builder("qna.ownership-index.answers", indexedAnswers, AtomicLong::get)
+                .description("소유 색인에 올라 있는 답변 수")
+                .register(meterRegistry);
+        Gauge.builder("qna.ownership-index.bytes", this, AnswerOwnershipIndex::estimatedBytes)
+                .description("소유 색인 배열이 차지하는 바이트 수(추정)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * loginUser가 질문의 살아 있는 답변을 모두 썼는지 확인한다. 색인에 없으면 호출한 쪽의 트랜잭션(질문의 샤드)에서 읽어 올린다.
+     * 다른 요청이 같은 질문을 올리는 중이면 UNKNOWN이다.
+     */
+    public Ownership check(Question question, LoginUser loginUser) {
+        Group group = groups.get(question.getId());
+        if (group != null) {
+            hits.increment();
+            return group.check(loginUser.id());
+        }
+        misses.increment();
+        return load(question).check(loginUser.id());
+    }
+
+    /**
+     * check와 같지만 OWNED이면 색인에 있는 답변 id도 함께 돌려준다. 확인과 같은 잠금 안에서 모으므로 둘 사이에 색인이 바뀌지 않는다.
+     * 커밋되었지만 아직 색인에 반영되지 않은 답변은 빠질 수 있으므로, 호출한 쪽이 DB의 답변 수와 맞춰 보아야 한다.
+     */
+    public OwnedAnswers ownedAnswers(Question question, LoginUser loginUser) {
+        Group group = groups.get(question.getId());
+        if (group != null) {
+            hits.increment();
+            return group.ownedAnswers(loginUser.id());
+        }
+        misses.increment();
+        return load(question).ownedAnswers(loginUser.id());
+    }
+
+    /**
+     * 엔티티가 flush되는 시점에 동기로 호출된다. 롤백된 변경이 색인에 남지 않도록 커밋된 뒤에 반영한다.
+     */
+    @EventListener
+    public void onAnswerChanged(AnswerChangedEvent event) {
+        afterCommit(() -> apply(event));
+    }
+
+    @EventListener
+    public void onQuestionDeleted(QuestionDeletedEvent event) {
+        afterCommit(() -> invalidate(event.questionId()));
+    }
+
+    public void invalidate(Long questionId) {
+        Group group = groups.remove(questionId);
+        if (group != null) {
+            indexedAnswers.addAndGet(-group.size());
+        }
+    }
+
+    long estimatedBytes() {
+        long bytes = 0;
+        for (Group group : groups.values()) {
+            bytes += group.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    int questions() {
+        return groups.size();
+    }
+
+    private void apply(AnswerChangedEvent event) {
+        Group group = groups.get(event.questionId());
+        if (group == null) {
+            return;
+        }
+        if (event.isBulk()) {
+            invalidate(event.questionId());
+        } else if (event.deleted()) {
+            int removed = group.remove(event.answerId());
+            if (removed < 0) {
+                // 읽는 중인 묶음은 지운 답변을 다시 넣을 수 있으므로 버린다.
+                groups.remove(event.questionId(), group);
+            } else {
+                indexedAnswers.addAndGet(-removed);
+            }
+        } else if (group.add(event.answerId(), event.writerId())) {
+            indexedAnswers.incrementAndGet();
+        }
+    }
+
+    private Group load(Question question) {
+        Group group = new Group(question.getWriterId());
+        Group existing = groups.putIfAbsent(question.getId(), group);
+        if (existing != null) {
+            return existing;
+        }
+
+        List<AnswerWriter> writers;
+        try {
+            writers = answerRepository.findWriters(question.getId());
+        } catch (RuntimeException e) {
+            groups.remove(question.getId(), group);
+            throw e;
+        }
+        if (writers.size() > maxAnswers) {
+            // 색인에 담을 수 없는 질문은 이번 확인에만 쓰고 버린다.
+            groups.remove(question.getId(), group);
+            group.fill(writers);
+            return group;
+        }
+        makeRoom(writers.size());
+        int added = group.fill(writers);
+        if (groups.get(question.getId()) == group) {
+            indexedAnswers.addAndGet(added);
+        }
+        return group;
+    }
+
+    private void makeRoom(int answers) {
+        Iterator<Map.Entry<Long, Group>> iterator = groups.entrySet().iterator();
+        while (indexedAnswers.get() + answers > maxAnswers && iterator.hasNext()) {
+            Group group = iterator.next().getValue();
+            iterator.remove();
+            indexedAnswers.addAndGet(-group.size());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 한 질문의 답변 id → 작성자 id. 질문 작성자가 아닌 사람의 답변 수를 함께 세어 두어 확인이 O(1)이다.
+    private static final class Group {
+        private final long questionWriterId;
+        private final LongLongHashMap writers = new LongLongHashMap(MISSING);
+        private int foreignAnswers;
+        private boolean ready;
+
+        private Group(long questionWriterId) {
+            this.questionWriterId = questionWriterId;
+        }
+
+        private synchronized Ownership check(long userId) {
+            if (!ready) {
+                return Ownership.UNKNOWN;
+            }
+            if (userId == questionWriterId) {
+                return foreignAnswers == 0 ? Ownership.OWNED : Ownership.FOREIGN;
+            }
+            boolean[] owned = {true};
+            writers.forEach((answerId, writerId) -> owned[0] &= writerId == userId);
+            return owned[0] ? Ownership.OWNED : Ownership.FOREIGN;
+        }
+
+        private synchronized OwnedAnswers ownedAnswers(long userId) {
+            Ownership ownership = check(userId);
+            if (ownership != Ownership.OWNED) {
+                return new OwnedAnswers(ownership, List.of());
+            }
+            List<Long> answerIds = new ArrayList<>(writers.size());
+            writers.forEach((answerId, writerId) -> answerIds.add(answerId));
+            return new OwnedAnswers(ownership, answerIds);
+        }
+
+        // 새로 올렸으면 true
+        private synchronized boolean add(long answerId, long writerId) {
+            long previous = writers.put(answerId, writerId);
+            if (previous != MISSING && previous != questionWriterId) {
+                foreignAnswers--;
+            }
+            if (writerId != questionWriterId) {
+                foreignAnswers++;
+            }
+            return previous == MISSING;
+        }
+
+        // 지운 답변 수(0 또는 1). 아직 읽는 중이면 지우지 않고 -1
+        private synchronized int remove(long answerId) {
+            if (!ready) {
+                return -1;
+            }
+            long previous = writers.remove(answerId);
+            if (previous == MISSING) {
+                return 0;
+            }
+            if (previous != questionWriterId) {
+                foreignAnswers--;
+            }
+            return 1;
+        }
+
+        private synchronized int fill(List<AnswerWriter> answers) {
+            int added = 0;
+            for (AnswerWriter answer : answers) {
+                if (add(answer.answerId(), answer.writerId())) {
+                    added++;
+                }
+            }
+            ready = true;
+            return added;
+        }
+
+        private synchronized int size() {
+            return writers.size();
+        }
+
+        private long estimatedBytes() {
+            return writers.estimatedBytes();
+        }
+    }
+}
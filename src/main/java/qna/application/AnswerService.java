@@ -0,0 +1,91 @@
+package qna.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import qna.domain.AnswerCursor;
+import qna.domain.AnswerPage;
+import qna.domain.AnswerRepository;
+import qna.domain.AnswerView;
+import qna.shard.ShardContext;
+import qna.shard.ShardRouter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 답변이 아주 많은 질문을 위한 답변 조회.
+ * 질문의 답변 전체(Question.answers)를 한 번에 읽지 않고 (createdAt, id) keyset으로 chunkSize씩 처리하므로
+ * 답변 수와 관계없이 메모리 사용량이 일정하다.
+ * 답변이 chunkSize보다 많은 질문의 삭제는 QuestionDeleteJobService가 나눠서 처리한다.
+ */
+@Service
+public class AnswerService {
+    private final AnswerRepository answerRepository;
+    private final ShardRouter shardRouter;
+    private final int chunkSize;
+
+    public AnswerService(
+            AnswerRepository answerRepository,
+            ShardRouter shardRouter,
+            @Value("${qna.answer.chunk-size:500}") int chunkSize) {
+        this.answerRepository = answerRepository;
+        this.shardRouter = shardRouter;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param after 이전 페이지의 next. 첫 페이지면 null
+     */
+    @Transactional(readOnly = true)
+    public AnswerPage findAnswers(Long questionId, AnswerCursor after, int size) {
+        try (ShardContext.Scope scope = shardRouter.bindQuestion(questionId)) {
+            List<AnswerView> answers = page(questionId, after, size);
+            AnswerCursor next = answers.size() < size ? null : answers.get(answers.size() - 1).cursor();
+            return new AnswerPage(answers, next);
+        }
+    }
+
+    /**
+     * 질문의 살아 있는 답변을 작성 순서대로 chunkSize씩 읽어 넘긴다.
+     */
+    @Transactional(readOnly = true)
+    public void forEachAnswer(Long questionId, Consumer<AnswerView> consumer) {
+        try (ShardContext.Scope scope = shardRouter.bindQuestion(questionId)) {
+            AnswerCursor cursor = null;
+            while (true) {
+                List<AnswerView> chunk = page(questionId, cursor, chunkSize);
+                chunk.forEach(consumer);
+                if (chunk.size() < chunkSize) {
+                    return;
+                }
+                cursor = chunk.get(chunk.size() - 1).cursor();
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isLargeThread(Long questionId) {
+        return isLarge(countAnswers(questionId));
+    }
+
+    @Transactional(readOnly = true)
+    public long countAnswers(Long questionId) {
+        try (ShardContext.Scope scope = shardRouter.bindQuestion(questionId)) {
+            return answerRepository.countByQuestion_IdAndDeletedFalse(questionId);
+        }
+    }
+
+    public boolean isLarge(long answerCount) {
+        return answerCount > chunkSize;
+    }
+
+    private List<AnswerView> page(Long questionId, AnswerCursor after, int size) {
+        if (Objects.isNull(after)) {
+            return answerRepository.findFirstPage(questionId, PageRequest.of(0, size));
+        }
+        return answerRepository.findPageAfter(questionId, after.createdAt(), after.id(), PageRequest.of(0, size));
+    }
+}
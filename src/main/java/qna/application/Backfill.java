@@ -0,0 +1,20 @@
+package qna.application;
+
+import java.util.List;
+
+/**
+ * 스키마 변경(expand) 뒤 기존 행을 채우는 작업. BackfillService가 id 순서로 batchSize개씩 나눠 부른다.
+ * 같은 행을 두 번 채워도 결과가 같아야 한다. (체크포인트 저장 전에 멈추면 마지막 배치를 다시 채운다)
+ */
+public interface Backfill {
+
+    /**
+     * 체크포인트 키. 한 번 배포한 이름은 바꾸지 않는다.
+     */
+    String name();
+
+    /**
+     * afterId보다 큰 id를 오름차순으로 최대 batchSize개 채우고, 채운 id를 같은 순서로 돌려준다. 비어 있으면 끝난 것이다.
+     */
+    List<Long> fill(long afterId, int batchSize);
+}
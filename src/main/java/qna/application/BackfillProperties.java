@@ -0,0 +1,20 @@
+package qna.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 스키마 변경 뒤 기존 행을 채우는 Backfill 설정. (qna.backfill.*)
+ */
+@ConfigurationProperties(prefix = "qna.backfill")
+public record BackfillProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("200") int rowsPerSecond
+) {
+    public BackfillProperties {
+        if (batchSize <= 0 || rowsPerSecond <= 0) {
+            throw new IllegalArgumentException("batchSize와 rowsPerSecond는 0보다 커야 합니다.");
+        }
+    }
+}
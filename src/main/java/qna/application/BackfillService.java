@@ -0,0 +1,105 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.BackfillCheckpoint;
+import qna.domain.BackfillCheckpointRepository;
+
+import java.util.List;
+
+/**
+ * 등록된 Backfill을 서비스 중에 배치 단위로 돌린다.
+ * 마이그레이션 안에서 큰 테이블을 한 번에 고치지 않도록 배치마다 짧은 트랜잭션으로 채우고, 초당 채우는 행 수를 제한하며,
+ * 배치마다 진행 위치를 기록한다.
+ */
+@Service
+public class BackfillService {
+    private static final Logger log = LoggerFactory.getLogger(BackfillService.class);
+
+    private final List<Backfill> backfills;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private final BackfillProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public BackfillService(
+            List<Backfill> backfills,
+            BackfillCheckpointRepository checkpointRepository,
+            BackfillProperties properties,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry) {
+        this.backfills = backfills;
+        this.checkpointRepository = checkpointRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(initialDelayString = "${qna.backfill.delay:60000}", fixedDelayString = "${qna.backfill.delay:60000}")
+    public void scheduledRun() {
+        if (properties.enabled()) {
+            runPending();
+        }
+    }
+
+    public synchronized long runPending() {
+        long filled = 0;
+        for (Backfill backfill : backfills) {
+            filled += run(backfill);
+        }
+        return filled;
+    }
+
+    public synchronized long run(Backfill backfill) {
+        BackfillCheckpoint checkpoint = checkpointRepository.findById(backfill.name())
+                .orElseGet(() -> new BackfillCheckpoint(backfill.name()));
+        if (checkpoint.isCompleted()) {
+            return 0;
+        }
+        Counter filledRows = meterRegistry.counter("qna.backfill.rows", "name", backfill.name());
+
+        long startedAt = System.nanoTime();
+        long filled = 0;
+        while (true) {
+            List<Long> ids = backfill.fill(checkpoint.getLastId(), properties.batchSize());
+            if (ids.isEmpty()) {
+                checkpoint.complete();
+                save(checkpoint);
+                break;
+            }
+            checkpoint.advance(ids.get(ids.size() - 1), ids.size());
+            save(checkpoint);
+            filled += ids.size();
+            filledRows.increment(ids.size());
+            throttle(filled, startedAt);
+        }
+
+        log.info("backfill finished. name={}, filled={}, total={}", backfill.name(), filled, checkpoint.getProcessedRows());
+        return filled;
+    }
+
+    private void save(BackfillCheckpoint checkpoint) {
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.save(checkpoint));
+    }
+
+    // 지금까지 채운 행 수가 rowsPerSecond를 넘지 않도록 필요한 만큼 쉰다.
+    // 스케줄러 스레드에서 쉬므로 spring.task.scheduling.pool.size에 이 작업 몫의 스레드를 둔다.
+    private void throttle(long filled, long startedAt) {
+        long expectedNanos = filled * 1_000_000_000L / properties.rowsPerSecond();
+        long sleepMillis = (expectedNanos - (System.nanoTime() - startedAt)) / 1_000_000L;
+        if (sleepMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("backfill interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package qna.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시와 검증 캐시 설정. (qna.credential.*)
+ *
+ * @param bcryptStrength    bcrypt 작업 계수(log2 라운드). 올리면 기존 해시는 다음 로그인 때 다시 해시된다.
+ * @param cacheTtl          성공한 검증 결과를 재사용하는 시간
+ * @param cacheMaxSize      검증 캐시 최대 항목 수
+ * @param migrationBatchSize 평문 비밀번호 일괄 변환 배치 크기
+ */
+@ConfigurationProperties(prefix = "qna.credential")
+public record CredentialProperties(
+        @DefaultValue("10") int bcryptStrength,
+        @DefaultValue("30s") Duration cacheTtl,
+        @DefaultValue("10000") int cacheMaxSize,
+        @DefaultValue("100") int migrationBatchSize
+) {
+}
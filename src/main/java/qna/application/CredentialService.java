@@ -0,0 +1,92 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import qna.domain.PasswordVerifier;
+import qna.domain.User;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 비밀번호를 {bcrypt} 접두어가 붙은 해시로 저장하고 검증한다.
+ * 접두어가 없는 기존 평문 비밀번호도 검증은 되며, 검증에 성공하면 그 자리에서 해시로 바꾼다.
+ * 한 번의 bcrypt 검증은 수십 ms가 걸리므로 최근에 성공한 검증은 VerifiedCredentialCache로 재사용한다.
+ */
+@Service
+public class CredentialService implements PasswordVerifier {
+    private static final String BCRYPT = "bcrypt";
+    static final String HASHED_PREFIX = "{" + BCRYPT + "}";
+
+    private final PasswordEncoder passwordEncoder;
+    private final VerifiedCredentialCache verifiedCredentialCache;
+    private final Counter cacheHits;
+    private final Counter matches;
+    private final Counter mismatches;
+
+    public CredentialService(CredentialProperties properties, MeterRegistry meterRegistry) {
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(
+                BCRYPT, Map.of(BCRYPT, new BCryptPasswordEncoder(properties.bcryptStrength())));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(new LegacyPlainTextPasswordEncoder());
+        this.passwordEncoder = delegatingPasswordEncoder;
+        this.verifiedCredentialCache = new VerifiedCredentialCache(properties.cacheTtl(), properties.cacheMaxSize());
+        this.cacheHits = meterRegistry.counter("qna.credential.verifications", "result", "cache_hit");
+        this.matches = meterRegistry.counter("qna.credential.verifications", "result", "match");
+        this.mismatches = meterRegistry.counter("qna.credential.verifications", "result", "mismatch");
+    }
+
+    public String encode(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    public boolean isLegacy(String storedPassword) {
+        return !storedPassword.startsWith(HASHED_PREFIX);
+    }
+
+    @Override
+    public boolean matches(User user, String rawPassword) {
+        String storedPassword = user.getPassword();
+        if (Objects.isNull(rawPassword) || Objects.isNull(storedPassword)) {
+            return false;
+        }
+        if (verifiedCredentialCache.contains(user.getId(), storedPassword, rawPassword)) {
+            cacheHits.increment();
+            return true;
+        }
+        if (!passwordEncoder.matches(rawPassword, storedPassword)) {
+            mismatches.increment();
+            return false;
+        }
+
+        matches.increment();
+        if (passwordEncoder.upgradeEncoding(storedPassword)) {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+        }
+        verifiedCredentialCache.put(user.getId(), user.getPassword(), rawPassword);
+        return true;
+    }
+
+    /**
+     * 접두어가 없는 값을 평문으로 보고 비교하는 이전 방식. 해시로 옮겨 가는 동안만 검증에 쓴다.
+     */
+    private static class LegacyPlainTextPasswordEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            throw new UnsupportedOperationException("평문으로 저장하지 않습니다.");
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.contentEquals(rawPassword);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return true;
+        }
+    }
+}
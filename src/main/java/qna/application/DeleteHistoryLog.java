@@ -0,0 +1,596 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.DeleteHistoryRecord;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 삭제 이력을 DB 대신 추가 전용 로그 파일에 남긴다. (qna.delete-history.write-mode=LOG)
+ *
+ * 로그는 크기가 정해진 세그먼트 파일(다음 레코드 순번.log)을 memory-map해서 쓰며, 가득 차면 다음 세그먼트로 넘어간다.
+ * 레코드는 고정 길이 29바이트(종류 1, content id 8, 삭제자 id 8, epoch millis 8, CRC32 4)다.
+ * 쓰기는 한 스레드가 맡아, 그동안 쌓인 요청을 모아 한 번에 쓰고 fsync(force)를 한 번만 한다. (group commit)
+ * append는 자기 레코드가 디스크에 남은 뒤에 돌아오고, 조회에는 배치 전체의 fsync가 끝난 레코드만 보인다. 배치 중간에
+ * 세그먼트를 넘어갔더라도 배치가 실패하면 그 배치가 쓴 레코드를 모두 지운다.
+ *
+ * 시간 색인은 indexInterval개 레코드마다 그 구간의 최소/최대 시각만 기억하는 sparse 색인이다. 여러 스레드의 삭제 시각이
+ * 조금씩 뒤섞여 들어와도 맞게 동작하며, 범위 조회는 겹치는 구간만 읽는다. 색인은 메모리에만 두고 시작할 때 세그먼트를 읽어 다시 만든다.
+ *
+ * 같은 글의 이력은 하나만 남긴다. 이미 있는 (종류, content id)의 레코드는 쓰지 않고 건너뛰므로, 커밋 직전에 기록하고
+ * 커밋이 실패한 작업을 다시 실행해도 이력이 겹치지 않는다. 이를 위해 (종류, content id) → 삭제자 id 색인을 메모리에 두되,
+ * 최근 dedupSegments개 세그먼트에 쓴 레코드만 담는다. 다시 실행되는 작업은 곧바로 다시 실행되므로 창 밖의 오래된 글까지
+ * 기억할 필요가 없고, 이렇게 해야 메모리와 시작 시간이 로그 크기에 따라 늘지 않는다. 창의 크기는 qna.delete-history.log.dedup.bytes로 본다.
+ * 시간 색인은 여전히 모든 세그먼트를 읽어 만들므로 시작 시간은 로그 크기에 비례한다. 걸린 시간은 시작할 때 로그에 남긴다.
+ *
+ * 시작할 때 CRC가 맞지 않거나 비어 있는 레코드에서 멈추고, 그 뒤로 세그먼트에 쓰인 마지막 레코드까지 모두 0으로 지운다.
+ * 요청 하나가 maxBatchRecords보다 클 수 있어 깨진 배치의 길이를 알 수 없으므로, 남겨 두면 나중에 이어 쓴 레코드와 맞닿아
+ * 유효한 레코드로 읽힐 수 있다. fsync가 끝나지 않은 배치는 응답하지 않았으므로 버려도 된다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "qna.delete-history", name = "write-mode", havingValue = "LOG")
+public class DeleteHistoryLog implements DeleteHistoryStore {
+    private static final Logger log = LoggerFactory.getLogger(DeleteHistoryLog.class);
+
+    static final int RECORD_SIZE = 29;
+    private static final int PAYLOAD_SIZE = 25;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("\\d{20}\\.log");
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    // id는 1부터 시작하므로 음수를 없음으로 쓴다.
+    private static final long MISSING = -1L;
+
+    private final DeleteHistoryLogProperties properties;
+    private final Path directory;
+    private final int segmentBytes;
+    private final ConcurrentNavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final BlockingQueue<Append> queue = new LinkedBlockingQueue<>();
+    // 중복 확인 창. 오래된 것부터 최근 dedupSegments개 세그먼트이고, 세그먼트마다 fsync가 끝난 레코드의 색인을 든다. 창을 잠그고 읽고 쓴다.
+    private final Deque<Segment> dedupWindow = new ArrayDeque<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+    // 쓰기 스레드만 바꾼다.
+    private Segment active;
+
+    private final Counter appended;
+    private final Counter duplicates;
+    private final Timer syncTimer;
+    private final DistributionSummary batchRecords;
+
+    public DeleteHistoryLog(DeleteHistoryLogProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.directory = properties.directory();
+        this.segmentBytes = (int) (properties.segmentSize().toBytes() / RECORD_SIZE) * RECORD_SIZE;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("삭제 이력 로그를 열 수 없습니다. directory=" + directory, e);
+        }
+
+        this.appended = meterRegistry.counter("qna.delete-history.log.records");
+        this.duplicates = meterRegistry.counter("qna.delete-history.log.duplicates");
+        this.syncTimer = meterRegistry.timer("qna.delete-history.log.sync");
+        this.batchRecords = DistributionSummary.builder("qna.delete-history.log.batch")
+                .description("fsync 한 번에 묶어 쓴 레코드 수")
+                .register(meterRegistry);
+        Gauge.builder("qna.delete-history.log.segments", segments, Map::size)
+                .description("삭제 이력 로그 세그먼트 수")
+                .register(meterRegistry);
+        Gauge.builder("qna.delete-history.log.pending", queue, BlockingQueue::size)
+                .description("fsync를 기다리는 기록 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("qna.delete-history.log.dedup.bytes", this, DeleteHistoryLog::dedupBytes)
+                .description("중복 확인 색인이 차지하는 바이트 수(추정)")
+                .register(meterRegistry);
+
+        this.writer = new Thread(this::writeLoop, "delete-history-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void append(List<DeleteHistory> deleteHistories) {
+        appendRecords(deleteHistories.stream().map(DeleteHistoryRecord::of).toList());
+    }
+
+    /**
+     * 레코드가 디스크에 남을 때까지 기다린다. 같은 때에 들어온 요청들과 fsync 한 번을 나눠 쓴다.
+     * 이미 이력이 있는 글의 레코드는 건너뛴다.
+     */
+    public void appendRecords(List<DeleteHistoryRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (!running) {
+            throw new IllegalStateException("삭제 이력 로그가 닫혔습니다.");
+        }
+        Append append = new Append(records);
+        queue.add(append);
+        try {
+            append.done.get(properties.appendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("삭제 이력 로그 기록을 기다리다 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("삭제 이력을 로그에 쓰지 못했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("삭제 이력 로그 기록이 " + properties.appendTimeout() + " 안에 끝나지 않았습니다.", e);
+        }
+    }
+
+    /**
+     * 중복 확인 창 안의 이력만 본다. 창 밖의 오래된 이력은 false다.
+     */
+    @Override
+    public boolean exists(ContentType contentType, Long contentId, Long deletedById) {
+        return writtenBy(contentType, contentId) == deletedById;
+    }
+
+    /**
+     * 삭제 시각이 [from, to)인 레코드를 로그 순서대로 돌려준다. 시간 색인으로 겹치지 않는 구간은 읽지 않는다.
+     */
+    @Override
+    public List<DeleteHistoryRecord> findBetween(LocalDateTime from, LocalDateTime to) {
+        long fromMillis = toMillis(from);
+        long toMillis = toMillis(to);
+        List<DeleteHistoryRecord> found = new ArrayList<>();
+        for (Segment segment : segments.values()) {
+            // count를 먼저 읽어야 색인이 그 레코드들을 모두 덮는다.
+            int count = segment.count;
+            List<Block> blocks = segment.blocks();
+            for (int i = 0; i < blocks.size() && blocks.get(i).first() < count; i++) {
+                Block block = blocks.get(i);
+                if (block.max() < fromMillis || block.min() >= toMillis) {
+                    continue;
+                }
+                int end = i + 1 < blocks.size() ? Math.min(blocks.get(i + 1).first(), count) : count;
+                for (int record = block.first(); record < end; record++) {
+                    long millis = segment.millisAt(record);
+                    if (millis >= fromMillis && millis < toMillis) {
+                        found.add(segment.read(record));
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    public long size() {
+        return segments.values().stream()
+                .mapToLong(segment -> segment.count)
+                .sum();
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        try {
+            writer.join(properties.appendTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Segment segment : segments.values()) {
+            try {
+                segment.channel.close();
+            } catch (IOException e) {
+                log.warn("delete history log segment close failed. segment={}", segment.path, e);
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<Append> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                Append first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                int records = first.records.size();
+                // 넣으면 maxBatchRecords를 넘는 요청은 다음 배치로 미룬다. 요청 하나가 그보다 크면 그 요청만 쓴다.
+                Append next;
+                while ((next = queue.peek()) != null && records + next.records.size() <= properties.maxBatchRecords()) {
+                    batch.add(queue.poll());
+                    records += next.records.size();
+                }
+                write(batch, records);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        for (Append pending : queue) {
+            pending.done.completeExceptionally(new IllegalStateException("삭제 이력 로그가 닫혔습니다."));
+        }
+    }
+
+    private void write(List<Append> batch, int requested) {
+        long started = System.nanoTime();
+        // 이번 배치에 쓴 레코드. 같은 배치 안의 중복도 여기서 거른다.
+        Map<ContentKey, Long> pending = new HashMap<>();
+        // 이번 배치가 쓴 세그먼트. 첫 번째가 배치를 시작한 세그먼트다.
+        List<Segment> touched = new ArrayList<>();
+        touched.add(active);
+        try {
+            for (Append append : batch) {
+                for (DeleteHistoryRecord record : append.records) {
+                    ContentKey key = new ContentKey(record.contentType(), record.contentId());
+                    if (isWritten(key) || pending.putIfAbsent(key, record.deletedById()) != null) {
+                        continue;
+                    }
+                    if (active.isFull()) {
+                        rotate();
+                        touched.add(active);
+                    }
+                    active.put(record, properties.indexInterval());
+                }
+            }
+            for (Segment segment : touched) {
+                segment.force();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("delete history log write failed. records={}", requested, e);
+            rollback(touched);
+            batch.forEach(append -> append.done.completeExceptionally(e));
+            return;
+        }
+        // 배치 전체가 디스크에 남은 뒤에야 조회와 중복 확인에 보인다.
+        touched.forEach(Segment::publish);
+        touched.forEach(this::enterWindow);
+        pending.forEach((key, deletedById) -> markWritten(active, key, deletedById));
+        syncTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        batchRecords.record(pending.size());
+        appended.increment(pending.size());
+        duplicates.increment(requested - pending.size());
+        batch.forEach(append -> append.done.complete(null));
+    }
+
+    private boolean isWritten(ContentKey key) {
+        return writtenBy(key.contentType(), key.contentId()) != MISSING;
+    }
+
+    private long writtenBy(ContentType contentType, long contentId) {
+        synchronized (dedupWindow) {
+            for (Segment segment : dedupWindow) {
+                long deletedById = segment.written(contentType).get(contentId);
+                if (deletedById != MISSING) {
+                    return deletedById;
+                }
+            }
+            return MISSING;
+        }
+    }
+
+    private void markWritten(Segment segment, ContentKey key, long deletedById) {
+        synchronized (dedupWindow) {
+            segment.written(key.contentType()).put(key.contentId(), deletedById);
+        }
+    }
+
+    // segment를 창의 가장 최근 자리에 넣고, 창을 벗어난 세그먼트의 색인은 버린다.
+    private void enterWindow(Segment segment) {
+        synchronized (dedupWindow) {
+            if (dedupWindow.contains(segment)) {
+                return;
+            }
+            dedupWindow.addLast(segment);
+            while (dedupWindow.size() > properties.dedupSegments()) {
+                dedupWindow.removeFirst().forgetWritten();
+            }
+        }
+    }
+
+    long dedupBytes() {
+        synchronized (dedupWindow) {
+            return dedupWindow.stream().mapToLong(Segment::writtenBytes).sum();
+        }
+    }
+
+    // 가득 찬 세그먼트는 배치가 끝날 때 다른 세그먼트와 함께 fsync한다.
+    private void rotate() throws IOException {
+        long base = active.base + active.position;
+        active = open(segmentPath(base), base);
+        segments.put(base, active);
+        log.info("delete history log rotated. segment={}", active.path);
+    }
+
+    /**
+     * 실패한 배치가 쓴 레코드를 모두 지워 배치를 시작한 위치로 되돌린다. 이번 배치에서 새로 연 세그먼트는 파일째 지운다.
+     * 앞 세그먼트를 fsync한 뒤 실패했다면 지우기 전에 죽을 때 응답하지 않은 레코드가 남을 수 있다.
+     */
+    private void rollback(List<Segment> touched) {
+        for (Segment segment : touched) {
+            try {
+                segment.discardUnpublished();
+            } catch (RuntimeException e) {
+                log.warn("delete history log rollback failed. segment={}", segment.path, e);
+            }
+        }
+        for (Segment segment : touched.subList(1, touched.size())) {
+            segments.remove(segment.base, segment);
+            try {
+                segment.channel.close();
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("delete history log segment delete failed. segment={}", segment.path, e);
+            }
+        }
+        active = touched.get(0);
+    }
+
+    private void recover() throws IOException {
+        long started = System.nanoTime();
+        List<Path> files;
+        try (Stream<Path> listed = Files.list(directory)) {
+            files = listed.filter(path -> SEGMENT_NAME.matcher(path.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        }
+        for (Path path : files) {
+            long base = Long.parseLong(path.getFileName().toString().substring(0, 20));
+            Segment segment = open(path, base);
+            int valid = segment.recover(properties.indexInterval());
+            if (valid < segment.capacity && !path.equals(files.get(files.size() - 1))) {
+                log.warn("delete history log segment ends early. segment={}, records={}", path, valid);
+            }
+            segments.put(base, segment);
+        }
+        if (segments.isEmpty()) {
+            active = open(segmentPath(0), 0);
+            segments.put(0L, active);
+        } else {
+            active = segments.lastEntry().getValue();
+        }
+        // 중복 확인 창에 드는 최근 세그먼트만 읽어 색인을 만든다.
+        List<Segment> opened = new ArrayList<>(segments.values());
+        for (Segment segment : opened.subList(Math.max(0, opened.size() - properties.dedupSegments()), opened.size())) {
+            enterWindow(segment);
+            for (int record = 0; record < segment.count; record++) {
+                DeleteHistoryRecord recovered = segment.read(record);
+                markWritten(segment, new ContentKey(recovered.contentType(), recovered.contentId()), recovered.deletedById());
+            }
+        }
+        log.info("delete history log opened. directory={}, segments={}, records={}, dedupBytes={}, elapsedMs={}",
+                directory, segments.size(), size(), dedupBytes(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private Segment open(Path path, long base) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size() == 0 ? segmentBytes : channel.size() / RECORD_SIZE * RECORD_SIZE;
+        return new Segment(base, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    private Path segmentPath(long base) {
+        return directory.resolve(String.format("%020d.log", base));
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static byte code(ContentType contentType) {
+        return switch (contentType) {
+            case QUESTION -> 1;
+            case ANSWER -> 2;
+        };
+    }
+
+    private static ContentType contentType(byte code) {
+        return switch (code) {
+            case 1 -> ContentType.QUESTION;
+            case 2 -> ContentType.ANSWER;
+            default -> null;
+        };
+    }
+
+    private record Append(List<DeleteHistoryRecord> records, CompletableFuture<Void> done) {
+        private Append(List<DeleteHistoryRecord> records) {
+            this(records, new CompletableFuture<>());
+        }
+    }
+
+    private record ContentKey(ContentType contentType, long contentId) {
+    }
+
+    // [first, 다음 구간의 first) 레코드의 삭제 시각 범위
+    private record Block(int first, long min, long max) {
+    }
+
+    private static final class Segment {
+        private final long base;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        // 쓰기 스레드만 바꾼다. 쓴 레코드 수
+        private int position;
+        // 배치 전체의 fsync가 끝나 조회에 보이는 레코드 수
+        private volatile int count;
+        private final List<Block> blocks = new ArrayList<>();
+        // 중복 확인 창에 있을 때만 채운다. 로그의 dedupWindow 잠금 안에서만 다룬다.
+        private LongLongHashMap writtenQuestions;
+        private LongLongHashMap writtenAnswers;
+
+        private Segment(long base, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.base = base;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.capacity = buffer.capacity() / RECORD_SIZE;
+        }
+
+        private LongLongHashMap written(ContentType contentType) {
+            if (contentType == ContentType.QUESTION) {
+                if (writtenQuestions == null) {
+                    writtenQuestions = new LongLongHashMap(MISSING);
+                }
+                return writtenQuestions;
+            }
+            if (writtenAnswers == null) {
+                writtenAnswers = new LongLongHashMap(MISSING);
+            }
+            return writtenAnswers;
+        }
+
+        private void forgetWritten() {
+            writtenQuestions = null;
+            writtenAnswers = null;
+        }
+
+        private long writtenBytes() {
+            return (writtenQuestions == null ? 0 : writtenQuestions.estimatedBytes())
+                    + (writtenAnswers == null ? 0 : writtenAnswers.estimatedBytes());
+        }
+
+        private boolean isFull() {
+            return position == capacity;
+        }
+
+        private void put(DeleteHistoryRecord record, int indexInterval) {
+            int offset = position * RECORD_SIZE;
+            long millis = toMillis(record.deletedAt());
+            buffer.put(offset, code(record.contentType()));
+            buffer.putLong(offset + 1, record.contentId());
+            buffer.putLong(offset + 9, record.deletedById());
+            buffer.putLong(offset + 17, millis);
+            buffer.putInt(offset + PAYLOAD_SIZE, crc(offset));
+            index(position, millis, indexInterval);
+            position++;
+        }
+
+        private void force() {
+            if (position > count) {
+                buffer.force(count * RECORD_SIZE, (position - count) * RECORD_SIZE);
+            }
+        }
+
+        private void publish() {
+            count = position;
+        }
+
+        // 조회에 보이지 않은 레코드는 응답하지 않았으므로 지우고 그 자리부터 다시 쓴다.
+        private void discardUnpublished() {
+            int published = count;
+            for (int offset = published * RECORD_SIZE; offset < position * RECORD_SIZE; offset++) {
+                buffer.put(offset, (byte) 0);
+            }
+            int written = position;
+            position = published;
+            synchronized (this) {
+                blocks.removeIf(block -> block.first() >= published);
+            }
+            if (written > published) {
+                buffer.force(published * RECORD_SIZE, (written - published) * RECORD_SIZE);
+            }
+        }
+
+        private int recover(int indexInterval) {
+            int valid = 0;
+            while (valid < capacity && isValid(valid)) {
+                index(valid, millisAt(valid), indexInterval);
+                valid++;
+            }
+            // 끝에서부터 비어 있지 않은 마지막 레코드(쓰인 곳의 끝)를 찾아 그 앞까지 지운다.
+            int end = capacity;
+            while (end > valid && isBlank(end - 1)) {
+                end--;
+            }
+            for (int offset = valid * RECORD_SIZE; offset < end * RECORD_SIZE; offset++) {
+                buffer.put(offset, (byte) 0);
+            }
+            if (end > valid) {
+                buffer.force(valid * RECORD_SIZE, (end - valid) * RECORD_SIZE);
+            }
+            position = valid;
+            count = valid;
+            return valid;
+        }
+
+        private synchronized void index(int record, long millis, int indexInterval) {
+            if (record % indexInterval == 0) {
+                blocks.add(new Block(record, millis, millis));
+                return;
+            }
+            Block last = blocks.get(blocks.size() - 1);
+            blocks.set(blocks.size() - 1, new Block(last.first(), Math.min(last.min(), millis), Math.max(last.max(), millis)));
+        }
+
+        private synchronized List<Block> blocks() {
+            return List.copyOf(blocks);
+        }
+
+        private boolean isValid(int record) {
+            int offset = record * RECORD_SIZE;
+            return contentType(buffer.get(offset)) != null && buffer.getInt(offset + PAYLOAD_SIZE) == crc(offset);
+        }
+
+        private boolean isBlank(int record) {
+            int offset = record * RECORD_SIZE;
+            for (int i = offset; i < offset + RECORD_SIZE; i++) {
+                if (buffer.get(i) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long millisAt(int record) {
+            return buffer.getLong(record * RECORD_SIZE + 17);
+        }
+
+        private DeleteHistoryRecord read(int record) {
+            int offset = record * RECORD_SIZE;
+            return new DeleteHistoryRecord(
+                    contentType(buffer.get(offset)),
+                    buffer.getLong(offset + 1),
+                    buffer.getLong(offset + 9),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong(offset + 17)), ZONE));
+        }
+
+        private int crc(int offset) {
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(offset, PAYLOAD_SIZE));
+            return (int) crc.getValue();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package qna.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 삭제 이력 로그 설정. (qna.delete-history.log.*) qna.delete-history.write-mode=LOG일 때만 쓴다.
+ *
+ * @param directory       세그먼트 파일을 둘 디렉터리
+ * @param segmentSize     세그먼트 하나의 크기. 가득 차면 다음 세그먼트로 넘어간다
+ * @param maxBatchRecords fsync 한 번에 묶어 쓸 최대 레코드 수. 요청 하나가 이보다 크면 그 요청만 따로 쓴다
+ * @param indexInterval   시간 색인 한 칸이 덮는 레코드 수
+ * @param appendTimeout   기록이 디스크에 남을 때까지 기다리는 최대 시간
+ * @param dedupSegments   같은 글의 이력을 다시 쓰지 않도록 기억해 둘 최근 세그먼트 수. 세그먼트 하나에 레코드 수 × 약 32바이트가 든다
+ */
+@ConfigurationProperties(prefix = "qna.delete-history.log")
+public record DeleteHistoryLogProperties(
+        @DefaultValue("data/delete-history") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("4096") int maxBatchRecords,
+        @DefaultValue("1024") int indexInterval,
+        @DefaultValue("5s") Duration appendTimeout,
+        @DefaultValue("2") int dedupSegments
+) {
+    public DeleteHistoryLogProperties {
+        if (segmentSize.toBytes() < DeleteHistoryLog.RECORD_SIZE || segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentSize는 레코드 하나 이상, 2GB 미만이어야 합니다.");
+        }
+        if (maxBatchRecords <= 0 || indexInterval <= 0 || dedupSegments <= 0) {
+            throw new IllegalArgumentException("maxBatchRecords, indexInterval, dedupSegments는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -1,28 +1,246 @@
 package qna.application;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.diagnostics.DeleteHistorySaveEvent;
+import qna.domain.ContentType;
 import qna.domain.DeleteHistory;
-import qna.domain.DeleteHistoryRepository;
+import qna.domain.DeleteHistoryRecord;
+import qna.domain.UserActivityChangedEvent;
+import qna.shard.ShardContext;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 삭제 이력을 write-mode에 맞는 트랜잭션에서 DeleteHistoryStore에 남긴다. LOG 모드면 로그(DeleteHistoryLog)에, 아니면
+ * delete_history 테이블(JpaDeleteHistoryStore)에 남기며, 이력 확인과 조회도 같은 저장소에서 한다.
+ * 어느 저장소든 이력을 남길 때 삭제한 사람의 활동 집계를 줄이는 UserActivityChangedEvent를 호출자 트랜잭션에 발행한다.
+ */
 @Service
 public class DeleteHistoryService {
-    private DeleteHistoryRepository deleteHistoryRepository;
+    private static final Logger log = LoggerFactory.getLogger(DeleteHistoryService.class);
 
-    public DeleteHistoryService(DeleteHistoryRepository deleteHistoryRepository) {
-        this.deleteHistoryRepository = deleteHistoryRepository;
+    private final DeleteHistoryStore store;
+    private final DeleteHistoryWriteMode writeMode;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNewTemplate;
+    private final TransactionTemplate callerTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final ExecutorService deferredWriter;
+    private final Duration deferredShutdownTimeout;
+    private final AtomicInteger deferredPending = new AtomicInteger();
+    private final Counter deferredFailures;
+
+    public DeleteHistoryService(
+            JpaDeleteHistoryStore jpaStore,
+            ObjectProvider<DeleteHistoryLog> historyLog,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${qna.delete-history.write-mode:REQUIRES_NEW}") DeleteHistoryWriteMode writeMode,
+            @Value("${qna.delete-history.deferred.shutdown-timeout:30s}") Duration deferredShutdownTimeout) {
+        this.writeMode = writeMode;
+        this.deferredShutdownTimeout = deferredShutdownTimeout;
+        // LOG 모드에서만 로그 파일을 연다.
+        this.store = writeMode == DeleteHistoryWriteMode.LOG ? historyLog.getObject() : jpaStore;
+        this.eventPublisher = eventPublisher;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.callerTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.deferredWriter = writeMode == DeleteHistoryWriteMode.AFTER_COMMIT
+                ? Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "delete-history-writer"))
+                : null;
+
+        Gauge.builder("qna.delete-history.deferred.pending", deferredPending, AtomicInteger::get)
+                .description("커밋 후 기록을 기다리는 삭제 이력 묶음 수")
+                .register(meterRegistry);
+        this.deferredFailures = meterRegistry.counter("qna.delete-history.deferred.failures");
+        log.info("delete history write mode: {}", writeMode);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void saveAll(List<DeleteHistory> deleteHistories) {
-        deleteHistoryRepository.saveAll(deleteHistories);
+        DeleteHistorySaveEvent event = DeleteHistorySaveEvent.start(deleteHistories.size(), writeMode.name());
+        try {
+            publishActivity(deleteHistories);
+            switch (writeMode) {
+                case REQUIRES_NEW -> requiresNewTemplate.executeWithoutResult(status -> store.append(deleteHistories));
+                case CALLER -> callerTemplate.executeWithoutResult(status -> store.append(deleteHistories));
+                case AFTER_COMMIT -> saveAfterCommit(deleteHistories);
+                case LOG -> appendBeforeCommit(deleteHistories);
+            }
+        } finally {
+            event.finish();
+        }
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void save(DeleteHistory deleteHistory) {
-        deleteHistoryRepository.save(deleteHistory);
+        saveAll(List.of(deleteHistory));
+    }
+
+    /**
+     * write-mode와 관계없이 호출자 트랜잭션과 함께 커밋되도록 남긴다. 삭제 작업처럼 이력과 진행 위치를 한 번에 커밋해야 할 때 쓴다.
+     * 테이블이면 호출자 트랜잭션에 참여하고, 로그면 커밋 직전에 쓴다.
+     */
+    public void saveAllWithCaller(List<DeleteHistory> deleteHistories) {
+        DeleteHistorySaveEvent event = DeleteHistorySaveEvent.start(deleteHistories.size(), DeleteHistoryWriteMode.CALLER.name());
+        try {
+            publishActivity(deleteHistories);
+            if (writeMode == DeleteHistoryWriteMode.LOG) {
+                appendBeforeCommit(deleteHistories);
+            } else {
+                callerTemplate.executeWithoutResult(status -> store.append(deleteHistories));
+            }
+        } finally {
+            event.finish();
+        }
+    }
+
+    /**
+     * deletedById가 지운 글의 이력이 있는지. 테이블이면 지금 묶인 샤드에서 읽으므로 호출하는 쪽이 글의 샤드를 묶어야 한다.
+     */
+    public boolean exists(ContentType contentType, Long contentId, Long deletedById) {
+        if (writeMode == DeleteHistoryWriteMode.LOG) {
+            return store.exists(contentType, contentId, deletedById);
+        }
+        return Boolean.TRUE.equals(readOnlyTemplate.execute(status -> store.exists(contentType, contentId, deletedById)));
+    }
+
+    public List<DeleteHistoryRecord> findBetween(LocalDateTime from, LocalDateTime to) {
+        if (writeMode == DeleteHistoryWriteMode.LOG) {
+            return store.findBetween(from, to);
+        }
+        return readOnlyTemplate.execute(status -> store.findBetween(from, to));
+    }
+
+    public DeleteHistoryWriteMode getWriteMode() {
+        return writeMode;
+    }
+
+    // 자신의 글만 삭제할 수 있으므로 삭제한 사람이 곧 작성자다. 사용자마다 한 번씩 발행한다.
+    private void publishActivity(List<DeleteHistory> deleteHistories) {
+        Map<Long, int[]> deltas = new LinkedHashMap<>();
+        for (DeleteHistory deleteHistory : deleteHistories) {
+            int[] delta = deltas.computeIfAbsent(deleteHistory.getDeletedById(), userId -> new int[2]);
+            delta[deleteHistory.getContentType() == ContentType.QUESTION ? 0 : 1]--;
+        }
+        deltas.forEach((userId, delta) -> eventPublisher.publishEvent(new UserActivityChangedEvent(userId, delta[0], delta[1], null)));
+    }
+
+    private void saveAfterCommit(List<DeleteHistory> deleteHistories) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requiresNewTemplate.executeWithoutResult(status -> store.append(deleteHistories));
+            return;
+        }
+        // 삭제한 콘텐츠와 같은 샤드에 기록하도록 지금 묶인 샤드를 기록 스레드로 넘긴다.
+        int shard = ShardContext.current();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deferredPending.incrementAndGet();
+                deferredWriter.execute(new DeferredWrite(shard, deleteHistories));
+            }
+        });
+    }
+
+    // 한 트랜잭션에서 여러 번 호출돼도 커밋 직전에 한 번만 쓴다.
+    private void appendBeforeCommit(List<DeleteHistory> deleteHistories) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            store.append(deleteHistories);
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingAppend pending) {
+                pending.deleteHistories.addAll(deleteHistories);
+                return;
+            }
+        }
+        PendingAppend pending = new PendingAppend();
+        pending.deleteHistories.addAll(deleteHistories);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+
+    private void writeDeferred(int shard, List<DeleteHistory> deleteHistories) {
+        try (ShardContext.Scope scope = ShardContext.bind(shard)) {
+            requiresNewTemplate.executeWithoutResult(status -> store.append(deleteHistories));
+        } catch (RuntimeException e) {
+            deferredFailures.increment();
+            log.error("deferred delete history write failed. histories={}", deleteHistories, e);
+        } finally {
+            deferredPending.decrementAndGet();
+        }
+    }
+
+    /**
+     * 기록을 기다리는 이력을 deferredShutdownTimeout까지 쓰고 닫는다. 그때까지 쓰지 못한 이력은 다시 쓸 수 있도록 로그에 남긴다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (deferredWriter == null) {
+            return;
+        }
+        deferredWriter.shutdown();
+        try {
+            if (deferredWriter.awaitTermination(deferredShutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Runnable> unwritten = deferredWriter.shutdownNow();
+        log.error("deferred delete history writer did not finish. pending={}, timeout={}", deferredPending.get(), deferredShutdownTimeout);
+        for (Runnable task : unwritten) {
+            if (task instanceof DeferredWrite write) {
+                log.error("unwritten delete histories. shard={}, histories={}", write.shard, write.deleteHistories);
+            }
+        }
+    }
+
+    private class DeferredWrite implements Runnable {
+        private final int shard;
+        private final List<DeleteHistory> deleteHistories;
+
+        private DeferredWrite(int shard, List<DeleteHistory> deleteHistories) {
+            this.shard = shard;
+            this.deleteHistories = deleteHistories;
+        }
+
+        @Override
+        public void run() {
+            writeDeferred(shard, deleteHistories);
+        }
+    }
+
+    // 로그 기록이 실패하면 예외가 호출자 트랜잭션을 롤백시킨다.
+    private class PendingAppend implements TransactionSynchronization {
+        private final List<DeleteHistory> deleteHistories = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            store.append(deleteHistories);
+        }
     }
 }
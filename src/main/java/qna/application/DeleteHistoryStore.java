@@ -0,0 +1,27 @@
+package qna.application;
+
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.DeleteHistoryRecord;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 이력을 담는 곳. DB 테이블(JpaDeleteHistoryStore)과 추가 전용 로그(DeleteHistoryLog)가 있으며,
+ * DeleteHistoryService가 qna.delete-history.write-mode에 따라 하나를 골라 쓴다. 같은 글의 이력은 하나만 남는다.
+ * 보존 기간 정리(RetentionPurgeService)는 테이블만 읽으므로 LOG 모드와 함께 켤 수 없다.
+ */
+public interface DeleteHistoryStore {
+    /**
+     * 지금 스레드의 트랜잭션 안에서 기록한다. 어느 트랜잭션에서 부를지는 DeleteHistoryService가 정한다.
+     */
+    void append(List<DeleteHistory> deleteHistories);
+
+    boolean exists(ContentType contentType, Long contentId, Long deletedById);
+
+    /**
+     * 삭제 시각이 [from, to)인 이력
+     */
+    List<DeleteHistoryRecord> findBetween(LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,30 @@
+package qna.application;
+
+/**
+ * 삭제 이력을 어느 트랜잭션에서 기록할지. (qna.delete-history.write-mode)
+ */
+public enum DeleteHistoryWriteMode {
+    /**
+     * 호출자 트랜잭션을 잠시 멈추고 별도 트랜잭션으로 기록한다.
+     * 호출자가 롤백돼도 이력은 남지만, 요청 하나가 커넥션 두 개를 동시에 잡는다.
+     */
+    REQUIRES_NEW,
+
+    /**
+     * 호출자 트랜잭션에 참여해 함께 커밋/롤백한다. 요청당 커넥션 하나만 쓴다.
+     */
+    CALLER,
+
+    /**
+     * 호출자 트랜잭션이 커밋된 뒤 별도 스레드에서 기록한다. 요청당 커넥션 하나만 쓰지만,
+     * 커밋 직후 프로세스가 죽으면 아직 기록되지 않은 이력은 유실될 수 있다.
+     */
+    AFTER_COMMIT,
+
+    /**
+     * DB 대신 추가 전용 로그 파일(DeleteHistoryLog)에 호출자 트랜잭션이 커밋되기 직전에 기록한다. 커넥션을 더 쓰지 않고,
+     * 커밋보다 먼저 디스크에 남는다. 그 뒤 커밋이 실패하면 지워지지 않은 글의 이력이 남을 수 있다.
+     * 삭제 작업의 답변 이력, 이미 지운 질문인지 확인(IdempotentDeleteService)도 이 로그를 쓴다.
+     */
+    LOG
+}
@@ -0,0 +1,19 @@
+package qna.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 멱등 키 저장소 설정. (qna.idempotency.*)
+ *
+ * @param ttl     처음 요청의 결과를 재시도에 돌려줄 시간. 클라이언트의 재시도 기간보다 길어야 한다
+ * @param maxSize 결과를 기억할 최대 키 수
+ */
+@ConfigurationProperties(prefix = "qna.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("10000") int maxSize
+) {
+}
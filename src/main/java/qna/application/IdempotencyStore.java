@@ -0,0 +1,128 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import qna.exception.IdempotencyConflictException;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키별로 처음 요청의 결과를 ttl 동안 기억해, 같은 키로 재시도된 요청에는 작업을 다시 실행하지 않고 그 결과를 돌려준다.
+ * 처음 요청이 아직 실행 중이면 재시도는 그 결과를 기다린다. 실패한 요청은 기억하지 않으므로 재시도하면 다시 실행된다.
+ * 같은 키로 다른 요청(request)이 오면 IdempotencyConflictException을 던진다.
+ *
+ * 결과는 이 인스턴스의 메모리에만 있으므로, 다른 인스턴스로 간 재시도나 ttl이 지난 재시도는 호출하는 쪽에서 따로 처리해야 한다.
+ * 트랜잭션 밖에서 호출해야 커밋된 결과만 기억한다.
+ */
+@Service
+public class IdempotencyStore {
+    private final IdempotencyProperties properties;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter conflicts;
+
+    public IdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.ttlNanos = properties.ttl().toNanos();
+
+        this.executed = meterRegistry.counter("qna.idempotency.requests", "result", "executed");
+        this.replayed = meterRegistry.counter("qna.idempotency.requests", "result", "replayed");
+        this.conflicts = meterRegistry.counter("qna.idempotency.requests", "result", "conflict");
+        Gauge.builder("qna.idempotency.size", entries, Map::size)
+                .description("결과를 기억하고 있는 멱등 키 수")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Object request, Supplier<T> action) {
+        Entry entry = new Entry(request);
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                break;
+            }
+            if (existing.isExpired(System.nanoTime(), ttlNanos)) {
+                entries.remove(key, existing);
+                continue;
+            }
+            if (!Objects.equals(existing.request, request)) {
+                conflicts.increment();
+                throw new IdempotencyConflictException("같은 멱등 키로 다른 요청을 보낼 수 없습니다.");
+            }
+            replayed.increment();
+            return (T) await(existing);
+        }
+
+        if (entries.size() > properties.maxSize()) {
+            evictExpired();
+        }
+        try {
+            T result = action.get();
+            entry.complete(result);
+            executed.increment();
+            return result;
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // 만료된 결과를 먼저 지우고, 그래도 가득 차 있으면 끝난 요청의 결과를 임의로 지워 크기를 지킨다. 실행 중인 요청은 지우지 않는다.
+    private void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now, ttlNanos));
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > properties.maxSize() && iterator.hasNext()) {
+            if (iterator.next().future.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static Object await(Entry entry) {
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static class Entry {
+        private final Object request;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private Entry(Object request) {
+            this.request = request;
+        }
+
+        private void complete(Object result) {
+            completedAt = System.nanoTime();
+            future.complete(result);
+        }
+
+        // ttl은 요청이 끝난 시점부터 잰다.
+        private boolean isExpired(long now, long ttlNanos) {
+            return future.isDone() && !future.isCompletedExceptionally() && now - completedAt >= ttlNanos;
+        }
+    }
+}
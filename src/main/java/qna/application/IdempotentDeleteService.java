@@ -0,0 +1,78 @@
+package qna.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import qna.domain.ContentType;
+import qna.domain.LoginUser;
+import qna.domain.QuestionDeleteResult;
+import qna.exception.CannotDeleteException;
+import qna.exception.NotFoundException;
+import qna.shard.ShardContext;
+import qna.shard.ShardRouter;
+
+import java.util.Objects;
+
+/**
+ * 클라이언트가 시간 초과로 재시도하는 삭제 요청을 멱등하게 처리한다.
+ * 같은 멱등 키의 재시도에는 처음 요청의 결과를 검증과 쓰기 없이 돌려주고, 키를 모르는 재시도(다른 인스턴스, ttl 경과)라도
+ * 같은 사용자가 이미 지운 질문이면 NotFoundException 대신 ALREADY_DELETED를 돌려준다.
+ * 동시에 실행된 같은 삭제는 QnaService가 질문 행을 잠가 차례로 실행하므로, 나중 요청은 지워진 질문을 보고 ALREADY_DELETED가 된다.
+ * 이력을 어떤 모드로 남기든 같고, 잠그지 않는 일괄 삭제와 겹쳐 이력의 유니크 제약에 걸린 경우도 ALREADY_DELETED가 된다.
+ *
+ * 결과는 커밋된 뒤에 기억해야 하므로 이 서비스에는 트랜잭션을 걸지 않는다.
+ */
+@Service
+public class IdempotentDeleteService {
+    private static final Logger log = LoggerFactory.getLogger(IdempotentDeleteService.class);
+
+    private final QnaService qnaService;
+    private final DeleteHistoryService deleteHistoryService;
+    private final IdempotencyStore idempotencyStore;
+    private final ShardRouter shardRouter;
+
+    public IdempotentDeleteService(
+            QnaService qnaService,
+            DeleteHistoryService deleteHistoryService,
+            IdempotencyStore idempotencyStore,
+            ShardRouter shardRouter) {
+        this.qnaService = qnaService;
+        this.deleteHistoryService = deleteHistoryService;
+        this.idempotencyStore = idempotencyStore;
+        this.shardRouter = shardRouter;
+    }
+
+    // 멱등 키가 없으면 재시도를 구분할 수 없으므로 매번 삭제를 실행한다.
+    public QuestionDeleteResult deleteQuestion(LoginUser loginUser, Long questionId, String idempotencyKey)
+            throws CannotDeleteException {
+        if (Objects.isNull(idempotencyKey) || idempotencyKey.isBlank()) {
+            return delete(loginUser, questionId);
+        }
+        String key = "delete-question:" + loginUser.id() + ":" + idempotencyKey;
+        return idempotencyStore.execute(key, questionId, () -> delete(loginUser, questionId));
+    }
+
+    private QuestionDeleteResult delete(LoginUser loginUser, Long questionId) {
+        try {
+            return qnaService.deleteQuestion(loginUser, questionId);
+        } catch (NotFoundException | DataIntegrityViolationException e) {
+            if (isDeletedBy(loginUser, questionId)) {
+                log.info("question already deleted by the same user. questionId={}", questionId);
+                return QuestionDeleteResult.alreadyDeleted(questionId);
+            }
+            throw e;
+        }
+    }
+
+    private boolean isDeletedBy(LoginUser loginUser, Long questionId) {
+        if (loginUser.isGuest()) {
+            return false;
+        }
+        try (ShardContext.Scope scope = shardRouter.bindQuestion(questionId)) {
+            // AFTER_COMMIT 모드에서는 이력이 아직 기록되지 않았을 수 있어 질문 행도 본다.
+            return deleteHistoryService.exists(ContentType.QUESTION, questionId, loginUser.id())
+                    || qnaService.isDeletedBy(loginUser, questionId);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package qna.application;
+
+import org.springframework.stereotype.Component;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.DeleteHistoryRecord;
+import qna.domain.DeleteHistoryRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * delete_history 테이블에 이력을 남긴다. 같은 글의 이력은 uk_delete_history_content가 막는다.
+ * 지금 묶인 샤드에 쓰고 읽으므로 호출하는 쪽이 글의 샤드를 묶어야 한다.
+ */
+@Component
+public class JpaDeleteHistoryStore implements DeleteHistoryStore {
+    private final DeleteHistoryRepository deleteHistoryRepository;
+
+    public JpaDeleteHistoryStore(DeleteHistoryRepository deleteHistoryRepository) {
+        this.deleteHistoryRepository = deleteHistoryRepository;
+    }
+
+    @Override
+    public void append(List<DeleteHistory> deleteHistories) {
+        deleteHistoryRepository.saveAll(deleteHistories);
+    }
+
+    @Override
+    public boolean exists(ContentType contentType, Long contentId, Long deletedById) {
+        return deleteHistoryRepository.existsByContentTypeAndContentIdAndDeletedBy_Id(contentType, contentId, deletedById);
+    }
+
+    @Override
+    public List<DeleteHistoryRecord> findBetween(LocalDateTime from, LocalDateTime to) {
+        return deleteHistoryRepository.findRecordsBetween(from, to);
+    }
+}
@@ -0,0 +1,19 @@
+package qna.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 로그인 사용자 캐시 설정. (qna.login-user.*)
+ *
+ * @param cacheTtl     세션(토큰)별로 LoginUser를 재사용하는 시간
+ * @param cacheMaxSize 캐시에 담을 최대 세션 수
+ */
+@ConfigurationProperties(prefix = "qna.login-user")
+public record LoginUserProperties(
+        @DefaultValue("10m") Duration cacheTtl,
+        @DefaultValue("10000") int cacheMaxSize
+) {
+}
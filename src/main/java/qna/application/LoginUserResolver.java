@@ -0,0 +1,103 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import qna.domain.LoginUser;
+import qna.domain.UserRepository;
+import qna.domain.UserUpdatedEvent;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션(또는 토큰) 키로 로그인 사용자를 찾는다.
+ * 요청마다 findByUserId로 User를 읽는 대신 처음 한 번만 읽고 LoginUser를 세션 키로 캐시한다.
+ * 사용자 정보가 바뀌면(UserUpdatedEvent) 그 사용자의 항목을 모두 지운다.
+ */
+@Service
+public class LoginUserResolver {
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<String, Entry> sessions = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public LoginUserResolver(UserRepository userRepository, LoginUserProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.ttlNanos = properties.cacheTtl().toNanos();
+        this.maxSize = properties.cacheMaxSize();
+        this.hits = meterRegistry.counter("qna.login-user.resolutions", "result", "hit");
+        this.misses = meterRegistry.counter("qna.login-user.resolutions", "result", "miss");
+        Gauge.builder("qna.login-user.sessions", sessions, Map::size)
+                .description("캐시된 로그인 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param sessionKey 세션 id 또는 토큰. 없으면 GUEST
+     * @param userId     세션에 인증된 사용자 아이디. 없거나 존재하지 않는 사용자면 GUEST
+     */
+    public LoginUser resolve(String sessionKey, String userId) {
+        if (Objects.isNull(sessionKey) || Objects.isNull(userId)) {
+            return LoginUser.GUEST;
+        }
+
+        Entry entry = sessions.get(sessionKey);
+        if (entry != null && entry.isValidFor(userId, System.nanoTime())) {
+            hits.increment();
+            return entry.loginUser;
+        }
+
+        misses.increment();
+        LoginUser loginUser = userRepository.findByUserId(userId)
+                .map(LoginUser::of)
+                .orElse(LoginUser.GUEST);
+        if (!loginUser.isGuest()) {
+            put(sessionKey, loginUser);
+        }
+        return loginUser;
+    }
+
+    public void logout(String sessionKey) {
+        sessions.remove(sessionKey);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        sessions.values().removeIf(entry -> entry.loginUser.id().equals(event.userId()));
+    }
+
+    int size() {
+        return sessions.size();
+    }
+
+    private void put(String sessionKey, LoginUser loginUser) {
+        if (sessions.size() >= maxSize) {
+            evict();
+        }
+        sessions.put(sessionKey, new Entry(loginUser, System.nanoTime() + ttlNanos));
+    }
+
+    // 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 임의의 항목을 지워 크기를 지킨다.
+    private void evict() {
+        long now = System.nanoTime();
+        sessions.values().removeIf(entry -> entry.expiresAt - now < 0);
+        Iterator<String> iterator = sessions.keySet().iterator();
+        while (sessions.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry(LoginUser loginUser, long expiresAt) {
+        boolean isValidFor(String userId, long now) {
+            return loginUser.userId().equals(userId) && expiresAt - now >= 0;
+        }
+    }
+}
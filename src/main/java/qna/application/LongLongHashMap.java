@@ -0,0 +1,204 @@
+package qna.application;
+
+/**
+ * long 키와 long 값을 박싱 없이 두 배열에 담는 open addressing(linear probing) 해시 맵.
+ * HashMap&lt;Long, Long&gt;은 항목마다 Node와 Long 두 개를 만들어 70바이트 넘게 쓰지만, 이 맵은 슬롯당 16바이트다.
+ * 동기화하지 않으므로 여러 스레드에서 쓰려면 바깥에서 잠가야 한다.
+ */
+final class LongLongHashMap {
+    private static final long FREE = 0L;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MIN_CAPACITY = 4;
+
+    private final long missingValue;
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+    // 0은 빈 슬롯 표시라 따로 보관한다.
+    private boolean hasFreeKey;
+    private long freeKeyValue;
+
+    LongLongHashMap(long missingValue) {
+        this(missingValue, MIN_CAPACITY);
+    }
+
+    LongLongHashMap(long missingValue, int expectedSize) {
+        this.missingValue = missingValue;
+        allocate(capacityFor(expectedSize));
+    }
+
+    long get(long key) {
+        if (key == FREE) {
+            return hasFreeKey ? freeKeyValue : missingValue;
+        }
+        int slot = slotOf(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    boolean containsKey(long key) {
+        if (key == FREE) {
+            return hasFreeKey;
+        }
+        int slot = slotOf(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return 이전 값. 없었으면 missingValue
+     */
+    long put(long key, long value) {
+        if (key == FREE) {
+            long previous = hasFreeKey ? freeKeyValue : missingValue;
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return previous;
+        }
+        int slot = slotOf(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                long previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length * 2);
+        }
+        return missingValue;
+    }
+
+    /**
+     * @return 지운 값. 없었으면 missingValue
+     */
+    long remove(long key) {
+        if (key == FREE) {
+            if (!hasFreeKey) {
+                return missingValue;
+            }
+            hasFreeKey = false;
+            size--;
+            return freeKeyValue;
+        }
+        int slot = slotOf(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                long previous = values[slot];
+                shiftKeys(slot);
+                size--;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    void forEach(EntryConsumer consumer) {
+        if (hasFreeKey) {
+            consumer.accept(FREE, freeKeyValue);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != FREE) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 두 배열이 차지하는 바이트 수(배열 헤더 포함)
+    long estimatedBytes() {
+        return 2L * (16 + 8L * keys.length);
+    }
+
+    // 지운 슬롯 뒤에 이어진 항목들을 앞으로 당겨 탐색 경로에 빈칸이 생기지 않게 한다. (tombstone 없이 삭제)
+    private void shiftKeys(int position) {
+        while (true) {
+            int last = position;
+            position = (position + 1) & mask;
+            long key;
+            while (true) {
+                key = keys[position];
+                if (key == FREE) {
+                    keys[last] = FREE;
+                    return;
+                }
+                int home = slotOf(key);
+                if (last <= position ? last >= home || home > position : last >= home && home > position) {
+                    break;
+                }
+                position = (position + 1) & mask;
+            }
+            keys[last] = key;
+            values[last] = values[position];
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            long key = oldKeys[slot];
+            if (key == FREE) {
+                continue;
+            }
+            int target = slotOf(key);
+            while (keys[target] != FREE) {
+                target = (target + 1) & mask;
+            }
+            keys[target] = key;
+            values[target] = oldValues[slot];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slotOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, long value);
+    }
+}
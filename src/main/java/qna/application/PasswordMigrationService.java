@@ -0,0 +1,67 @@
+package qna.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.User;
+import qna.domain.UserRepository;
+
+import java.util.List;
+
+/**
+ * 아직 평문으로 남아 있는 비밀번호를 배치 단위로 해시로 바꾼다.
+ * 로그인 때 자연히 바뀌기를 기다리지 않고 한 번에 옮길 때 --migrate-legacy-passwords 옵션으로 실행한다.
+ */
+@Service
+public class PasswordMigrationService implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(PasswordMigrationService.class);
+    static final String OPTION = "migrate-legacy-passwords";
+
+    private final UserRepository userRepository;
+    private final CredentialService credentialService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PasswordMigrationService(
+            UserRepository userRepository,
+            CredentialService credentialService,
+            TransactionTemplate transactionTemplate,
+            CredentialProperties properties) {
+        this.userRepository = userRepository;
+        this.credentialService = credentialService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = properties.migrationBatchSize();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPTION)) {
+            migrateLegacyPasswords();
+        }
+    }
+
+    public long migrateLegacyPasswords() {
+        long migrated = 0;
+        long afterId = 0L;
+        while (true) {
+            final long cursor = afterId;
+            List<User> users = transactionTemplate.execute(status -> {
+                List<User> batch = userRepository.findPasswordsNotHashed(
+                        cursor, CredentialService.HASHED_PREFIX + "%", PageRequest.of(0, batchSize));
+                batch.forEach(user -> user.setPassword(credentialService.encode(user.getPassword())));
+                return batch;
+            });
+            if (users == null || users.isEmpty()) {
+                break;
+            }
+            migrated += users.size();
+            afterId = users.get(users.size() - 1).getId();
+        }
+        log.info("legacy passwords migrated. users={}", migrated);
+        return migrated;
+    }
+}
@@ -0,0 +1,34 @@
+package qna.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import qna.domain.ContentType;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 삭제 이력과 soft delete된 행의 보존 기간 정리 설정. (qna.purge.*)
+ * retention에 설정되지 않은 ContentType은 정리하지 않는다.
+ */
+@ConfigurationProperties(prefix = "qna.purge")
+public record PurgeProperties(
+        @DefaultValue("false") boolean enabled,
+        Map<ContentType, Duration> retention,
+        @DefaultValue("100") int chunkSize,
+        @DefaultValue("500") int rowsPerSecond
+) {
+    public PurgeProperties {
+        retention = Objects.isNull(retention) ? new EnumMap<>(ContentType.class) : new EnumMap<>(retention);
+        if (chunkSize <= 0 || rowsPerSecond <= 0) {
+            throw new IllegalArgumentException("chunkSize와 rowsPerSecond는 0보다 커야 합니다.");
+        }
+    }
+
+    public Optional<Duration> retentionOf(ContentType contentType) {
+        return Optional.ofNullable(retention.get(contentType));
+    }
+}
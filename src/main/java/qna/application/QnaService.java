@@ -2,36 +2,161 @@ package qna.application;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import qna.diagnostics.QuestionDeleteEvent;
+import qna.domain.AnswerChangedEvent;
+import qna.domain.AnswerRepository;
+import qna.domain.AnswerWriter;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.DomainClock;
+import qna.domain.LoginUser;
 import qna.domain.Question;
+import qna.domain.QuestionDeleteResult;
 import qna.domain.QuestionRepository;
 import qna.domain.User;
 import qna.exception.CannotDeleteException;
 import qna.exception.NotFoundException;
+import qna.shard.ShardContext;
+import qna.shard.ShardRouter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 public class QnaService {
     private static final Logger log = LoggerFactory.getLogger(QnaService.class);
 
     private QuestionRepository questionRepository;
+    private AnswerRepository answerRepository;
     private DeleteHistoryService deleteHistoryService;
+    private AnswerService answerService;
+    private QuestionDeleteJobService questionDeleteJobService;
+    private AnswerOwnershipIndex answerOwnershipIndex;
+    private ShardRouter shardRouter;
+    private ApplicationEventPublisher eventPublisher;
 
-    public QnaService(QuestionRepository questionRepository, DeleteHistoryService deleteHistoryService) {
+    public QnaService(
+            QuestionRepository questionRepository,
+            AnswerRepository answerRepository,
+            DeleteHistoryService deleteHistoryService,
+            AnswerService answerService,
+            QuestionDeleteJobService questionDeleteJobService,
+            AnswerOwnershipIndex answerOwnershipIndex,
+            ShardRouter shardRouter,
+            ApplicationEventPublisher eventPublisher) {
         this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
         this.deleteHistoryService = deleteHistoryService;
+        this.answerService = answerService;
+        this.questionDeleteJobService = questionDeleteJobService;
+        this.answerOwnershipIndex = answerOwnershipIndex;
+        this.shardRouter = shardRouter;
+        this.eventPublisher = eventPublisher;
     }
 
+    // 커넥션은 첫 SQL 때 가져오므로 트랜잭션 안에서 샤드를 묶어도 된다.
     @Transactional(readOnly = true)
     public Question findQuestionById(Long id) {
-        return questionRepository.findByIdAndDeletedFalse(id)
-                .orElseThrow(NotFoundException::new);
+        try (ShardContext.Scope scope = shardRouter.bindQuestion(id)) {
+            return questionRepository.findByIdAndDeletedFalse(id)
+                    .orElseThrow(NotFoundException::new);
+        }
+    }
+
+    /**
+     * loginUser가 이미 지운 질문인지 질문 행으로 확인한다. 자신의 질문만 지울 수 있으므로 지워진 자기 질문이면 자신이 지운 것이다.
+     * 삭제 이력을 커밋 뒤에 남기는 AFTER_COMMIT 모드에서는 이력보다 먼저 보인다.
+     */
+    @Transactional(readOnly = true)
+    public boolean isDeletedBy(LoginUser loginUser, Long questionId) {
+        try (ShardContext.Scope scope = shardRouter.bindQuestion(questionId)) {
+            return questionRepository.findById(questionId)
+                    .filter(Question::isDeleted)
+                    .filter(question -> question.isOwner(loginUser))
+                    .isPresent();
+        }
+    }
+
+    @Transactional
+    public Question createQuestion(Question question) {
+        try (ShardContext.Scope scope = ShardContext.bind(shardRouter.nextShard())) {
+            return questionRepository.save(question);
+        }
+    }
+
+    @Transactional
+    public QuestionDeleteResult deleteQuestion(User loginUser, Long questionId) throws CannotDeleteException {
+        return deleteQuestion(LoginUser.of(loginUser), questionId);
     }
 
+    // Answer와 삭제 이력(REQUIRES_NEW 포함)도 같은 샤드에 있으므로 한 샤드 안에서 끝난다.
+    // 답변이 많은 질문은 질문만 바로 지우고, 답변은 커밋 후 삭제 작업이 chunk 단위로 지운다.
     @Transactional
-    public void deleteQuestion(User loginUser, Long questionId) throws CannotDeleteException {
-        Question question = findQuestionById(questionId);
-        question.validate(loginUser);
-        deleteHistoryService.saveAll(question.delete());
+    public QuestionDeleteResult deleteQuestion(LoginUser loginUser, Long questionId) throws CannotDeleteException {
+        QuestionDeleteEvent event = QuestionDeleteEvent.start(questionId);
+        try {
+            QuestionDeleteResult result = delete(loginUser, questionId, event);
+            event.setResult(result.status().name());
+            return result;
+        } finally {
+            event.finish();
+        }
+    }
+
+    // 같은 질문을 동시에 지우는 요청은 행 잠금으로 차례로 실행되어, 나중 요청은 이미 지워진 질문을 보고 NotFoundException을 받는다.
+    // 삭제 이력의 유니크 제약에 기대지 않으므로 이력을 커밋 뒤에 쓰거나(AFTER_COMMIT) 로그에 써도(LOG) 중복 삭제가 드러난다.
+    private Question lockQuestion(Long questionId) {
+        return questionRepository.findByIdForUpdate(questionId)
+                .filter(question -> !question.isDeleted())
+                .orElseThrow(NotFoundException::new);
+    }
+
+    private QuestionDeleteResult delete(LoginUser loginUser, Long questionId, QuestionDeleteEvent event) throws CannotDeleteException {
+        try (ShardContext.Scope scope = shardRouter.bindQuestion(questionId)) {
+            Question question = lockQuestion(questionId);
+            long answerCount = answerService.countAnswers(questionId);
+            if (answerService.isLarge(answerCount)) {
+                questionDeleteJobService.start(question, loginUser);
+                log.info("question delete job started. questionId={}", questionId);
+                return QuestionDeleteResult.deleteJobStarted(questionId);
+            }
+            // 답변 엔티티를 읽지 않고, 삭제 작업처럼 답변 id로 한 번에 지운 뒤 이력을 만든다.
+            question.validateOwnership(loginUser);
+            List<Long> answerIds = ownedAnswerIds(question, loginUser, answerCount);
+            if (!answerIds.isEmpty()) {
+                answerRepository.markDeletedByIdIn(answerIds);
+                eventPublisher.publishEvent(AnswerChangedEvent.bulkDeleted(questionId));
+            }
+            LocalDateTime now = DomainClock.now();
+            List<DeleteHistory> deleteHistories = new ArrayList<>(1 + answerIds.size());
+            deleteHistories.add(question.deleteQuestion(now));
+            for (Long answerId : answerIds) {
+                deleteHistories.add(new DeleteHistory(ContentType.ANSWER, answerId, question.getWriter(), now));
+            }
+            event.setAnswerCount(answerIds.size());
+            deleteHistoryService.saveAll(deleteHistories);
+            return QuestionDeleteResult.deleted(questionId);
+        }
+    }
+
+    // 답변은 질문을 지울 때만 지워지고 질문은 잠겨 있으므로, 색인의 답변 수가 DB의 살아 있는 답변 수와 같으면 색인이 놓친 답변이 없다.
+    // 다른 요청이 색인을 올리는 중이거나 막 커밋된 답변이 아직 반영되지 않았으면 답변 작성자만 DB에서 읽어 확인한다.
+    private List<Long> ownedAnswerIds(Question question, LoginUser loginUser, long answerCount) {
+        AnswerOwnershipIndex.OwnedAnswers owned = answerOwnershipIndex.ownedAnswers(question, loginUser);
+        if (owned.ownership() == AnswerOwnershipIndex.Ownership.FOREIGN) {
+            throw new CannotDeleteException("다른 사람이 쓴 답변이 있어 삭제할 수 없습니다.");
+        }
+        if (owned.ownership() == AnswerOwnershipIndex.Ownership.OWNED && owned.answerIds().size() == answerCount) {
+            return owned.answerIds();
+        }
+        List<AnswerWriter> writers = answerRepository.findWriters(question.getId());
+        if (!writers.stream().allMatch(writer -> loginUser.isOwnerOf(writer.writerId()))) {
+            throw new CannotDeleteException("다른 사람이 쓴 답변이 있어 삭제할 수 없습니다.");
+        }
+        return writers.stream().map(AnswerWriter::answerId).toList();
     }
 }
@@ -0,0 +1,25 @@
+package qna.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 조회 결과 캐시 설정. (qna.query-cache.*)
+ *
+ * @param ttl          결과를 돌려줄 기본 시간. 테이블이 바뀌면 ttl과 관계없이 버린다
+ * @param ttlOverrides 조회 이름별 ttl (예: qna.query-cache.ttl-overrides.question-count=30s)
+ * @param maxSize      캐시할 최대 결과 수
+ */
+@ConfigurationProperties(prefix = "qna.query-cache")
+public record QueryCacheProperties(
+        @DefaultValue("5s") Duration ttl,
+        @DefaultValue Map<String, Duration> ttlOverrides,
+        @DefaultValue("1000") int maxSize
+) {
+    public Duration ttlOf(String query) {
+        return ttlOverrides.getOrDefault(query, ttl);
+    }
+}
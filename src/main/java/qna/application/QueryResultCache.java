@@ -0,0 +1,172 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import qna.domain.AnswerChangedEvent;
+import qna.domain.QuestionChangedEvent;
+import qna.domain.UserUpdatedEvent;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 목록/개수 조회 결과를 (조회 이름, 인자)로 캐시한다.
+ * 테이블마다 버전 카운터를 두고 그 테이블에 쓰기가 있을 때마다 올리며, 결과는 읽기 전에 본 버전과 함께 저장한다.
+ * 꺼낼 때 의존하는 테이블의 버전이 하나라도 달라졌으면 버리므로 쓰기 직후에 이전 결과가 나오지 않는다.
+ *
+ * 버전은 변경이 flush될 때와 트랜잭션이 끝날 때 두 번 올린다. 커밋 전에 다른 트랜잭션이 읽은 이전 결과도
+ * 커밋 뒤에는 쓰이지 않는다. 캐시한 값은 여러 요청이 나눠 쓰므로 변경할 수 없는 값만 넣는다.
+ * 작성자 이름처럼 users 테이블에서 읽은 값이 들어 있는 결과는 USER에도 의존하게 해 이름이 바뀌면 다시 읽는다.
+ */
+@Service
+public class QueryResultCache {
+    public enum Table {
+        QUESTION, ANSWER, USER
+    }
+
+    private final QueryCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLongArray versions = new AtomicLongArray(Table.values().length);
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    private final Map<String, Counter> hits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> misses = new ConcurrentHashMap<>();
+
+    public QueryResultCache(QueryCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("qna.query-cache.size", cache, Map::size)
+                .description("캐시된 조회 결과 수")
+                .register(meterRegistry);
+        Gauge.builder("qna.query-cache.hit-ratio", this, QueryResultCache::hitRatio)
+                .description("시작 이후 조회 결과 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param query  조회 이름. ttl-overrides의 키이자 지표의 query 태그다
+     * @param args   조회 인자. equals/hashCode가 값으로 비교되어야 한다
+     * @param tables 결과가 의존하는 테이블
+     */
+    public <T> T get(String query, List<?> args, Set<Table> tables, Supplier<T> loader) {
+        Key key = new Key(query, args);
+        long now = System.nanoTime();
+        Entry entry = cache.get(key);
+        if (entry != null && now - entry.loadedAt < properties.ttlOf(query).toNanos() && entry.isCurrent(versions)) {
+            counter(hits, query, "hit").increment();
+            @SuppressWarnings("unchecked")
+            T value = (T) entry.value;
+            return value;
+        }
+
+        counter(misses, query, "miss").increment();
+        long[] seen = snapshot(tables);
+        T value = loader.get();
+        store(key, new Entry(value, tables, seen, System.nanoTime()));
+        return value;
+    }
+
+    @EventListener
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        invalidate(Table.QUESTION);
+    }
+
+    @EventListener
+    public void onAnswerChanged(AnswerChangedEvent event) {
+        invalidate(Table.ANSWER);
+    }
+
+    @EventListener
+    public void onUserUpdated(UserUpdatedEvent event) {
+        invalidate(Table.USER);
+    }
+
+    public void invalidate(Table table) {
+        versions.incrementAndGet(table.ordinal());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    versions.incrementAndGet(table.ordinal());
+                }
+            });
+        }
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private long[] snapshot(Set<Table> tables) {
+        long[] seen = new long[Table.values().length];
+        for (Table table : tables) {
+            seen[table.ordinal()] = versions.get(table.ordinal());
+        }
+        return seen;
+    }
+
+    private void store(Key key, Entry entry) {
+        if (cache.size() >= properties.maxSize() && !cache.containsKey(key)) {
+            evict();
+        }
+        cache.put(key, entry);
+    }
+
+    // 만료되었거나 버전이 지난 항목을 먼저 지우고, 그래도 가득 차 있으면 임의의 항목을 지워 크기를 지킨다.
+    private void evict() {
+        long now = System.nanoTime();
+        cache.entrySet().removeIf(cached -> !cached.getValue().isCurrent(versions)
+                || now - cached.getValue().loadedAt >= properties.ttlOf(cached.getKey().query()).toNanos());
+        Iterator<Key> iterator = cache.keySet().iterator();
+        while (cache.size() >= properties.maxSize() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private Counter counter(Map<String, Counter> counters, String query, String result) {
+        return counters.computeIfAbsent(query, key ->
+                meterRegistry.counter("qna.query-cache.requests", "query", key, "result", result));
+    }
+
+    private double hitRatio() {
+        double hit = hits.values().stream().mapToDouble(Counter::count).sum();
+        double miss = misses.values().stream().mapToDouble(Counter::count).sum();
+        return hit + miss == 0 ? 0 : hit / (hit + miss);
+    }
+
+    private record Key(String query, List<?> args) {
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final Set<Table> tables;
+        private final long[] versions;
+        private final long loadedAt;
+
+        private Entry(Object value, Set<Table> tables, long[] versions, long loadedAt) {
+            this.value = value;
+            this.tables = tables;
+            this.versions = versions;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isCurrent(AtomicLongArray current) {
+            for (Table table : tables) {
+                if (current.get(table.ordinal()) != versions[table.ordinal()]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
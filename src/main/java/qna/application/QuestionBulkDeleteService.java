@@ -0,0 +1,118 @@
+package qna.application;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.DeleteHistory;
+import qna.domain.DomainClock;
+import qna.domain.LoginUser;
+import qna.domain.Question;
+import qna.domain.QuestionBatchDeleter;
+import qna.domain.QuestionRepository;
+import qna.exception.NotFoundException;
+import qna.shard.ShardContext;
+import qna.shard.ShardRouter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 한 사용자의 질문 여러 개를 한꺼번에 삭제한다. (탈퇴, 일괄 정리 등)
+ * 샤드마다 한 트랜잭션에서 모든 질문을 확인한 뒤 삭제하므로, 한 질문이라도 삭제할 수 없으면 그 샤드의 질문은 하나도 삭제되지 않는다.
+ * 답변이 많은 질문은 메모리에 올리지 않고 QuestionDeleteJobService에 넘긴다.
+ * 단건 삭제(QnaService)처럼 질문 행을 잠근 뒤 확인하므로, 같은 질문을 지우거나 답변을 다는 요청과 겹치지 않는다.
+ */
+@Service
+public class QuestionBulkDeleteService {
+    private static final Logger log = LoggerFactory.getLogger(QuestionBulkDeleteService.class);
+
+    private final QuestionRepository questionRepository;
+    private final AnswerService answerService;
+    private final QuestionDeleteJobService questionDeleteJobService;
+    private final DeleteHistoryService deleteHistoryService;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate requiresNewTemplate;
+    private final ForkJoinPool pool;
+    private final QuestionBatchDeleter batchDeleter;
+
+    public QuestionBulkDeleteService(
+            QuestionRepository questionRepository,
+            AnswerService answerService,
+            QuestionDeleteJobService questionDeleteJobService,
+            DeleteHistoryService deleteHistoryService,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager,
+            @Value("${qna.bulk-delete.parallelism:0}") int parallelism) {
+        this.questionRepository = questionRepository;
+        this.answerService = answerService;
+        this.questionDeleteJobService = questionDeleteJobService;
+        this.deleteHistoryService = deleteHistoryService;
+        this.shardRouter = shardRouter;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.batchDeleter = new QuestionBatchDeleter(pool);
+    }
+
+    /**
+     * @return 남긴 삭제 이력 수. 삭제 작업으로 넘긴 질문은 질문 이력만 센다.
+     */
+    public int deleteQuestions(LoginUser loginUser, Collection<Long> questionIds) {
+        Map<Integer, List<Long>> byShard = new TreeMap<>();
+        for (Long questionId : new LinkedHashSet<>(questionIds)) {
+            byShard.computeIfAbsent(shardRouter.shardOf(questionId), shard -> new ArrayList<>()).add(questionId);
+        }
+
+        int deleted = 0;
+        for (Map.Entry<Integer, List<Long>> shard : byShard.entrySet()) {
+            try (ShardContext.Scope scope = ShardContext.bind(shard.getKey())) {
+                Integer histories = requiresNewTemplate.execute(status -> deleteInShard(loginUser, shard.getValue()));
+                deleted += histories == null ? 0 : histories;
+            }
+        }
+        return deleted;
+    }
+
+    private int deleteInShard(LoginUser loginUser, List<Long> questionIds) {
+        List<Long> smallThreads = new ArrayList<>(questionIds.size());
+        List<Long> largeThreads = new ArrayList<>();
+        for (Long questionId : questionIds) {
+            (answerService.isLargeThread(questionId) ? largeThreads : smallThreads).add(questionId);
+        }
+
+        List<Question> questions = questionRepository.findLiveWithAnswersByIdInForUpdate(smallThreads);
+        if (questions.size() != smallThreads.size()) {
+            throw new NotFoundException();
+        }
+        List<DeleteHistory> histories = batchDeleter.delete(questions, loginUser, DomainClock.now());
+        largeThreads.sort(null);
+        for (Long questionId : largeThreads) {
+            questionDeleteJobService.start(lockQuestion(questionId), loginUser);
+        }
+        deleteHistoryService.saveAll(histories);
+        log.info("questions deleted in bulk. questions={}, histories={}, jobs={}",
+                questions.size(), histories.size(), largeThreads.size());
+        return histories.size() + largeThreads.size();
+    }
+
+    private Question lockQuestion(Long questionId) {
+        return questionRepository.findByIdForUpdate(questionId)
+                .filter(question -> !question.isDeleted())
+                .orElseThrow(NotFoundException::new);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
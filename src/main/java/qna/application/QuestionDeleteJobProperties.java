@@ -0,0 +1,21 @@
+package qna.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 답변이 많은 질문의 삭제 작업 설정. (qna.delete-job.*)
+ *
+ * @param chunkSize  한 트랜잭션에서 삭제할 답변 수
+ * @param staleAfter 이 시간 동안 진행이 없는 작업은 멈춘 것으로 보고 다시 이어서 처리한다
+ * @param workers    작업을 처리하는 스레드 수
+ */
+@ConfigurationProperties(prefix = "qna.delete-job")
+public record QuestionDeleteJobProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("5m") Duration staleAfter,
+        @DefaultValue("2") int workers
+) {
+}
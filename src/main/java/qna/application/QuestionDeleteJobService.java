@@ -0,0 +1,228 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.AnswerCursor;
+import qna.domain.AnswerRepository;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.DomainClock;
+import qna.domain.LoginUser;
+import qna.domain.Question;
+import qna.domain.QuestionDeleteCompletedEvent;
+import qna.domain.QuestionDeleteJob;
+import qna.domain.QuestionDeleteJobRepository;
+import qna.exception.CannotDeleteException;
+import qna.shard.ShardContext;
+import qna.shard.ShardRouter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 답변이 많은 질문을 한 트랜잭션에서 지우지 않고 삭제 작업(QuestionDeleteJob)으로 나눠 지운다.
+ * 요청 트랜잭션에서는 질문만 삭제(숨김)하고 작업을 만든 뒤, 커밋되면 백그라운드에서 답변을 chunkSize씩
+ * 짧은 트랜잭션으로 삭제하고 이력을 남긴다. 답변 삭제, 이력 저장, 커서 이동은 같은 트랜잭션이라(로그면 커밋 직전에 기록)
+ * 중간에 실패하거나 재시작해도 마지막으로 커밋된 chunk 다음부터 이어서 처리한다.
+ * 작업을 만들 때 다른 사람의 답변이 없음을 확인하지만 그 뒤에 커밋된 답변은 막지 못하므로, chunk는 삭제자의 답변만 지우고
+ * 끝날 때 다른 사람의 답변이 남아 있으면 작업을 BLOCKED로 끝낸다.
+ */
+@Service
+public class QuestionDeleteJobService {
+    private static final Logger log = LoggerFactory.getLogger(QuestionDeleteJobService.class);
+
+    private final QuestionDeleteJobRepository jobRepository;
+    private final AnswerRepository answerRepository;
+    private final DeleteHistoryService deleteHistoryService;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuestionDeleteJobProperties properties;
+    private final ExecutorService workers;
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+    private final Counter deletedAnswers;
+    private final Counter failures;
+    private final Counter blocked;
+    private final Timer chunkTimer;
+
+    public QuestionDeleteJobService(
+            QuestionDeleteJobRepository jobRepository,
+            AnswerRepository answerRepository,
+            DeleteHistoryService deleteHistoryService,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            QuestionDeleteJobProperties properties) {
+        this.jobRepository = jobRepository;
+        this.answerRepository = answerRepository;
+        this.deleteHistoryService = deleteHistoryService;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.workers = Executors.newFixedThreadPool(properties.workers(), runnable -> {
+            Thread thread = new Thread(runnable, "question-delete-job");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("qna.delete-job.running", running, Set::size)
+                .description("이 인스턴스에서 처리 중인 삭제 작업 수")
+                .register(meterRegistry);
+        this.deletedAnswers = meterRegistry.counter("qna.delete-job.answers");
+        this.failures = meterRegistry.counter("qna.delete-job.failures");
+        this.blocked = meterRegistry.counter("qna.delete-job.blocked");
+        this.chunkTimer = meterRegistry.timer("qna.delete-job.chunk");
+    }
+
+    /**
+     * 호출한 쪽의 트랜잭션(질문의 샤드)에서 질문을 삭제하고 작업을 만든다. 답변은 커밋된 뒤에 삭제된다.
+     * 다른 사람의 답변이 있는지는 답변을 읽지 않고 한 번의 조회로 먼저 확인하므로, 삭제되는 답변의 작성자는 모두 질문 작성자다.
+     */
+    public QuestionDeleteJob start(Question question, LoginUser loginUser) {
+        question.validateOwnership(loginUser);
+        if (answerRepository.existsByQuestion_IdAndDeletedFalseAndWriter_IdNot(question.getId(), question.getWriterId())) {
+            throw new CannotDeleteException("다른 사람이 쓴 답변이 있어 삭제할 수 없습니다.");
+        }
+
+        deleteHistoryService.save(question.deleteQuestion());
+        QuestionDeleteJob job = jobRepository.save(new QuestionDeleteJob(question));
+        Long questionId = job.getQuestionId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(questionId);
+                }
+            });
+        } else {
+            submit(questionId);
+        }
+        return job;
+    }
+
+    /**
+     * staleAfter 동안 진행이 없는 작업을 모든 샤드에서 찾아 다시 처리한다. 시작 직후에도 한 번 실행되어 재시작 전에 멈춘 작업을 잇는다.
+     */
+    @Scheduled(fixedDelayString = "${qna.delete-job.resume-delay:60000}")
+    public void resumeStalled() {
+        LocalDateTime before = DomainClock.now().minus(properties.staleAfter());
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            List<Long> stalled;
+            try (ShardContext.Scope scope = ShardContext.bind(shard)) {
+                stalled = transactionTemplate.execute(status ->
+                        jobRepository.findIdsByStatusAndUpdatedAtBefore(QuestionDeleteJob.Status.RUNNING, before));
+            }
+            if (stalled != null && !stalled.isEmpty()) {
+                log.info("resuming stalled question delete jobs. shard={}, jobs={}", shard, stalled);
+                stalled.forEach(this::submit);
+            }
+        }
+    }
+
+    public void submit(Long questionId) {
+        if (!running.add(questionId)) {
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    run(questionId);
+                } finally {
+                    running.remove(questionId);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.remove(questionId);
+            log.warn("question delete job rejected. questionId={}", questionId, e);
+        }
+    }
+
+    /**
+     * 작업이 끝날 때까지 chunk를 처리한다. 실패하면 그대로 두고 resumeStalled에서 다시 처리한다.
+     */
+    public void run(Long questionId) {
+        try {
+            boolean completed = false;
+            while (!completed) {
+                completed = Boolean.TRUE.equals(chunkTimer.record(() -> processChunk(questionId)));
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("question delete job chunk failed. questionId={}", questionId, e);
+        }
+    }
+
+    // 작업이 끝났으면 true
+    private boolean processChunk(Long questionId) {
+        try (ShardContext.Scope scope = shardRouter.bindQuestion(questionId)) {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                QuestionDeleteJob job = jobRepository.findById(questionId).orElse(null);
+                if (Objects.isNull(job) || job.isFinished()) {
+                    return true;
+                }
+
+                Long deletedById = job.getDeletedBy().getId();
+                List<AnswerCursor> keys = keys(questionId, deletedById, job.cursor());
+                if (keys.isEmpty()) {
+                    if (answerRepository.existsByQuestion_IdAndDeletedFalseAndWriter_IdNot(questionId, deletedById)) {
+                        job.block();
+                        blocked.increment();
+                        log.warn("question delete job blocked by another user's answer. questionId={}, answers={}",
+                                questionId, job.getDeletedAnswers());
+                        return true;
+                    }
+                    job.complete();
+                    eventPublisher.publishEvent(new QuestionDeleteCompletedEvent(questionId, job.getDeletedAnswers()));
+                    log.info("question delete job completed. questionId={}, answers={}", questionId, job.getDeletedAnswers());
+                    return true;
+                }
+
+                List<Long> ids = keys.stream().map(AnswerCursor::id).toList();
+                answerRepository.markDeletedByIdIn(ids);
+                LocalDateTime now = DomainClock.now();
+                List<DeleteHistory> histories = new ArrayList<>(ids.size());
+                for (Long id : ids) {
+                    histories.add(new DeleteHistory(ContentType.ANSWER, id, job.getDeletedBy(), now));
+                }
+                deleteHistoryService.saveAllWithCaller(histories);
+                job.advance(keys.get(keys.size() - 1), ids.size());
+                deletedAnswers.increment(ids.size());
+                return false;
+            }));
+        }
+    }
+
+    private List<AnswerCursor> keys(Long questionId, Long writerId, AnswerCursor after) {
+        PageRequest chunk = PageRequest.of(0, properties.chunkSize());
+        if (Objects.isNull(after)) {
+            return answerRepository.findFirstKeys(questionId, writerId, chunk);
+        }
+        return answerRepository.findKeysAfter(questionId, writerId, after.createdAt(), after.id(), chunk);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
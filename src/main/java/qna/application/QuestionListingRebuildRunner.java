@@ -0,0 +1,26 @@
+package qna.application;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * --rebuild-question-listing 옵션으로 실행하면 기동 시 질문 목록 읽기 모델을 전부 다시 만든다.
+ */
+@Component
+public class QuestionListingRebuildRunner implements ApplicationRunner {
+    static final String OPTION = "rebuild-question-listing";
+
+    private final QuestionListingService questionListingService;
+
+    public QuestionListingRebuildRunner(QuestionListingService questionListingService) {
+        this.questionListingService = questionListingService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPTION)) {
+            questionListingService.rebuild();
+        }
+    }
+}
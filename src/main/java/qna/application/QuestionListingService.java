@@ -0,0 +1,178 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.AnswerRepository;
+import qna.domain.DomainClock;
+import qna.domain.Question;
+import qna.domain.QuestionChangedEvent;
+import qna.domain.QuestionListing;
+import qna.domain.QuestionListingRepository;
+import qna.domain.QuestionRepository;
+import qna.shard.ShardContext;
+import qna.shard.ShardRouter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 질문 목록 읽기 모델(QuestionListing)을 관리한다.
+ * 커밋된 변경 이벤트로 다시 계산할 Question을 모아 두었다가 주기적으로 반영하고,
+ * 반영되지 않은 변경 중 가장 오래된 것의 경과 시간을 lag 지표로 노출한다.
+ * 질문과 답변은 질문의 샤드에서 읽고, 읽기 모델은 기본 샤드 한 곳에 모아 두어 목록을 한 번에 읽는다.
+ */
+@Service
+public class QuestionListingService {
+    private static final Logger log = LoggerFactory.getLogger(QuestionListingService.class);
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final QuestionListingRepository questionListingRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+
+    // questionId -> 처음 변경이 감지된 시각(epoch millis)
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public QuestionListingService(
+            QuestionListingRepository questionListingRepository,
+            QuestionRepository questionRepository,
+            AnswerRepository answerRepository,
+            TransactionTemplate transactionTemplate,
+            ShardRouter shardRouter,
+            MeterRegistry meterRegistry) {
+        this.questionListingRepository = questionListingRepository;
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+
+        TimeGauge.builder("qna.listing.lag", this, TimeUnit.MILLISECONDS, QuestionListingService::lagMillis)
+                .description("반영되지 않은 가장 오래된 변경의 경과 시간")
+                .register(meterRegistry);
+        Gauge.builder("qna.listing.pending", pending, Map::size)
+                .description("읽기 모델에 반영 대기 중인 Question 수")
+                .register(meterRegistry);
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionListing> findLatest(int page, int size) {
+        try (ShardContext.Scope scope = ShardContext.bind(ShardRouter.PRIMARY)) {
+            return questionListingRepository.findAllByOrderByLastActivityAtDesc(PageRequest.of(page, size));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        pending.putIfAbsent(event.questionId(), System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${qna.listing.refresh-delay:500}")
+    public void refreshPending() {
+        for (Long questionId : pending.keySet()) {
+            Long changedAt = pending.remove(questionId);
+            if (changedAt == null) {
+                continue;
+            }
+            try {
+                refresh(questionId);
+            } catch (RuntimeException e) {
+                log.warn("question listing refresh failed. questionId={}", questionId, e);
+                pending.merge(questionId, changedAt, Math::min);
+            }
+        }
+    }
+
+    public void refresh(Long questionId) {
+        Optional<QuestionListing> projected;
+        try (ShardContext.Scope scope = shardRouter.bindQuestion(questionId)) {
+            projected = transactionTemplate.execute(status ->
+                    questionRepository.findByIdAndDeletedFalse(questionId).map(this::project));
+        }
+        try (ShardContext.Scope scope = ShardContext.bind(ShardRouter.PRIMARY)) {
+            transactionTemplate.executeWithoutResult(status ->
+                    projected.ifPresentOrElse(
+                            this::save,
+                            () -> questionListingRepository.deleteById(questionId)
+                    )
+            );
+        }
+    }
+
+    /**
+     * 정규화된 테이블로부터 읽기 모델 전체를 다시 만든다.
+     * 기존 행을 지우지 않고 덮어쓴 뒤 이번 재구성에서 갱신되지 않은 행만 지우므로 재구성 중에도 목록이 비지 않는다.
+     */
+    public int rebuild() {
+        LocalDateTime startedAt = DomainClock.now();
+        int rebuilt = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            rebuilt += rebuild(shard);
+        }
+        int removed;
+        try (ShardContext.Scope scope = ShardContext.bind(ShardRouter.PRIMARY)) {
+            removed = transactionTemplate.execute(status -> questionListingRepository.deleteRefreshedBefore(startedAt));
+        }
+        log.info("question listing rebuilt. rows={}, removed={}", rebuilt, removed);
+        return rebuilt;
+    }
+
+    // 한 샤드의 질문을 chunk씩 읽어 기본 샤드의 읽기 모델에 덮어쓴다.
+    private int rebuild(int shard) {
+        long afterId = 0L;
+        int rebuilt = 0;
+        while (true) {
+            final long cursor = afterId;
+            List<QuestionListing> chunk;
+            try (ShardContext.Scope scope = ShardContext.bind(shard)) {
+                chunk = transactionTemplate.execute(status ->
+                        questionListingRepository.projectAfter(cursor, PageRequest.of(0, REBUILD_CHUNK_SIZE)));
+            }
+            if (chunk == null || chunk.isEmpty()) {
+                return rebuilt;
+            }
+            try (ShardContext.Scope scope = ShardContext.bind(ShardRouter.PRIMARY)) {
+                transactionTemplate.executeWithoutResult(status -> chunk.forEach(this::save));
+            }
+            rebuilt += chunk.size();
+            afterId = chunk.get(chunk.size() - 1).getQuestionId();
+        }
+    }
+
+    private void save(QuestionListing listing) {
+        listing.refreshedAt(DomainClock.now());
+        questionListingRepository.save(listing);
+    }
+
+    private QuestionListing project(Question question) {
+        Long questionId = question.getId();
+        long answerCount = answerRepository.countByQuestion_IdAndDeletedFalse(questionId);
+        LocalDateTime lastActivityAt = answerRepository.findLastCreatedAt(questionId)
+                .filter(lastAnswerAt -> lastAnswerAt.isAfter(question.getCreatedAt()))
+                .orElse(question.getCreatedAt());
+
+        return new QuestionListing(questionId, question.getTitle(), question.getWriter().getName(), answerCount, lastActivityAt);
+    }
+
+    private double lagMillis() {
+        long now = System.currentTimeMillis();
+        return pending.values().stream()
+                .mapToLong(changedAt -> now - changedAt)
+                .max()
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,99 @@
+package qna.application;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.QuestionRepository;
+import qna.domain.QuestionView;
+import qna.shard.ShardContext;
+import qna.shard.ShardRouter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+/**
+ * 모든 샤드에 같은 조회를 보내고 결과를 모은다. (scatter-gather)
+ * 샤드마다 다른 커넥션이 필요하므로 샤드별 조회는 각자의 스레드와 트랜잭션에서 실행하고,
+ * 트랜잭션 밖으로 엔티티를 내보내지 않도록 QuestionView로 바꿔 돌려준다.
+ * 목록과 개수는 QueryResultCache에 두어 question/answer 테이블이 바뀌기 전까지 다시 읽지 않는다.
+ * 목록에는 작성자 이름이 들어 있으므로 사용자 정보가 바뀌어도 다시 읽는다.
+ */
+@Service
+public class QuestionShardQueryService {
+    private static final Set<QueryResultCache.Table> QUESTIONS = EnumSet.of(QueryResultCache.Table.QUESTION);
+    private static final Set<QueryResultCache.Table> QUESTIONS_ANSWERS_AND_WRITERS =
+            EnumSet.of(QueryResultCache.Table.QUESTION, QueryResultCache.Table.ANSWER, QueryResultCache.Table.USER);
+
+    private final QuestionRepository questionRepository;
+    private final QueryResultCache queryResultCache;
+    private final TransactionTemplate readOnlyTemplate;
+    private final ShardRouter shardRouter;
+    private final ExecutorService executor;
+
+    public QuestionShardQueryService(
+            QuestionRepository questionRepository,
+            QueryResultCache queryResultCache,
+            PlatformTransactionManager transactionManager,
+            ShardRouter shardRouter) {
+        this.questionRepository = questionRepository;
+        this.queryResultCache = queryResultCache;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.shardRouter = shardRouter;
+        this.executor = Executors.newFixedThreadPool(shardRouter.shardCount(), runnable -> {
+            Thread thread = new Thread(runnable, "question-shard-query");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public List<QuestionView> findByDeletedFalse() {
+        return queryResultCache.get("live-questions", List.of(), QUESTIONS_ANSWERS_AND_WRITERS, () -> {
+            List<QuestionView> questions = scatter(shard -> readOnlyTemplate.execute(status ->
+                    questionRepository.findLiveWithAnswers().stream()
+                            .map(QuestionView::of)
+                            .toList()));
+            questions.sort(Comparator.comparing(QuestionView::id));
+            return List.copyOf(questions);
+        });
+    }
+
+    public long countByDeletedFalse() {
+        return queryResultCache.get("live-question-count", List.of(), QUESTIONS, () -> {
+            List<Long> counts = scatter(shard -> List.of(readOnlyTemplate.execute(status -> questionRepository.countByDeletedFalse())));
+            return counts.stream().mapToLong(Long::longValue).sum();
+        });
+    }
+
+    // 샤드마다 query를 실행한 결과를 순서 없이 모은다. query 안에서 트랜잭션을 연다.
+    <T> List<T> scatter(IntFunction<List<T>> query) {
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try (ShardContext.Scope scope = ShardContext.bind(target)) {
+                    return query.apply(target);
+                }
+            }, executor));
+        }
+
+        List<T> gathered = new ArrayList<>();
+        for (CompletableFuture<List<T>> future : futures) {
+            gathered.addAll(future.join());
+        }
+        return gathered;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,245 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.QuestionDeletedEvent;
+import qna.domain.QuestionPopularity;
+import qna.shard.ShardContext;
+import qna.shard.ShardRouter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Question 조회 수를 메모리에 모았다가 주기적으로 한 번에 반영한다. (write-behind)
+ * 조회할 때는 키별 LongAdder만 올리므로 잠금이 없고, 반영은 샤드마다 한 트랜잭션의 JDBC batch UPDATE다.
+ *
+ * 반영되지 않은 조회 수는 비정상 종료 시 사라지며, maxPendingViews를 넘으면 주기를 기다리지 않고 반영해 그 양을 제한한다.
+ * 반영할 때 최근 조회 수로 인기 점수를 감쇠시켜 갱신하고 순위를 미리 정렬해 두므로 인기 질문 조회는 DB를 읽지 않는다.
+ * 질문이 삭제되면 커밋된 뒤 그 질문의 점수와 반영되지 않은 조회 수를 버리고 순위에서 뺀다.
+ */
+@Service
+public class QuestionViewCounter {
+    private static final Logger log = LoggerFactory.getLogger(QuestionViewCounter.class);
+    private static final String ADD_VIEWS = "update question set view_count = view_count + ? where id = ?";
+    // 이보다 작아진 점수는 버린다.
+    private static final double MIN_SCORE = 0.01;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final QuestionViewCounterProperties properties;
+    private final double halfLifeNanos;
+    private final ExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final LongAdder pendingViews = new LongAdder();
+    // 반영하는 스레드(flush)에서만 바꾼다.
+    private final Map<Long, Double> scores = new HashMap<>();
+    private long decayedAt = System.nanoTime();
+    private volatile List<QuestionPopularity> ranking = List.of();
+
+    private final Counter flushedViews;
+    private final Counter failures;
+
+    public QuestionViewCounter(
+            JdbcTemplate jdbcTemplate,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            QuestionViewCounterProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.halfLifeNanos = properties.halfLife().toNanos();
+        this.flusher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "question-view-counter");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("qna.view-counter.pending", pendingViews, LongAdder::sum)
+                .description("아직 DB에 반영되지 않은 Question 조회 수")
+                .register(meterRegistry);
+        this.flushedViews = meterRegistry.counter("qna.view-counter.flushed");
+        this.failures = meterRegistry.counter("qna.view-counter.failures");
+    }
+
+    public void record(Long questionId) {
+        LongAdder views = pending.get(questionId);
+        if (views == null) {
+            views = pending.computeIfAbsent(questionId, key -> new LongAdder());
+        }
+        views.increment();
+        pendingViews.increment();
+        if (pendingViews.sum() >= properties.maxPendingViews()) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * 인기 점수가 높은 순서로 최대 n개. 마지막 반영 시점의 순위에서 그 뒤에 삭제된 Question을 뺀 것이다.
+     */
+    public List<QuestionPopularity> hotQuestions(int n) {
+        List<QuestionPopularity> current = ranking;
+        return current.subList(0, Math.min(n, current.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${qna.view-counter.flush-delay:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> drained = drain();
+        decay(drained);
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<Object[]>> byShard = new HashMap<>();
+        drained.forEach((questionId, views) -> byShard
+                .computeIfAbsent(shardRouter.shardOf(questionId), shard -> new ArrayList<>())
+                .add(new Object[]{views, questionId}));
+        byShard.forEach(this::write);
+    }
+
+    /**
+     * 엔티티가 flush되는 시점에 동기로 호출된다. 롤백된 삭제가 순위에서 빠지지 않도록 커밋된 뒤에,
+     * 반영 중인 flush를 기다리지 않도록 반영 스레드에서 지운다.
+     */
+    @EventListener
+    public void onQuestionDeleted(QuestionDeletedEvent event) {
+        afterCommit(() -> {
+            try {
+                flusher.execute(() -> forget(event.questionId()));
+            } catch (RejectedExecutionException e) {
+                // 종료 중이다. 반영 스레드가 없으므로 직접 지운다.
+                forget(event.questionId());
+            }
+        });
+    }
+
+    // 삭제된 질문의 점수와 반영되지 않은 조회 수를 버린다. 순위를 바꾸므로 flush와 겹치지 않게 한다.
+    synchronized void forget(Long questionId) {
+        LongAdder views = pending.remove(questionId);
+        if (views != null) {
+            pendingViews.add(-views.sum());
+        }
+        if (scores.remove(questionId) != null) {
+            ranking = ranking.stream()
+                    .filter(popularity -> !popularity.questionId().equals(questionId))
+                    .toList();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flusher.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushRequested.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            flushRequested.set(false);
+        }
+    }
+
+    // 키별 조회 수를 꺼내고 0으로 되돌린다. 이번 주기에 조회가 없던 키는 지운다.
+    // 지우는 순간 같은 키를 조회하던 요청의 1회는 반영되지 않을 수 있다.
+    private Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        long total = 0;
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long views = entry.getValue().sumThenReset();
+            if (views == 0) {
+                pending.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            drained.put(entry.getKey(), views);
+            total += views;
+        }
+        pendingViews.add(-total);
+        return drained;
+    }
+
+    private void write(int shard, List<Object[]> views) {
+        try (ShardContext.Scope scope = ShardContext.bind(shard)) {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_VIEWS, views));
+            views.forEach(row -> flushedViews.increment((Long) row[0]));
+        } catch (RuntimeException e) {
+            // 반영하지 못한 조회 수는 다음 주기에 다시 반영한다.
+            failures.increment();
+            log.warn("question view count flush failed. shard={}, questions={}", shard, views.size(), e);
+            for (Object[] row : views) {
+                long count = (Long) row[0];
+                pending.computeIfAbsent((Long) row[1], key -> new LongAdder()).add(count);
+                pendingViews.add(count);
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 지난 반영 이후 흐른 시간만큼 점수를 줄이고 이번 조회 수를 더한 뒤 순위를 다시 만든다.
+    private void decay(Map<Long, Long> drained) {
+        long now = System.nanoTime();
+        double factor = Math.pow(0.5, (now - decayedAt) / halfLifeNanos);
+        decayedAt = now;
+
+        scores.replaceAll((questionId, score) -> score * factor);
+        drained.forEach((questionId, views) -> scores.merge(questionId, (double) views, Double::sum));
+        scores.values().removeIf(score -> score < MIN_SCORE);
+
+        List<QuestionPopularity> sorted = scores.entrySet().stream()
+                .map(score -> new QuestionPopularity(score.getKey(), score.getValue()))
+                .sorted(Comparator.comparingDouble(QuestionPopularity::score).reversed())
+                .toList();
+        if (sorted.size() > properties.maxTracked()) {
+            sorted.subList(properties.maxTracked(), sorted.size())
+                    .forEach(dropped -> scores.remove(dropped.questionId()));
+        }
+        ranking = List.copyOf(sorted.subList(0, Math.min(properties.rankingSize(), sorted.size())));
+    }
+}
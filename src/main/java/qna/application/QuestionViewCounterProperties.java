@@ -0,0 +1,24 @@
+package qna.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Question 조회 수 버퍼와 인기 점수 설정. (qna.view-counter.*)
+ * 버퍼는 qna.view-counter.flush-delay(ms)마다 DB에 반영된다.
+ *
+ * @param maxPendingViews 반영되지 않은 조회 수가 이만큼 쌓이면 주기를 기다리지 않고 반영한다. 비정상 종료 시 잃는 조회 수의 상한이다
+ * @param halfLife        인기 점수가 절반으로 줄어드는 시간
+ * @param maxTracked      인기 점수를 유지할 최대 Question 수
+ * @param rankingSize     미리 정렬해 두는 인기 순위 길이
+ */
+@ConfigurationProperties(prefix = "qna.view-counter")
+public record QuestionViewCounterProperties(
+        @DefaultValue("10000") long maxPendingViews,
+        @DefaultValue("1h") Duration halfLife,
+        @DefaultValue("10000") int maxTracked,
+        @DefaultValue("100") int rankingSize
+) {
+}
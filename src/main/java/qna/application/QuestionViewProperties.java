@@ -0,0 +1,27 @@
+package qna.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Question 조회 캐시 설정. (qna.question-view.*)
+ *
+ * @param ttl                  읽어 온 QuestionView를 그대로 돌려주는 시간
+ * @param staleWhileRevalidate ttl이 지난 값을 staleTtl 동안 돌려주면서 뒤에서 다시 읽을지 여부
+ * @param staleTtl             ttl이 지난 뒤에도 돌려줄 수 있는 추가 시간
+ * @param maxSize              캐시할 최대 Question 수
+ * @param hotKeyThreshold      한 집계 구간(qna.question-view.hot-key-window, ms) 동안 이만큼 조회되면 핫 키로 본다
+ * @param maxHotKeys           키별 지표를 남길 핫 키 최대 수
+ */
+@ConfigurationProperties(prefix = "qna.question-view")
+public record QuestionViewProperties(
+        @DefaultValue("1s") Duration ttl,
+        @DefaultValue("false") boolean staleWhileRevalidate,
+        @DefaultValue("5s") Duration staleTtl,
+        @DefaultValue("10000") int maxSize,
+        @DefaultValue("1000") long hotKeyThreshold,
+        @DefaultValue("20") int maxHotKeys
+) {
+}
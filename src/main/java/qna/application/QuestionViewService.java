@@ -0,0 +1,325 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.QuestionChangedEvent;
+import qna.domain.QuestionRepository;
+import qna.domain.QuestionView;
+import qna.exception.NotFoundException;
+import qna.shard.ShardContext;
+import qna.shard.ShardRouter;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 Question을 동시에 조회하는 요청들이 DB 조회 한 번을 나눠 쓰게 한다. (single-flight)
+ * 읽은 결과는 짧은 ttl 동안 캐시하며, 설정하면 ttl이 지난 값을 돌려주면서 뒤에서 다시 읽는다. (stale-while-revalidate)
+ *
+ * 삭제 직후 이전 값을 돌려주지 않도록, 변경이 flush되는 순간부터 트랜잭션이 끝날 때까지는 그 키의 캐시와
+ * 진행 중인 조회를 쓰지 않고, 트랜잭션이 끝나면 그 사이에 시작된 조회 결과도 버린다.
+ */
+@Service
+public class QuestionViewService {
+    private static final Logger log = LoggerFactory.getLogger(QuestionViewService.class);
+
+    private final QuestionRepository questionRepository;
+    private final QuestionViewCounter viewCounter;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate readOnlyTemplate;
+    private final MeterRegistry meterRegistry;
+    private final QuestionViewProperties properties;
+    private final long ttlNanos;
+    private final long staleTtlNanos;
+    private final ExecutorService revalidator;
+
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+    private final Map<Long, Flight> inflight = new ConcurrentHashMap<>();
+    // 변경이 flush되었지만 아직 트랜잭션이 끝나지 않은 키와 그런 트랜잭션 수
+    private final Map<Long, Integer> invalidating = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> windowRequests = new ConcurrentHashMap<>();
+    private final Map<Long, HotKey> hotKeys = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter bypassed;
+
+    public QuestionViewService(
+            QuestionRepository questionRepository,
+            QuestionViewCounter viewCounter,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            QuestionViewProperties properties) {
+        this.questionRepository = questionRepository;
+        this.viewCounter = viewCounter;
+        this.shardRouter = shardRouter;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.ttlNanos = properties.ttl().toNanos();
+        this.staleTtlNanos = properties.staleTtl().toNanos();
+        this.revalidator = properties.staleWhileRevalidate()
+                ? Executors.newFixedThreadPool(2, runnable -> {
+                    Thread thread = new Thread(runnable, "question-view-revalidator");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+
+        this.hits = meterRegistry.counter("qna.question-view.requests", "result", "hit");
+        this.staleHits = meterRegistry.counter("qna.question-view.requests", "result", "stale");
+        this.misses = meterRegistry.counter("qna.question-view.requests", "result", "miss");
+        this.coalesced = meterRegistry.counter("qna.question-view.requests", "result", "coalesced");
+        this.bypassed = meterRegistry.counter("qna.question-view.requests", "result", "bypass");
+        Gauge.builder("qna.question-view.size", cache, Map::size)
+                .description("캐시된 QuestionView 수")
+                .register(meterRegistry);
+        Gauge.builder("qna.question-view.inflight", inflight, Map::size)
+                .description("진행 중인 Question 조회 수")
+                .register(meterRegistry);
+    }
+
+    public QuestionView findQuestionById(Long id) {
+        countRequest(id);
+        viewCounter.record(id);
+        if (invalidating.containsKey(id)) {
+            bypassed.increment();
+            return load(id);
+        }
+
+        Entry entry = cache.get(id);
+        long now = System.nanoTime();
+        if (entry != null) {
+            long age = now - entry.loadedAt;
+            if (age < ttlNanos) {
+                hits.increment();
+                return entry.view;
+            }
+            if (revalidator != null && age < ttlNanos + staleTtlNanos) {
+                staleHits.increment();
+                revalidate(id);
+                return entry.view;
+            }
+        }
+
+        Flight flight = new Flight();
+        Flight existing = inflight.putIfAbsent(id, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        misses.increment();
+        fly(id, flight);
+        return await(flight);
+    }
+
+    /**
+     * 변경이 flush되는 시점(커밋 전)에 동기로 호출된다.
+     * 커밋 후에만 지우면 커밋과 삭제 사이에 이전 값이 읽힐 수 있으므로 트랜잭션이 끝날 때까지 캐시를 쓰지 않게 막는다.
+     */
+    @EventListener
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        Long id = event.questionId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id);
+            return;
+        }
+
+        invalidating.merge(id, 1, Integer::sum);
+        evict(id);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(id);
+                invalidating.computeIfPresent(id, (key, count) -> count == 1 ? null : count - 1);
+            }
+        });
+    }
+
+    /**
+     * 집계 구간 동안 많이 조회된 키만 question_id 태그를 붙인 지표로 남긴다.
+     */
+    @Scheduled(fixedDelayString = "${qna.question-view.hot-key-window:10000}")
+    public void rollHotKeys() {
+        Map<Long, Long> window = new HashMap<>();
+        for (Iterator<Map.Entry<Long, LongAdder>> iterator = windowRequests.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Long, LongAdder> requests = iterator.next();
+            iterator.remove();
+            long count = requests.getValue().sum();
+            if (count >= properties.hotKeyThreshold()) {
+                window.put(requests.getKey(), count);
+            }
+        }
+
+        hotKeys.entrySet().removeIf(hotKey -> {
+            if (window.containsKey(hotKey.getKey())) {
+                return false;
+            }
+            meterRegistry.remove(hotKey.getValue().gauge);
+            return true;
+        });
+        window.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(properties.maxHotKeys())
+                .forEach(requests -> hotKey(requests.getKey()).requests.set(requests.getValue()));
+        if (!hotKeys.isEmpty()) {
+            log.debug("hot question keys: {}", hotKeys.keySet());
+        }
+    }
+
+    public Map<Long, Long> hotKeys() {
+        Map<Long, Long> snapshot = new HashMap<>();
+        hotKeys.forEach((id, hotKey) -> snapshot.put(id, hotKey.requests.get()));
+        return snapshot;
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (revalidator != null) {
+            revalidator.shutdown();
+        }
+    }
+
+    private void revalidate(Long id) {
+        Flight flight = new Flight();
+        if (inflight.putIfAbsent(id, flight) != null) {
+            return;
+        }
+        try {
+            revalidator.execute(() -> fly(id, flight));
+        } catch (RuntimeException e) {
+            inflight.remove(id, flight);
+            flight.future.completeExceptionally(e);
+        }
+    }
+
+    private void fly(Long id, Flight flight) {
+        try {
+            QuestionView view = load(id);
+            store(id, flight, view);
+            flight.future.complete(view);
+        } catch (RuntimeException e) {
+            // 삭제되었거나 없는 Question이면 남아 있는 이전 값도 지운다.
+            if (e instanceof NotFoundException) {
+                cache.remove(id);
+            }
+            flight.future.completeExceptionally(e);
+        } finally {
+            inflight.remove(id, flight);
+        }
+    }
+
+    private QuestionView load(Long id) {
+        try (ShardContext.Scope scope = shardRouter.bindQuestion(id)) {
+            return readOnlyTemplate.execute(status -> questionRepository.findByIdAndDeletedFalse(id)
+                    .map(QuestionView::of)
+                    .orElseThrow(NotFoundException::new));
+        }
+    }
+
+    // evict과 같은 키 잠금(compute) 안에서 확인하므로, 무효화된 조회의 결과가 무효화 뒤에 저장되는 일이 없다.
+    private void store(Long id, Flight flight, QuestionView view) {
+        if (cache.size() >= properties.maxSize() && !cache.containsKey(id)) {
+            evictExpired();
+        }
+        cache.compute(id, (key, current) -> {
+            if (flight.invalidated || invalidating.containsKey(key)) {
+                return current;
+            }
+            return new Entry(view, System.nanoTime());
+        });
+    }
+
+    private void evict(Long id) {
+        cache.compute(id, (key, current) -> {
+            Flight flight = inflight.remove(key);
+            if (flight != null) {
+                flight.invalidated = true;
+            }
+            return null;
+        });
+    }
+
+    // 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 임의의 항목을 지워 크기를 지킨다.
+    private void evictExpired() {
+        long now = System.nanoTime();
+        cache.values().removeIf(entry -> now - entry.loadedAt >= ttlNanos + staleTtlNanos);
+        Iterator<Long> iterator = cache.keySet().iterator();
+        while (cache.size() >= properties.maxSize() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private void countRequest(Long id) {
+        LongAdder requests = windowRequests.get(id);
+        if (requests == null) {
+            if (windowRequests.size() >= properties.maxSize()) {
+                return;
+            }
+            requests = windowRequests.computeIfAbsent(id, key -> new LongAdder());
+        }
+        requests.increment();
+    }
+
+    private HotKey hotKey(Long id) {
+        return hotKeys.computeIfAbsent(id, key -> {
+            AtomicLong requests = new AtomicLong();
+            Gauge gauge = Gauge.builder("qna.question-view.hot-key.requests", requests, AtomicLong::get)
+                    .description("집계 구간 동안 핫 키로 들어온 조회 수")
+                    .tag("question_id", String.valueOf(key))
+                    .register(meterRegistry);
+            return new HotKey(requests, gauge);
+        });
+    }
+
+    private static QuestionView await(Flight flight) {
+        try {
+            return flight.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(QuestionView view, long loadedAt) {
+    }
+
+    private record HotKey(AtomicLong requests, Gauge gauge) {
+    }
+
+    private static class Flight {
+        private final CompletableFuture<QuestionView> future = new CompletableFuture<>();
+        private volatile boolean invalidated;
+    }
+}
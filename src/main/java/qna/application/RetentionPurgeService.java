@@ -0,0 +1,186 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.AnswerRepository;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistoryRepository;
+import qna.domain.DomainClock;
+import qna.domain.PurgeCheckpoint;
+import qna.domain.PurgeCheckpointRepository;
+import qna.domain.PurgeTarget;
+import qna.domain.QuestionRepository;
+import qna.shard.ShardContext;
+import qna.shard.ShardRouter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 보존 기간이 지난 DeleteHistory와 그 이력이 가리키는 soft delete된 Question/Answer 행을 물리 삭제한다.
+ * 작은 청크마다 짧은 트랜잭션으로 처리하고, 초당 삭제 행 수를 제한하며, 청크마다 진행 위치를 기록한다.
+ * 삭제 이력은 질문과 같은 샤드에 있으므로 샤드를 차례로 돌며 정리하고, 진행 위치도 샤드마다 따로 둔다.
+ * 정리 대상은 delete_history 테이블에서 찾는다. LOG 모드에서는 테이블이 비어 있어 지운 글이 정리되지 않으므로
+ * 정리를 켠 채로 LOG 모드를 쓰면 시작하지 않는다.
+ */
+@Service
+public class RetentionPurgeService {
+    private static final Logger log = LoggerFactory.getLogger(RetentionPurgeService.class);
+
+    private final PurgeProperties properties;
+    private final DeleteHistoryRepository deleteHistoryRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final PurgeCheckpointRepository purgeCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final MeterRegistry meterRegistry;
+    private final DeleteHistoryWriteMode writeMode;
+    private final Map<ContentType, AtomicLong> backlogs = new EnumMap<>(ContentType.class);
+
+    public RetentionPurgeService(
+            PurgeProperties properties,
+            DeleteHistoryRepository deleteHistoryRepository,
+            QuestionRepository questionRepository,
+            AnswerRepository answerRepository,
+            PurgeCheckpointRepository purgeCheckpointRepository,
+            TransactionTemplate transactionTemplate,
+            ShardRouter shardRouter,
+            MeterRegistry meterRegistry,
+            @Value("${qna.delete-history.write-mode:REQUIRES_NEW}") DeleteHistoryWriteMode writeMode) {
+        if (properties.enabled() && writeMode == DeleteHistoryWriteMode.LOG) {
+            throw new IllegalStateException("qna.purge.enabled=true는 qna.delete-history.write-mode=LOG와 함께 쓸 수 없습니다.");
+        }
+        this.properties = properties;
+        this.deleteHistoryRepository = deleteHistoryRepository;
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.purgeCheckpointRepository = purgeCheckpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+        this.meterRegistry = meterRegistry;
+        this.writeMode = writeMode;
+
+        for (ContentType contentType : ContentType.values()) {
+            AtomicLong backlog = new AtomicLong();
+            backlogs.put(contentType, backlog);
+            Gauge.builder("qna.purge.backlog", backlog, AtomicLong::get)
+                    .description("보존 기간이 지났지만 아직 정리되지 않은 삭제 이력 수")
+                    .tag("type", contentType.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(cron = "${qna.purge.cron:0 0 4 * * *}")
+    public void scheduledPurge() {
+        if (properties.enabled()) {
+            purge();
+        }
+    }
+
+    public synchronized long purge() {
+        if (writeMode == DeleteHistoryWriteMode.LOG) {
+            throw new IllegalStateException("LOG 모드에서는 보존 기간 정리를 할 수 없습니다.");
+        }
+        long purged = 0;
+        for (ContentType contentType : ContentType.values()) {
+            purged += properties.retentionOf(contentType)
+                    .map(retention -> purge(contentType, retention))
+                    .orElse(0L);
+        }
+        return purged;
+    }
+
+    private long purge(ContentType contentType, Duration retention) {
+        LocalDateTime cutoff = DomainClock.now().minus(retention);
+        Counter purgedRows = meterRegistry.counter("qna.purge.rows", "type", contentType.name());
+        Timer chunkTimer = meterRegistry.timer("qna.purge.chunk", "type", contentType.name());
+        updateBacklog(contentType, cutoff);
+
+        long startedAt = System.nanoTime();
+        long purged = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            try (ShardContext.Scope scope = ShardContext.bind(shard)) {
+                while (true) {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    Integer chunk = transactionTemplate.execute(status -> purgeChunk(contentType, cutoff));
+                    sample.stop(chunkTimer);
+                    if (chunk == null || chunk == 0) {
+                        break;
+                    }
+                    purged += chunk;
+                    purgedRows.increment(chunk);
+                    throttle(purged, startedAt);
+                }
+            }
+        }
+
+        updateBacklog(contentType, cutoff);
+        log.info("retention purge finished. type={}, cutoff={}, purged={}", contentType, cutoff, purged);
+        return purged;
+    }
+
+    private int purgeChunk(ContentType contentType, LocalDateTime cutoff) {
+        PurgeCheckpoint checkpoint = purgeCheckpointRepository.findById(contentType)
+                .orElseGet(() -> new PurgeCheckpoint(contentType));
+        List<PurgeTarget> targets = deleteHistoryRepository.findPurgeTargets(
+                contentType, checkpoint.getLastDeleteHistoryId(), cutoff, PageRequest.of(0, properties.chunkSize()));
+        if (targets.isEmpty()) {
+            checkpoint.rewind();
+            purgeCheckpointRepository.save(checkpoint);
+            return 0;
+        }
+
+        List<Long> contentIds = targets.stream().map(PurgeTarget::contentId).toList();
+        if (contentType == ContentType.QUESTION) {
+            answerRepository.deleteSoftDeletedByQuestionIdIn(contentIds);
+            questionRepository.deleteSoftDeletedByIdIn(contentIds);
+        } else {
+            answerRepository.deleteSoftDeletedByIdIn(contentIds);
+        }
+        deleteHistoryRepository.deleteAllByIdInBatch(targets.stream().map(PurgeTarget::deleteHistoryId).toList());
+
+        checkpoint.advance(targets.get(targets.size() - 1).deleteHistoryId(), targets.size());
+        purgeCheckpointRepository.save(checkpoint);
+        return targets.size();
+    }
+
+    // 지금까지 지운 행 수가 rowsPerSecond를 넘지 않도록 필요한 만큼 쉰다.
+    // 스케줄러 스레드에서 쉬므로 spring.task.scheduling.pool.size에 이 작업 몫의 스레드를 둔다.
+    private void throttle(long purged, long startedAt) {
+        long expectedNanos = purged * 1_000_000_000L / properties.rowsPerSecond();
+        long sleepMillis = (expectedNanos - (System.nanoTime() - startedAt)) / 1_000_000L;
+        if (sleepMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("retention purge interrupted", e);
+        }
+    }
+
+    private void updateBacklog(ContentType contentType, LocalDateTime cutoff) {
+        long backlog = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            try (ShardContext.Scope scope = ShardContext.bind(shard)) {
+                backlog += deleteHistoryRepository.countByContentTypeAndCreateDateBefore(contentType, cutoff);
+            }
+        }
+        backlogs.get(contentType).set(backlog);
+    }
+}
@@ -0,0 +1,34 @@
+package qna.application;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import qna.domain.UserRepository;
+
+import java.util.List;
+
+/**
+ * user_activity 집계를 모든 사용자에 대해 질문/답변 테이블에서 다시 센다.
+ * 집계 테이블이 생기기 전에 가입한 사용자나, 커밋 뒤 갱신이 빠져 어긋난 집계를 채운다.
+ */
+@Component
+public class UserActivityBackfill implements Backfill {
+    private final UserRepository userRepository;
+    private final UserActivityService userActivityService;
+
+    public UserActivityBackfill(UserRepository userRepository, UserActivityService userActivityService) {
+        this.userRepository = userRepository;
+        this.userActivityService = userActivityService;
+    }
+
+    @Override
+    public String name() {
+        return "user-activity";
+    }
+
+    @Override
+    public List<Long> fill(long afterId, int batchSize) {
+        List<Long> userIds = userRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+        userIds.forEach(userActivityService::recount);
+        return userIds;
+    }
+}
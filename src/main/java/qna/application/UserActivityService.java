@@ -0,0 +1,268 @@
+package qna.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.AnswerRepository;
+import qna.domain.ContentCursor;
+import qna.domain.DomainClock;
+import qna.domain.QuestionRepository;
+import qna.domain.UserActivity;
+import qna.domain.UserActivityChangedEvent;
+import qna.domain.UserActivityRepository;
+import qna.domain.UserContent;
+import qna.domain.UserContentPage;
+import qna.shard.ShardContext;
+import qna.shard.ShardRouter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * 사용자별 활동 집계(UserActivity)와 "내가 쓴 질문/답변" 목록.
+ *
+ * 집계는 질문/답변이 저장되거나 삭제될 때 발행되는 UserActivityChangedEvent를 트랜잭션 단위로 모아 두었다가
+ * 커밋된 뒤 사용자마다 한 번의 UPDATE로 더한다. 롤백된 트랜잭션의 증감은 버려진다.
+ * 커밋 뒤 갱신이 실패한 사용자는 기억해 두었다가 주기적으로 다시 센다. (recountStale) 프로세스가 그 사이 내려가면 잃어버리므로
+ * 그때는 UserActivityBackfill을 다시 돌린다.
+ * 목록은 (writer_id, deleted, created_at) 인덱스를 타는 최신순 keyset 페이지라 글 수와 관계없이 페이지 크기만큼만 읽는다.
+ */
+@Service
+public class UserActivityService {
+    private static final Logger log = LoggerFactory.getLogger(UserActivityService.class);
+    private static final Comparator<UserContent> NEWEST_FIRST =
+            Comparator.comparing(UserContent::createdAt).thenComparing(UserContent::id).reversed();
+
+    private final UserActivityRepository userActivityRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final QuestionShardQueryService shardQueryService;
+    private final TransactionTemplate requiresNewTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final Counter applied;
+    private final Counter failures;
+    private final Set<Long> staleUsers = ConcurrentHashMap.newKeySet();
+
+    public UserActivityService(
+            UserActivityRepository userActivityRepository,
+            QuestionRepository questionRepository,
+            AnswerRepository answerRepository,
+            QuestionShardQueryService shardQueryService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.userActivityRepository = userActivityRepository;
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.shardQueryService = shardQueryService;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.applied = meterRegistry.counter("qna.user-activity.updates", "result", "applied");
+        this.failures = meterRegistry.counter("qna.user-activity.updates", "result", "failed");
+        Gauge.builder("qna.user-activity.stale", staleUsers, Set::size)
+                .description("커밋 뒤 갱신이 실패해 다시 세기를 기다리는 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 엔티티가 flush되는 시점에 동기로 호출된다. 트랜잭션 안이면 커밋될 때까지 모아 둔다.
+     */
+    @EventListener
+    public void onActivityChanged(UserActivityChangedEvent event) {
+        if (Objects.isNull(event.userId())) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Delta delta = new Delta();
+            delta.add(event);
+            apply(Map.of(event.userId(), delta));
+            return;
+        }
+        batch().add(event);
+    }
+
+    public UserActivity findActivity(Long userId) {
+        try (ShardContext.Scope scope = ShardContext.bind(ShardRouter.PRIMARY)) {
+            return readOnlyTemplate.execute(status -> userActivityRepository.findById(userId)
+                    .orElseGet(() -> new UserActivity(userId)));
+        }
+    }
+
+    /**
+     * @param after 이전 페이지의 next. 첫 페이지면 null
+     */
+    public UserContentPage findQuestions(Long userId, ContentCursor after, int size) {
+        return page(size, shard -> readOnlyTemplate.execute(status -> Objects.isNull(after)
+                ? questionRepository.findWrittenFirstPage(userId, PageRequest.of(0, size + 1))
+                : questionRepository.findWrittenPageAfter(userId, after.createdAt(), after.id(), PageRequest.of(0, size + 1))));
+    }
+
+    /**
+     * @param after 이전 페이지의 next. 첫 페이지면 null
+     */
+    public UserContentPage findAnswers(Long userId, ContentCursor after, int size) {
+        return page(size, shard -> readOnlyTemplate.execute(status -> Objects.isNull(after)
+                ? answerRepository.findWrittenFirstPage(userId, PageRequest.of(0, size + 1))
+                : answerRepository.findWrittenPageAfter(userId, after.createdAt(), after.id(), PageRequest.of(0, size + 1))));
+    }
+
+    /**
+     * 질문/답변 테이블을 다시 세어 집계를 맞춘다. 커밋 뒤 갱신이 실패해 어긋난 집계를 고칠 때 쓴다.
+     * 기본 샤드의 집계 행을 잠근 채 모든 샤드를 세고 같은 트랜잭션에서 쓰므로, 세는 동안 커밋된 글의 증감은 잠금이 풀린 뒤
+     * 더해지고 덮어써지지 않는다. 샤드별 조회는 각자의 커넥션에서 하므로 잠금과 부딪히지 않는다.
+     */
+    public UserActivity recount(Long userId) {
+        try (ShardContext.Scope scope = ShardContext.bind(ShardRouter.PRIMARY)) {
+            try {
+                return requiresNewTemplate.execute(status -> recountLocked(userId));
+            } catch (DataIntegrityViolationException e) {
+                // 처음 활동하는 사용자의 행을 동시에 만들었다. 이제 행이 있으므로 잠그고 다시 센다.
+                return requiresNewTemplate.execute(status -> recountLocked(userId));
+            }
+        }
+    }
+
+    private UserActivity recountLocked(Long userId) {
+        UserActivity activity = userActivityRepository.findByIdForUpdate(userId)
+                .orElseGet(() -> userActivityRepository.saveAndFlush(new UserActivity(userId)));
+        List<Recount> recounts = shardQueryService.scatter(shard -> readOnlyTemplate.execute(status -> List.of(new Recount(
+                questionRepository.countByWriter_IdAndDeletedFalse(userId),
+                answerRepository.countByWriter_IdAndDeletedFalse(userId),
+                latest(questionRepository.findLastWrittenAt(userId), answerRepository.findLastWrittenAt(userId))))));
+        long questionCount = recounts.stream().mapToLong(Recount::questionCount).sum();
+        long answerCount = recounts.stream().mapToLong(Recount::answerCount).sum();
+        LocalDateTime lastActivityAt = recounts.stream()
+                .map(Recount::lastActivityAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        activity.reset(questionCount, answerCount, lastActivityAt);
+        return userActivityRepository.save(activity);
+    }
+
+    /**
+     * 커밋 뒤 갱신이 실패한 사용자의 집계를 다시 센다. 다시 세다 실패한 사용자는 다음 주기에 또 센다.
+     */
+    @Scheduled(fixedDelayString = "${qna.user-activity.recount-delay:60000}")
+    public void recountStale() {
+        for (Long userId : List.copyOf(staleUsers)) {
+            staleUsers.remove(userId);
+            try {
+                recount(userId);
+            } catch (RuntimeException e) {
+                staleUsers.add(userId);
+                log.warn("user activity recount failed. userId={}", userId, e);
+            }
+        }
+    }
+
+    // 샤드마다 size + 1개씩 읽어 합친 뒤 최신순으로 size개를 고른다. 남는 것이 있으면 다음 페이지가 있다.
+    private UserContentPage page(int size, IntFunction<List<UserContent>> query) {
+        List<UserContent> merged = shardQueryService.scatter(query);
+        merged.sort(NEWEST_FIRST);
+        if (merged.size() <= size) {
+            return new UserContentPage(merged, null);
+        }
+        List<UserContent> contents = List.copyOf(merged.subList(0, size));
+        return new UserContentPage(contents, contents.get(size - 1).cursor());
+    }
+
+    private void apply(Map<Long, Delta> deltas) {
+        try (ShardContext.Scope scope = ShardContext.bind(ShardRouter.PRIMARY)) {
+            try {
+                requiresNewTemplate.executeWithoutResult(status -> deltas.forEach(this::applyDelta));
+            } catch (DataIntegrityViolationException e) {
+                // 처음 활동하는 사용자의 행을 동시에 만들었다. 트랜잭션 전체가 롤백되었으므로 다시 더해도 두 번 반영되지 않는다.
+                requiresNewTemplate.executeWithoutResult(status -> deltas.forEach(this::applyDelta));
+            }
+            applied.increment(deltas.size());
+        } catch (RuntimeException e) {
+            failures.increment(deltas.size());
+            staleUsers.addAll(deltas.keySet());
+            log.warn("user activity update failed, will recount. users={}", deltas.keySet(), e);
+        }
+    }
+
+    private void applyDelta(Long userId, Delta delta) {
+        LocalDateTime now = DomainClock.now();
+        int updated = userActivityRepository.applyDelta(userId, delta.questions, delta.answers, delta.activityAt, now);
+        if (updated == 0) {
+            UserActivity activity = new UserActivity(userId);
+            activity.apply(delta.questions, delta.answers, delta.activityAt);
+            userActivityRepository.saveAndFlush(activity);
+        }
+    }
+
+    // 지금 트랜잭션에 등록된 ActivityBatch. REQUIRES_NEW로 바깥 트랜잭션이 보류되면 등록 목록도 따로 관리된다.
+    private ActivityBatch batch() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof ActivityBatch batch) {
+                return batch;
+            }
+        }
+        ActivityBatch batch = new ActivityBatch();
+        TransactionSynchronizationManager.registerSynchronization(batch);
+        return batch;
+    }
+
+    private static LocalDateTime latest(Optional<LocalDateTime> question, Optional<LocalDateTime> answer) {
+        if (question.isEmpty()) {
+            return answer.orElse(null);
+        }
+        if (answer.isEmpty()) {
+            return question.get();
+        }
+        return question.get().isAfter(answer.get()) ? question.get() : answer.get();
+    }
+
+    private record Recount(long questionCount, long answerCount, LocalDateTime lastActivityAt) {
+    }
+
+    private static class Delta {
+        private long questions;
+        private long answers;
+        private LocalDateTime activityAt;
+
+        private void add(UserActivityChangedEvent event) {
+            questions += event.questionDelta();
+            answers += event.answerDelta();
+            if (Objects.nonNull(event.activityAt()) && (Objects.isNull(activityAt) || activityAt.isBefore(event.activityAt()))) {
+                activityAt = event.activityAt();
+            }
+        }
+    }
+
+    private class ActivityBatch implements TransactionSynchronization {
+        private final Map<Long, Delta> deltas = new LinkedHashMap<>();
+
+        private void add(UserActivityChangedEvent event) {
+            deltas.computeIfAbsent(event.userId(), userId -> new Delta()).add(event);
+        }
+
+        @Override
+        public void afterCommit() {
+            apply(deltas);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package qna.application;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import qna.domain.User;
+import qna.domain.UserRepository;
+import qna.exception.NotFoundException;
+
+@Service
+public class UserService {
+    private UserRepository userRepository;
+    private CredentialService credentialService;
+
+    public UserService(UserRepository userRepository, CredentialService credentialService) {
+        this.userRepository = userRepository;
+        this.credentialService = credentialService;
+    }
+
+    @Transactional
+    public User join(User user) {
+        user.setPassword(credentialService.encode(user.getPassword()));
+        return userRepository.save(user);
+    }
+
+    @Transactional
+    public User update(User loginUser, Long id, User target) {
+        User user = userRepository.findById(id)
+                .orElseThrow(NotFoundException::new);
+        user.update(loginUser, target, credentialService);
+        return user;
+    }
+}
@@ -0,0 +1,83 @@
+package qna.application;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근에 성공한 비밀번호 검증을 짧은 시간 동안 기억한다.
+ * 키는 (사용자 id, 저장된 해시, 입력 비밀번호)를 프로세스마다 새로 만든 비밀 키로 HMAC한 값이라
+ * 메모리가 노출되더라도 비밀번호를 되돌릴 수 없고, 비밀번호가 바뀌면 저장된 해시가 달라져 자연히 무효가 된다.
+ */
+public class VerifiedCredentialCache {
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<String, Long> expiresAt = new ConcurrentHashMap<>();
+
+    public VerifiedCredentialCache(Duration ttl, int maxSize) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    public boolean contains(Long userId, String storedPassword, String rawPassword) {
+        String digest = digest(userId, storedPassword, rawPassword);
+        Long expiry = expiresAt.get(digest);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry - System.nanoTime() < 0) {
+            expiresAt.remove(digest, expiry);
+            return false;
+        }
+        return true;
+    }
+
+    public void put(Long userId, String storedPassword, String rawPassword) {
+        if (expiresAt.size() >= maxSize) {
+            evict();
+        }
+        expiresAt.put(digest(userId, storedPassword, rawPassword), System.nanoTime() + ttlNanos);
+    }
+
+    public int size() {
+        return expiresAt.size();
+    }
+
+    // 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 임의의 항목을 지워 크기를 지킨다.
+    private void evict() {
+        long now = System.nanoTime();
+        expiresAt.values().removeIf(expiry -> expiry - now < 0);
+        Iterator<String> iterator = expiresAt.keySet().iterator();
+        while (expiresAt.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private String digest(Long userId, String storedPassword, String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(String.valueOf(userId).getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(storedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package qna.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * DeleteHistoryService.saveAll 한 번. 커밋 뒤(AFTER_COMMIT)나 커밋 직전(LOG)에 쓰는 방식은 예약하는 시간만 잡힌다.
+ */
+@Name("qna.DeleteHistorySave")
+@Label("Delete History Save")
+@Category({"QnA", "Service"})
+public class DeleteHistorySaveEvent extends Event {
+
+    @Label("Histories")
+    int histories;
+
+    @Label("Write Mode")
+    String writeMode;
+
+    @Label("Statement Count")
+    long statementCount;
+
+    private transient long statementsAtStart;
+
+    public static DeleteHistorySaveEvent start(int histories, String writeMode) {
+        DeleteHistorySaveEvent event = new DeleteHistorySaveEvent();
+        event.histories = histories;
+        event.writeMode = writeMode;
+        event.statementsAtStart = StatementCounter.current();
+        event.begin();
+        return event;
+    }
+
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            statementCount = StatementCounter.current() - statementsAtStart;
+            commit();
+        }
+    }
+}
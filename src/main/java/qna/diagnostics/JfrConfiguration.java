@@ -0,0 +1,21 @@
+package qna.diagnostics;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JFR 녹화 엔드포인트와 저장소 호출 이벤트를 등록한다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class JfrConfiguration {
+
+    @Bean
+    public static RepositoryEventPostProcessor repositoryEventPostProcessor() {
+        return new RepositoryEventPostProcessor();
+    }
+
+    @Bean
+    public JfrEndpoint jfrEndpoint(JfrProperties properties) {
+        return new JfrEndpoint(properties);
+    }
+}
@@ -0,0 +1,205 @@
+package qna.diagnostics;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실행 중인 프로세스에서 JFR 녹화를 켜고 끄는 관리 엔드포인트. (/actuator/jfr)
+ * <ul>
+ *     <li>POST /actuator/jfr {"preset": "LOCK_CONTENTION", "duration": "PT2M"}: 녹화를 시작한다. duration이 없으면 qna.jfr.default-duration</li>
+ *     <li>GET /actuator/jfr: 녹화 목록</li>
+ *     <li>DELETE /actuator/jfr/{id}: 녹화를 멈추고 파일로 남긴다</li>
+ *     <li>GET /actuator/jfr/{id}: 녹화 파일을 내려받는다. 녹화 중이면 지금까지의 내용을 따로 떠서 주고, 다 읽으면 지운다</li>
+ * </ul>
+ * 녹화는 멈출 때(또는 duration이 지나 스스로 멈출 때) qna.jfr.directory에 파일로 남는다.
+ * 끝난 녹화는 최근 maxRecordings개만 목록에 두고, 나머지는 닫아서 목록에서 뺀다. 녹화 파일은 디렉터리에 그대로 남는다.
+ * 인증 없이 녹화를 켜고 파일을 내려받을 수 없도록 기본 설정은 JMX로만 노출한다.
+ */
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+    private static final Logger log = LoggerFactory.getLogger(JfrEndpoint.class);
+    private static final String SNAPSHOT_SUFFIX = "-snapshot.jfr";
+
+    private final JfrProperties properties;
+    private final Map<Long, Entry> recordings = new ConcurrentHashMap<>();
+
+    public JfrEndpoint(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public List<RecordingDescriptor> recordings() {
+        return recordings.values().stream()
+                .map(Entry::describe)
+                .sorted(Comparator.comparingLong(RecordingDescriptor::id))
+                .toList();
+    }
+
+    @WriteOperation
+    public synchronized RecordingDescriptor start(JfrPreset preset, @Nullable Duration duration) {
+        evictFinished();
+        long running = recordings.values().stream().filter(Entry::isRunning).count();
+        if (running >= properties.maxRecordings()) {
+            throw new IllegalStateException("이미 녹화 중인 것이 " + running + "개 있습니다. 먼저 멈춰 주세요.");
+        }
+        createDirectory();
+
+        Recording recording = preset.newRecording();
+        String name = "qna-" + preset.name().toLowerCase(Locale.ROOT);
+        Path file = properties.directory().resolve(name + "-" + recording.getId() + ".jfr");
+        try {
+            recording.setName(name);
+            recording.setToDisk(true);
+            recording.setMaxSize(properties.maxSize().toBytes());
+            recording.setDuration(duration == null ? properties.defaultDuration() : duration);
+            recording.setDestination(file);
+            recording.start();
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException(e);
+        }
+
+        Entry entry = new Entry(preset, recording, file);
+        recordings.put(recording.getId(), entry);
+        log.info("jfr recording started. id={}, preset={}, duration={}, file={}",
+                recording.getId(), preset, recording.getDuration(), file);
+        return entry.describe();
+    }
+
+    @DeleteOperation
+    public synchronized RecordingDescriptor stop(@Selector long id) {
+        Entry entry = recordings.get(id);
+        if (entry == null) {
+            return null;
+        }
+        // 멈추면 destination에 파일이 써진다. 파일을 쓴 뒤에는 JFR이 들고 있는 디스크 저장소를 정리한다.
+        if (entry.isRunning()) {
+            entry.recording().stop();
+        }
+        entry.recording().close();
+        deleteSnapshots(entry);
+        log.info("jfr recording stopped. id={}, file={}", id, entry.file());
+        RecordingDescriptor stopped = entry.describe();
+        evictFinished();
+        return stopped;
+    }
+
+    @ReadOperation
+    public Resource download(@Selector long id) {
+        Entry entry = recordings.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isRunning()) {
+            try {
+                Path snapshot = Files.createTempFile(properties.directory(), snapshotPrefix(entry), SNAPSHOT_SUFFIX);
+                entry.recording().dump(snapshot);
+                return new SnapshotResource(snapshot);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return Files.exists(entry.file()) ? new FileSystemResource(entry.file()) : null;
+    }
+
+    // 종료할 때 녹화 중인 것은 멈춰서 파일로 남긴다.
+    @PreDestroy
+    public void close() {
+        for (Long id : recordings.keySet()) {
+            stop(id);
+        }
+    }
+
+    // 끝난 녹화 중 최근 maxRecordings개만 남긴다. duration이 지나 스스로 멈춘 녹화는 여기서 닫아 JFR 디스크 저장소를 돌려준다.
+    private synchronized void evictFinished() {
+        List<Entry> finished = recordings.values().stream()
+                .filter(entry -> !entry.isRunning())
+                .sorted(Comparator.comparingLong((Entry entry) -> entry.recording().getId()).reversed())
+                .toList();
+        for (Entry entry : finished.subList(Math.min(finished.size(), properties.maxRecordings()), finished.size())) {
+            recordings.remove(entry.recording().getId());
+            entry.recording().close();
+            deleteSnapshots(entry);
+        }
+    }
+
+    // 내려받지 않고 버려진 스냅샷을 지운다.
+    private void deleteSnapshots(Entry entry) {
+        try (DirectoryStream<Path> snapshots =
+                     Files.newDirectoryStream(properties.directory(), snapshotPrefix(entry) + "*" + SNAPSHOT_SUFFIX)) {
+            for (Path snapshot : snapshots) {
+                Files.deleteIfExists(snapshot);
+            }
+        } catch (IOException e) {
+            log.warn("jfr snapshot cleanup failed. id={}", entry.recording().getId(), e);
+        }
+    }
+
+    private static String snapshotPrefix(Entry entry) {
+        return entry.recording().getName() + "-" + entry.recording().getId() + "-";
+    }
+
+    private void createDirectory() {
+        try {
+            Files.createDirectories(properties.directory());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record RecordingDescriptor(
+            long id, JfrPreset preset, RecordingState state, Instant startTime, Duration duration, String file) {
+    }
+
+    // 스트림을 닫으면 파일이 지워지는 스냅샷. 크기는 파일에서 바로 읽는다.
+    private static final class SnapshotResource extends FileSystemResource {
+
+        private SnapshotResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(getFile().toPath(), StandardOpenOption.DELETE_ON_CLOSE);
+        }
+    }
+
+    private record Entry(JfrPreset preset, Recording recording, Path file) {
+
+        boolean isRunning() {
+            RecordingState state = recording.getState();
+            return state == RecordingState.RUNNING || state == RecordingState.DELAYED;
+        }
+
+        RecordingDescriptor describe() {
+            return new RecordingDescriptor(recording.getId(), preset, recording.getState(), recording.getStartTime(),
+                    recording.getDuration(), file.toAbsolutePath().toString());
+        }
+    }
+}
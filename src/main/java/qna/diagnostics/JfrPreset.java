@@ -0,0 +1,61 @@
+package qna.diagnostics;
+
+import jdk.jfr.Recording;
+
+import java.time.Duration;
+
+/**
+ * JFR 녹화 설정 묶음. 모든 묶음은 qna 이벤트와 실행 샘플을 같이 켠다.
+ */
+public enum JfrPreset {
+    /**
+     * 어디서 얼마나 할당하는지. 할당 샘플과 GC.
+     */
+    ALLOCATION {
+        @Override
+        void enableEvents(Recording recording) {
+            recording.enable("jdk.ObjectAllocationSample").with("throttle", "150/s").withStackTrace();
+            recording.enable("jdk.GarbageCollection");
+            recording.enable("jdk.GCHeapSummary");
+        }
+    },
+    /**
+     * 어디서 락을 기다리는지. 모니터 진입/대기와 park(ReentrantLock, 커넥션 풀 대기).
+     */
+    LOCK_CONTENTION {
+        @Override
+        void enableEvents(Recording recording) {
+            recording.enable("jdk.JavaMonitorEnter").withThreshold(LOCK_THRESHOLD).withStackTrace();
+            recording.enable("jdk.JavaMonitorWait").withThreshold(LOCK_THRESHOLD).withStackTrace();
+            recording.enable("jdk.ThreadPark").withThreshold(LOCK_THRESHOLD).withStackTrace();
+        }
+    },
+    /**
+     * DB 왕복. 저장소 호출을 스택과 함께 남기고, 원격 DB라면 소켓 읽기/쓰기도 남긴다.
+     */
+    JDBC {
+        @Override
+        void enableEvents(Recording recording) {
+            recording.enable(RepositoryCallEvent.class).withStackTrace();
+            recording.enable("jdk.SocketRead").withThreshold(IO_THRESHOLD).withStackTrace();
+            recording.enable("jdk.SocketWrite").withThreshold(IO_THRESHOLD).withStackTrace();
+            recording.enable("jdk.ThreadPark").withThreshold(LOCK_THRESHOLD).withStackTrace();
+        }
+    };
+
+    private static final Duration LOCK_THRESHOLD = Duration.ofMillis(10);
+    private static final Duration IO_THRESHOLD = Duration.ofMillis(5);
+    private static final Duration SAMPLE_PERIOD = Duration.ofMillis(20);
+
+    abstract void enableEvents(Recording recording);
+
+    Recording newRecording() {
+        Recording recording = new Recording();
+        recording.enable(QuestionDeleteEvent.class);
+        recording.enable(DeleteHistorySaveEvent.class);
+        recording.enable(RepositoryCallEvent.class).withoutStackTrace();
+        recording.enable("jdk.ExecutionSample").withPeriod(SAMPLE_PERIOD);
+        enableEvents(recording);
+        return recording;
+    }
+}
@@ -0,0 +1,30 @@
+package qna.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * jfr 관리 엔드포인트 설정. (qna.jfr.*)
+ *
+ * @param directory       녹화 파일을 둘 디렉터리
+ * @param defaultDuration 길이를 주지 않고 시작한 녹화가 스스로 멈추는 시간. 멈추지 않은 녹화가 디스크를 채우지 않게 한다
+ * @param maxSize         녹화 하나가 디스크에 남기는 최대 크기. 넘으면 오래된 데이터부터 버린다
+ * @param maxRecordings   동시에 켜 둘 수 있는 녹화 수. 끝난 녹화도 최근 이만큼만 목록에 남긴다
+ */
+@ConfigurationProperties(prefix = "qna.jfr")
+public record JfrProperties(
+        @DefaultValue("data/jfr") Path directory,
+        @DefaultValue("5m") Duration defaultDuration,
+        @DefaultValue("256MB") DataSize maxSize,
+        @DefaultValue("2") int maxRecordings
+) {
+    public JfrProperties {
+        if (defaultDuration.isNegative() || defaultDuration.isZero() || maxRecordings <= 0) {
+            throw new IllegalArgumentException("defaultDuration과 maxRecordings는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package qna.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * NPlusOneDetector를 Hibernate StatementInspector로 등록한다. JFR 이벤트가 쓰는 스레드별 SQL 수(StatementCounter)도 여기서 센다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class NPlusOneConfiguration {
+
+    @Bean
+    public NPlusOneDetector nPlusOneDetector(NPlusOneProperties properties, MeterRegistry meterRegistry) {
+        return new NPlusOneDetector(properties, meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer nPlusOneStatementInspector(NPlusOneDetector nPlusOneDetector) {
+        return hibernateProperties -> hibernateProperties.put(
+                AvailableSettings.STATEMENT_INSPECTOR, StatementCounter.counting(nPlusOneDetector));
+    }
+}
@@ -0,0 +1,113 @@
+package qna.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Hibernate가 실행하는 SQL을 보고, 한 트랜잭션 안에서 같은 모양의 SELECT가 threshold보다 많이 실행되면 N+1로 본다.
+ * 운영에서는 sampleRate만큼의 트랜잭션만 감시하고 경고 로그와 qna.n-plus-one.detections 지표를 남긴다.
+ * 테스트에서는 NPlusOneExtension이 리스너를 등록하며, 리스너가 있는 동안은 모든 트랜잭션을 감시한다.
+ */
+public class NPlusOneDetector implements StatementInspector {
+    private static final Logger log = LoggerFactory.getLogger(NPlusOneDetector.class);
+    // 한 트랜잭션에서 세는 SQL 모양의 최대 수. 큰 배치 작업에서 메모리가 늘지 않게 한다.
+    private static final int MAX_SHAPES = 1000;
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final NPlusOneProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<Consumer<NPlusOneWarning>> listeners = new CopyOnWriteArrayList<>();
+
+    public NPlusOneDetector(NPlusOneProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || !SqlShape.isSelect(sql)) {
+            return sql;
+        }
+        Tracker tracker = tracker();
+        if (tracker.sampled) {
+            tracker.record(sql);
+        }
+        return sql;
+    }
+
+    public void addListener(Consumer<NPlusOneWarning> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<NPlusOneWarning> listener) {
+        listeners.remove(listener);
+    }
+
+    // 지금 트랜잭션의 Tracker. 감시 여부는 트랜잭션을 시작한 뒤 첫 SELECT에서 한 번만 정한다.
+    private Tracker tracker() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Tracker tracker) {
+                return tracker;
+            }
+        }
+        boolean sampled = !listeners.isEmpty() || ThreadLocalRandom.current().nextDouble() < properties.sampleRate();
+        Tracker tracker = new Tracker(sampled);
+        TransactionSynchronizationManager.registerSynchronization(tracker);
+        return tracker;
+    }
+
+    private void report(String shape, int count) {
+        NPlusOneWarning warning = new NPlusOneWarning(shape, count, callSite(), Thread.currentThread().getName());
+        log.warn("possible N+1 select. callSite={}, count={}, sql={}", warning.callSite(), count, shape);
+        meterRegistry.counter("qna.n-plus-one.detections", "call_site", warning.callSite()).increment();
+        listeners.forEach(listener -> listener.accept(warning));
+    }
+
+    // 스택에서 처음 만나는 애플리케이션 코드. 감지기 자신과 Spring이 만든 프록시는 건너뛴다.
+    private static String callSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("qna."))
+                .filter(frame -> !isDetector(frame.getClassName()))
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+
+    private static boolean isDetector(String className) {
+        String detector = NPlusOneDetector.class.getName();
+        return className.equals(detector) || className.startsWith(detector + "$");
+    }
+
+    private class Tracker implements TransactionSynchronization {
+        private final boolean sampled;
+        private final Map<String, Integer> counts = new HashMap<>();
+
+        private Tracker(boolean sampled) {
+            this.sampled = sampled;
+        }
+
+        private void record(String sql) {
+            String shape = SqlShape.of(sql);
+            if (counts.size() >= MAX_SHAPES && !counts.containsKey(shape)) {
+                return;
+            }
+            int count = counts.merge(shape, 1, Integer::sum);
+            // 기준을 넘는 순간 한 번만 알린다.
+            if (count == properties.threshold() + 1) {
+                report(shape, count);
+            }
+        }
+    }
+}
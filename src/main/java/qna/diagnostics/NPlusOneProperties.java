@@ -0,0 +1,17 @@
+package qna.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * N+1 감지 설정. (qna.n-plus-one.*)
+ *
+ * @param threshold  한 트랜잭션에서 같은 모양의 SELECT가 이보다 많이 실행되면 경고한다
+ * @param sampleRate 감시할 트랜잭션 비율(0~1). 0이면 테스트에서 등록한 리스너가 있을 때만 감시한다
+ */
+@ConfigurationProperties(prefix = "qna.n-plus-one")
+public record NPlusOneProperties(
+        @DefaultValue("10") int threshold,
+        @DefaultValue("0.01") double sampleRate
+) {
+}
@@ -0,0 +1,12 @@
+package qna.diagnostics;
+
+/**
+ * 한 트랜잭션에서 같은 모양의 SELECT가 기준보다 많이 실행되었다.
+ *
+ * @param shape    값을 지운 SQL
+ * @param count    감지한 시점까지 실행된 횟수
+ * @param callSite 그 SELECT를 일으킨 애플리케이션 코드 위치 (클래스.메서드:줄)
+ * @param thread   실행한 스레드 이름
+ */
+public record NPlusOneWarning(String shape, int count, String callSite, String thread) {
+}
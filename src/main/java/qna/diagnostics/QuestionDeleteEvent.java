@@ -0,0 +1,55 @@
+package qna.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * QnaService.deleteQuestion 한 번. 커밋 때 flush되는 UPDATE는 메서드가 끝난 뒤 실행되므로 statementCount에 들어가지 않는다.
+ */
+@Name("qna.QuestionDelete")
+@Label("Question Delete")
+@Category({"QnA", "Service"})
+public class QuestionDeleteEvent extends Event {
+
+    @Label("Question Id")
+    long questionId;
+
+    @Label("Answer Count")
+    @Description("같이 지운 답변 수. 삭제 작업으로 넘겼거나 실패했으면 -1")
+    long answerCount = -1;
+
+    @Label("Statement Count")
+    long statementCount;
+
+    @Label("Result")
+    String result = "FAILED";
+
+    private transient long statementsAtStart;
+
+    public static QuestionDeleteEvent start(long questionId) {
+        QuestionDeleteEvent event = new QuestionDeleteEvent();
+        event.questionId = questionId;
+        event.statementsAtStart = StatementCounter.current();
+        event.begin();
+        return event;
+    }
+
+    public void setAnswerCount(long answerCount) {
+        this.answerCount = answerCount;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            statementCount = StatementCounter.current() - statementsAtStart;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package qna.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 저장소 메서드 호출 한 번. RepositoryEventPostProcessor가 모든 저장소 빈에 건다.
+ */
+@Name("qna.RepositoryCall")
+@Label("Repository Call")
+@Category({"QnA", "Repository"})
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Statement Count")
+    long statementCount;
+
+    @Label("Failed")
+    boolean failed;
+
+    private transient long statementsAtStart;
+
+    static RepositoryCallEvent start(String repository, String method) {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.repository = repository;
+        event.method = method;
+        event.statementsAtStart = StatementCounter.current();
+        event.begin();
+        return event;
+    }
+
+    void finish(boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.failed = failed;
+            statementCount = StatementCounter.current() - statementsAtStart;
+            commit();
+        }
+    }
+}
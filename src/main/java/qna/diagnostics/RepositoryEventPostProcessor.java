@@ -0,0 +1,55 @@
+package qna.diagnostics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 저장소 빈(JPA, 메모리 구현 모두)의 메서드 호출마다 RepositoryCallEvent를 남긴다.
+ * Spring Data가 만든 프록시에는 맨 앞에 인터셉터를 더하고, 프록시가 아닌 빈은 인터페이스 프록시로 감싼다.
+ * 녹화 중이 아니면 이벤트는 begin/end만 부르고 버려지므로 호출당 비용은 거의 없다.
+ */
+public class RepositoryEventPostProcessor implements BeanPostProcessor, BeanClassLoaderAware {
+    private ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof Repository<?, ?>)) {
+            return bean;
+        }
+        RecordingInterceptor interceptor = new RecordingInterceptor(beanName);
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(classLoader);
+    }
+
+    private record RecordingInterceptor(String repository) implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            RepositoryCallEvent event = RepositoryCallEvent.start(repository, invocation.getMethod().getName());
+            boolean failed = true;
+            try {
+                Object result = invocation.proceed();
+                failed = false;
+                return result;
+            } finally {
+                event.finish(failed);
+            }
+        }
+    }
+}
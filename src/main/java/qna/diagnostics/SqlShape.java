@@ -0,0 +1,31 @@
+package qna.diagnostics;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 값만 다른 SQL을 같은 모양으로 본다. 문자열/숫자 리터럴과 IN 목록의 길이를 지우고 공백을 하나로 줄인다.
+ */
+final class SqlShape {
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlShape() {
+    }
+
+    static String of(String sql) {
+        String shape = COMMENT.matcher(sql).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    static boolean isSelect(String sql) {
+        String statement = COMMENT.matcher(sql).replaceFirst("").stripLeading();
+        return statement.regionMatches(true, 0, "select", 0, 6);
+    }
+}
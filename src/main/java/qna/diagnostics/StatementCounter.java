@@ -0,0 +1,25 @@
+package qna.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 스레드별로 Hibernate가 준비한 SQL 수를 센다. JFR 이벤트는 시작과 끝의 차이로 그 구간에서 실행한 SQL 수를 남긴다.
+ * JdbcTemplate으로 직접 실행한 SQL은 세지 않는다.
+ */
+public final class StatementCounter {
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private StatementCounter() {
+    }
+
+    public static long current() {
+        return COUNT.get()[0];
+    }
+
+    static StatementInspector counting(StatementInspector delegate) {
+        return sql -> {
+            COUNT.get()[0]++;
+            return delegate.inspect(sql);
+        };
+    }
+}
@@ -2,13 +2,14 @@ package qna.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.ForeignKey;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import qna.exception.CannotDeleteException;
 import qna.exception.NotFoundException;
 import qna.exception.UnAuthorizedException;
@@ -17,10 +18,17 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
+@EntityListeners(ContentChangeListener.class)
+@Table(
+        indexes = {
+                @Index(name = "idx_answer_question_deleted_created", columnList = "question_id, deleted, created_at"),
+                @Index(name = "idx_answer_writer_deleted_created", columnList = "writer_id, deleted, created_at")
+        }
+)
 public class Answer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne
@@ -37,8 +45,8 @@ public class Answer {
     @Column(nullable = false)
     private boolean deleted = false;
 
-    @Column(columnDefinition = "TIMESTAMP", nullable = false)
-    private LocalDateTime createdAt = LocalDateTime.now();
+    @Column(name = "created_at", columnDefinition = "TIMESTAMP", nullable = false)
+    private LocalDateTime createdAt = DomainClock.now();
 
     @Column(columnDefinition = "TIMESTAMP")
     private LocalDateTime updatedAt;
@@ -70,6 +78,10 @@ public class Answer {
         return this.writer.equals(writer);
     }
 
+    public boolean isOwner(LoginUser loginUser) {
+        return loginUser.isOwnerOf(writer.getId());
+    }
+
     // 사실상 Setter setQuestion()
     public void toQuestion(Question question) {
         this.question = question;
@@ -79,6 +91,11 @@ public class Answer {
         return id;
     }
 
+    // 메모리 저장소가 저장할 때 id를 매긴다.
+    void assignId(Long id) {
+        this.id = id;
+    }
+
     public Long getWriterId() {
         return writer.getId();
     }
@@ -91,6 +108,10 @@ public class Answer {
         return question.getId();
     }
 
+    Question getQuestion() {
+        return question;
+    }
+
     public String getContents() {
         return contents;
     }
@@ -99,6 +120,10 @@ public class Answer {
         return deleted;
     }
 
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
     public void setDeleted(boolean deleted) {
         this.deleted = deleted;
     }
@@ -109,13 +134,23 @@ public class Answer {
         }
     }
 
+    public void validateOwnership(LoginUser loginUser) {
+        if (!this.isOwner(loginUser)) {
+            throw new CannotDeleteException("다른 사람이 쓴 답변이 있어 삭제할 수 없습니다.");
+        }
+    }
+
     public DeleteHistory delete() {
+        return delete(DomainClock.now());
+    }
+
+    public DeleteHistory delete(LocalDateTime deletedAt) {
         setDeleted(true);
         return new DeleteHistory(
                 ContentType.ANSWER,
                 id,
                 writer,
-                LocalDateTime.now()
+                deletedAt
         );
     }
 
@@ -0,0 +1,18 @@
+package qna.domain;
+
+/**
+ * 답변이 저장되거나 삭제되었다. JDBC로 한꺼번에 넣거나 UPDATE 한 문장으로 지워 어떤 답변인지 모르면 answerId와 writerId가 null이다.
+ */
+public record AnswerChangedEvent(Long questionId, Long answerId, Long writerId, boolean deleted) {
+    public static AnswerChangedEvent bulkInserted(Long questionId) {
+        return new AnswerChangedEvent(questionId, null, null, false);
+    }
+
+    public static AnswerChangedEvent bulkDeleted(Long questionId) {
+        return new AnswerChangedEvent(questionId, null, null, true);
+    }
+
+    public boolean isBulk() {
+        return answerId == null;
+    }
+}
@@ -0,0 +1,10 @@
+package qna.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 답변 keyset 페이지의 위치. (createdAt, id) 순서로 이 위치 다음부터 읽는다.
+ * createdAt이 같은 답변이 여럿이어도 id로 순서가 정해지므로 건너뛰거나 겹치지 않는다.
+ */
+public record AnswerCursor(LocalDateTime createdAt, Long id) {
+}
@@ -0,0 +1,12 @@
+package qna.domain;
+
+import java.util.List;
+
+/**
+ * 답변 한 페이지와 다음 페이지를 읽을 위치. 마지막 페이지면 next는 null이다.
+ */
+public record AnswerPage(List<AnswerView> answers, AnswerCursor next) {
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -1,7 +1,12 @@
 package qna.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,5 +14,82 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     List<Answer> findByQuestion_IdAndDeletedFalse(Long questionId);
 
     Optional<Answer> findByIdAndDeletedFalse(Long id);
+
+    long countByQuestion_IdAndDeletedFalse(Long questionId);
+
+    boolean existsByQuestion_IdAndDeletedFalseAndWriter_IdNot(Long questionId, Long writerId);
+
+    @Query("select new qna.domain.AnswerWriter(a.id, a.writer.id) from Answer a where a.question.id = :questionId and a.deleted = false")
+    List<AnswerWriter> findWriters(@Param("questionId") Long questionId);
+
+    // (question_id, deleted, created_at) 인덱스를 타는 keyset 페이지. 엔티티 대신 AnswerView로 읽어 영속성 컨텍스트에 쌓이지 않는다.
+    // 삭제 작업이 진행 중인 질문(deleted = true)의 남은 답변은 보이지 않는다.
+    @Query("select new qna.domain.AnswerView(a.id, w.id, w.name, a.contents, a.createdAt) from Answer a join a.writer w join a.question q " +
+            "where q.id = :questionId and q.deleted = false and a.deleted = false " +
+            "order by a.createdAt, a.id")
+    List<AnswerView> findFirstPage(@Param("questionId") Long questionId, Pageable pageable);
+
+    @Query("select new qna.domain.AnswerView(a.id, w.id, w.name, a.contents, a.createdAt) from Answer a join a.writer w join a.question q " +
+            "where q.id = :questionId and q.deleted = false and a.deleted = false " +
+            "and (a.createdAt > :createdAt or (a.createdAt = :createdAt and a.id > :id)) " +
+            "order by a.createdAt, a.id")
+    List<AnswerView> findPageAfter(
+            @Param("questionId") Long questionId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    // 삭제 작업용. 작업을 만든 뒤에 다른 사람이 단 답변을 지우지 않도록 writerId의 답변만 읽는다.
+    @Query("select new qna.domain.AnswerCursor(a.createdAt, a.id) from Answer a " +
+            "where a.question.id = :questionId and a.deleted = false and a.writer.id = :writerId " +
+            "order by a.createdAt, a.id")
+    List<AnswerCursor> findFirstKeys(@Param("questionId") Long questionId, @Param("writerId") Long writerId, Pageable pageable);
+
+    @Query("select new qna.domain.AnswerCursor(a.createdAt, a.id) from Answer a " +
+            "where a.question.id = :questionId and a.deleted = false and a.writer.id = :writerId " +
+            "and (a.createdAt > :createdAt or (a.createdAt = :createdAt and a.id > :id)) " +
+            "order by a.createdAt, a.id")
+    List<AnswerCursor> findKeysAfter(
+            @Param("questionId") Long questionId,
+            @Param("writerId") Long writerId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    // (writer_id, deleted, created_at) 인덱스를 타는 최신순 keyset 페이지. 답변한 질문의 제목을 함께 읽는다.
+    @Query("select new qna.domain.UserContent(qna.domain.ContentType.ANSWER, a.id, q.id, q.title, a.createdAt) from Answer a join a.question q " +
+            "where a.writer.id = :writerId and a.deleted = false and q.deleted = false " +
+            "order by a.createdAt desc, a.id desc")
+    List<UserContent> findWrittenFirstPage(@Param("writerId") Long writerId, Pageable pageable);
+
+    @Query("select new qna.domain.UserContent(qna.domain.ContentType.ANSWER, a.id, q.id, q.title, a.createdAt) from Answer a join a.question q " +
+            "where a.writer.id = :writerId and a.deleted = false and q.deleted = false " +
+            "and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id)) " +
+            "order by a.createdAt desc, a.id desc")
+    List<UserContent> findWrittenPageAfter(
+            @Param("writerId") Long writerId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    long countByWriter_IdAndDeletedFalse(Long writerId);
+
+    @Query("select max(a.createdAt) from Answer a where a.writer.id = :writerId")
+    Optional<LocalDateTime> findLastWrittenAt(@Param("writerId") Long writerId);
+
+    @Modifying
+    @Query("update Answer a set a.deleted = true where a.id in :ids and a.deleted = false")
+    int markDeletedByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("select max(a.createdAt) from Answer a where a.question.id = :questionId and a.deleted = false")
+    Optional<LocalDateTime> findLastCreatedAt(@Param("questionId") Long questionId);
+
+    @Modifying
+    @Query("delete from Answer a where a.id in :ids and a.deleted = true")
+    int deleteSoftDeletedByIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("delete from Answer a where a.question.id in :questionIds and a.deleted = true")
+    int deleteSoftDeletedByQuestionIdIn(@Param("questionIds") List<Long> questionIds);
 }
 
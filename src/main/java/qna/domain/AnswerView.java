@@ -0,0 +1,21 @@
+package qna.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Answer의 불변 스냅샷. JPQL 생성자 표현식으로 바로 만들 수 있어 답변을 엔티티로 읽지 않고 페이지 단위로 내보낼 때도 쓴다.
+ */
+public record AnswerView(Long id, Long writerId, String writerName, String contents, LocalDateTime createdAt) {
+    public static AnswerView of(Answer answer) {
+        return new AnswerView(
+                answer.getId(),
+                answer.getWriterId(),
+                answer.getWriter().getName(),
+                answer.getContents(),
+                answer.getCreatedAt());
+    }
+
+    public AnswerCursor cursor() {
+        return new AnswerCursor(createdAt, id);
+    }
+}
@@ -0,0 +1,7 @@
+package qna.domain;
+
+/**
+ * 답변과 작성자 id. 엔티티를 읽지 않고 답변 소유자만 확인할 때 쓴다.
+ */
+public record AnswerWriter(Long answerId, Long writerId) {
+}
@@ -0,0 +1,66 @@
+package qna.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Backfill별 진행 위치.
+ * 재시작하더라도 마지막으로 채운 id 다음부터 이어서 채우고, 끝난 Backfill은 다시 돌리지 않는다.
+ */
+@Entity
+public class BackfillCheckpoint {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private long lastId;
+
+    @Column(nullable = false)
+    private long processedRows;
+
+    @Column(columnDefinition = "TIMESTAMP")
+    private LocalDateTime completedAt;
+
+    @Column(columnDefinition = "TIMESTAMP")
+    private LocalDateTime updatedAt;
+
+    protected BackfillCheckpoint() {
+    }
+
+    public BackfillCheckpoint(String name) {
+        this.name = name;
+    }
+
+    public void advance(long lastId, int processedRows) {
+        this.lastId = lastId;
+        this.processedRows += processedRows;
+        this.updatedAt = DomainClock.now();
+    }
+
+    public void complete() {
+        this.completedAt = DomainClock.now();
+        this.updatedAt = completedAt;
+    }
+
+    public boolean isCompleted() {
+        return Objects.nonNull(completedAt);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+    public long getProcessedRows() {
+        return processedRows;
+    }
+}
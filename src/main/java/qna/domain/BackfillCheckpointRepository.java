@@ -0,0 +1,6 @@
+package qna.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, String> {
+}
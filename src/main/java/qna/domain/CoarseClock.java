@@ -0,0 +1,83 @@
+package qna.domain;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * resolution마다 한 번 시스템 시각을 읽어 두고, 읽을 때는 그 값(volatile 필드)만 돌려주는 시계.
+ * 엔티티를 많이 만드는 경로에서 호출마다 시스템 시계를 읽지 않는다. 대신 resolution만큼 늦을 수 있고, 뒤로 가지 않는다.
+ * close() 뒤에는 시스템 시계를 직접 읽는다.
+ */
+public final class CoarseClock extends Clock implements AutoCloseable {
+    private final Ticker ticker;
+    private final ZoneId zone;
+
+    private CoarseClock(Ticker ticker, ZoneId zone) {
+        this.ticker = ticker;
+        this.zone = zone;
+    }
+
+    public static CoarseClock start(ZoneId zone, Duration resolution) {
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("resolution은 0보다 커야 합니다. resolution=" + resolution);
+        }
+        Ticker ticker = new Ticker(resolution.toNanos());
+        ticker.thread.start();
+        return new CoarseClock(ticker, Objects.requireNonNull(zone));
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    // 같은 tick을 나눠 쓰는 다른 시간대의 시계
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new CoarseClock(ticker, zone);
+    }
+
+    @Override
+    public long millis() {
+        return ticker.running ? ticker.millis : System.currentTimeMillis();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public void close() {
+        ticker.running = false;
+        LockSupport.unpark(ticker.thread);
+    }
+
+    private static final class Ticker implements Runnable {
+        private final long resolutionNanos;
+        private final Thread thread;
+        private volatile long millis = System.currentTimeMillis();
+        private volatile boolean running = true;
+
+        private Ticker(long resolutionNanos) {
+            this.resolutionNanos = resolutionNanos;
+            this.thread = new Thread(this, "coarse-clock");
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                LockSupport.parkNanos(resolutionNanos);
+                long now = System.currentTimeMillis();
+                if (now > millis) {
+                    millis = now;
+                }
+            }
+        }
+    }
+}
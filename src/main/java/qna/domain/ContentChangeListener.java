@@ -0,0 +1,63 @@
+package qna.domain;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Objects;
+
+/**
+ * Question/Answer 엔티티의 변경을 QuestionChangedEvent로, User의 저장/수정을 UserUpdatedEvent로 발행한다.
+ * 질문/답변이 저장되면 작성자의 UserActivityChangedEvent도 발행한다. 삭제 이력은 로그에 남을 수도 있으므로
+ * 삭제에 따른 감소는 DeleteHistoryService가 발행한다.
+ * 답변 소유 색인을 위해 답변의 저장/수정은 AnswerChangedEvent로, 질문 삭제는 QuestionDeletedEvent로도 발행한다.
+ * Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 생성자 주입을 받을 수 있다.
+ */
+public class ContentChangeListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ContentChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        onChange(entity);
+        if (entity instanceof Question question) {
+            eventPublisher.publishEvent(new UserActivityChangedEvent(question.getWriterId(), 1, 0, question.getCreatedAt()));
+        } else if (entity instanceof Answer answer) {
+            eventPublisher.publishEvent(new UserActivityChangedEvent(answer.getWriterId(), 0, 1, answer.getCreatedAt()));
+            eventPublisher.publishEvent(new AnswerChangedEvent(answer.getQuestionId(), answer.getId(), answer.getWriterId(), false));
+        }
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUpdate(Object entity) {
+        onChange(entity);
+        if (entity instanceof Question question && question.isDeleted()) {
+            eventPublisher.publishEvent(new QuestionDeletedEvent(question.getId()));
+        } else if (entity instanceof Answer answer) {
+            eventPublisher.publishEvent(new AnswerChangedEvent(
+                    answer.getQuestionId(), answer.getId(), answer.getWriterId(), answer.isDeleted()));
+        }
+    }
+
+    private void onChange(Object entity) {
+        if (entity instanceof Question question) {
+            publish(question.getId());
+        } else if (entity instanceof Answer answer) {
+            publish(answer.getQuestionId());
+        } else if (entity instanceof User user && Objects.nonNull(user.getId())) {
+            eventPublisher.publishEvent(new UserUpdatedEvent(user.getId()));
+        }
+    }
+
+    private void publish(Long questionId) {
+        if (Objects.isNull(questionId)) {
+            return;
+        }
+        eventPublisher.publishEvent(new QuestionChangedEvent(questionId));
+    }
+}
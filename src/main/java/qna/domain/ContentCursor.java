@@ -0,0 +1,9 @@
+package qna.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 활동 목록 keyset 페이지의 위치. 최신순(createdAt, id 내림차순)으로 이 위치 다음부터 읽는다.
+ */
+public record ContentCursor(LocalDateTime createdAt, Long id) {
+}
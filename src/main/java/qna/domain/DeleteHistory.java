@@ -4,25 +4,30 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_delete_history_content", columnNames = {"content_type", "content_id"}))
 public class DeleteHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
+    // 같은 글의 삭제 이력은 하나만 남는다. 재시도된 삭제가 동시에 실행되면 늦게 커밋하는 쪽이 실패한다.
     @Enumerated(EnumType.STRING)
+    @Column(name = "content_type")
     private ContentType contentType;
 
+    @Column(name = "content_id")
     private Long contentId;
 
     //    private Long deletedById;
@@ -31,7 +36,7 @@ public class DeleteHistory {
     private User deletedBy; // deleted_by_id
 
     @Column(columnDefinition = "TIMESTAMP", nullable = false, updatable = false)
-    private LocalDateTime createDate = LocalDateTime.now();
+    private LocalDateTime createDate = DomainClock.now();
 
     protected DeleteHistory() {
     }
@@ -51,6 +56,11 @@ public class DeleteHistory {
         return id;
     }
 
+    // 메모리 저장소가 저장할 때 id를 매긴다.
+    void assignId(Long id) {
+        this.id = id;
+    }
+
     public ContentType getContentType() {
         return contentType;
     }
@@ -0,0 +1,17 @@
+package qna.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추가 전용 로그에 남는 삭제 이력 한 건. DeleteHistory와 달리 User를 참조하지 않고 삭제한 사용자의 id만 가지며,
+ * 로그에는 삭제 시각을 epoch millis로 저장하므로 밀리초 아래는 버려진다.
+ */
+public record DeleteHistoryRecord(ContentType contentType, Long contentId, Long deletedById, LocalDateTime deletedAt) {
+    public static DeleteHistoryRecord of(DeleteHistory deleteHistory) {
+        return new DeleteHistoryRecord(
+                deleteHistory.getContentType(),
+                deleteHistory.getContentId(),
+                deleteHistory.getDeletedById(),
+                deleteHistory.getCreateDate());
+    }
+}
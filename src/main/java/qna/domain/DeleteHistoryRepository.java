@@ -1,6 +1,28 @@
 package qna.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface DeleteHistoryRepository extends JpaRepository<DeleteHistory, Long> {
+    @Query("select new qna.domain.PurgeTarget(h.id, h.contentId) from DeleteHistory h " +
+            "where h.contentType = :contentType and h.id > :afterId and h.createDate < :before " +
+            "order by h.id")
+    List<PurgeTarget> findPurgeTargets(
+            @Param("contentType") ContentType contentType,
+            @Param("afterId") Long afterId,
+            @Param("before") LocalDateTime before,
+            Pageable pageable);
+
+    boolean existsByContentTypeAndContentIdAndDeletedBy_Id(ContentType contentType, Long contentId, Long deletedById);
+
+    long countByContentTypeAndCreateDateBefore(ContentType contentType, LocalDateTime before);
+
+    @Query("select new qna.domain.DeleteHistoryRecord(h.contentType, h.contentId, h.deletedBy.id, h.createDate) " +
+            "from DeleteHistory h where h.createDate >= :from and h.createDate < :to order by h.createDate, h.id")
+    List<DeleteHistoryRecord> findRecordsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
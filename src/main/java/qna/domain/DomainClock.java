@@ -0,0 +1,29 @@
+package qna.domain;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 엔티티가 생성/변경 시각을 읽는 시계. 엔티티는 빈이 아니라서 주입받을 수 없으므로
+ * TimeSourceConfiguration이 시작할 때 설정한 Clock 빈을 여기에 끼워 둔다. 테스트에서는 고정 시계로 바꿀 수 있다.
+ * 한 번의 논리적 변경(질문 삭제 등)은 now()를 한 번만 읽고 그 시각을 나눠 쓴다.
+ */
+public final class DomainClock {
+    private static volatile Clock clock = Clock.systemDefaultZone();
+
+    private DomainClock() {
+    }
+
+    public static LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    public static Clock clock() {
+        return clock;
+    }
+
+    public static void use(Clock clock) {
+        DomainClock.clock = Objects.requireNonNull(clock);
+    }
+}
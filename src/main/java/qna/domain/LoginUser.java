@@ -0,0 +1,26 @@
+package qna.domain;
+
+import java.util.Objects;
+
+/**
+ * 요청을 보낸 사용자를 나타내는 불변 값. 권한 확인에는 id만 쓰므로 User 엔티티를 읽지 않고도 소유자를 비교할 수 있다.
+ * 로그인하지 않은 사용자는 id가 없는 GUEST로 나타내며, GUEST는 어떤 글의 소유자도 아니다.
+ */
+public record LoginUser(Long id, String userId, String name) {
+    public static final LoginUser GUEST = new LoginUser(null, null, null);
+
+    public static LoginUser of(User user) {
+        if (Objects.isNull(user) || user.isGuestUser() || Objects.isNull(user.getId())) {
+            return GUEST;
+        }
+        return new LoginUser(user.getId(), user.getUserId(), user.getName());
+    }
+
+    public boolean isGuest() {
+        return Objects.isNull(id);
+    }
+
+    public boolean isOwnerOf(Long writerId) {
+        return !isGuest() && id.equals(writerId);
+    }
+}
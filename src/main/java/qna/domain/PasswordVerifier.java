@@ -0,0 +1,9 @@
+package qna.domain;
+
+/**
+ * 사용자가 입력한 비밀번호가 저장된 비밀번호(해시)와 일치하는지 확인한다.
+ */
+@FunctionalInterface
+public interface PasswordVerifier {
+    boolean matches(User user, String rawPassword);
+}
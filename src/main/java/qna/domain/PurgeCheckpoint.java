@@ -0,0 +1,62 @@
+package qna.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+
+import java.time.LocalDateTime;
+
+/**
+ * ContentType별 보존 기간 정리(purge) 진행 위치.
+ * 재시작하더라도 마지막으로 처리한 DeleteHistory id 다음부터 이어서 정리한다.
+ */
+@Entity
+public class PurgeCheckpoint {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ContentType contentType;
+
+    @Column(nullable = false)
+    private long lastDeleteHistoryId;
+
+    @Column(nullable = false)
+    private long purgedRows;
+
+    @Column(columnDefinition = "TIMESTAMP")
+    private LocalDateTime updatedAt;
+
+    protected PurgeCheckpoint() {
+    }
+
+    public PurgeCheckpoint(ContentType contentType) {
+        this.contentType = contentType;
+    }
+
+    public void advance(long lastDeleteHistoryId, int purgedRows) {
+        this.lastDeleteHistoryId = lastDeleteHistoryId;
+        this.purgedRows += purgedRows;
+        this.updatedAt = DomainClock.now();
+    }
+
+    // 한 바퀴를 다 돌면 처음부터 다시 훑는다. (id 순서와 생성 시각 순서가 어긋난 행을 놓치지 않기 위함)
+    public void rewind() {
+        this.lastDeleteHistoryId = 0L;
+        this.updatedAt = DomainClock.now();
+    }
+
+    public ContentType getContentType() {
+        return contentType;
+    }
+
+    public long getLastDeleteHistoryId() {
+        return lastDeleteHistoryId;
+    }
+
+    public long getPurgedRows() {
+        return purgedRows;
+    }
+}
@@ -0,0 +1,6 @@
+package qna.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PurgeCheckpointRepository extends JpaRepository<PurgeCheckpoint, ContentType> {
+}
@@ -0,0 +1,7 @@
+package qna.domain;
+
+/**
+ * 정리 대상 DeleteHistory의 id와 그 이력이 가리키는 콘텐츠 id.
+ */
+public record PurgeTarget(Long deleteHistoryId, Long contentId) {
+}
@@ -3,13 +3,16 @@ package qna.domain;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import org.hibernate.annotations.Where;
 import qna.exception.CannotDeleteException;
 
@@ -18,6 +21,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(ContentChangeListener.class)
+@Table(
+        indexes = @Index(name = "idx_question_writer_deleted_created", columnList = "writer_id, deleted, created_at")
+)
 public class Question {
 
     @Id
@@ -45,12 +52,16 @@ public class Question {
     @Column(nullable = false)
     private boolean deleted = false;
 
-    @Column(columnDefinition = "TIMESTAMP", nullable = false)
-    private LocalDateTime createdAt = LocalDateTime.now();
+    @Column(name = "created_at", columnDefinition = "TIMESTAMP", nullable = false)
+    private LocalDateTime createdAt = DomainClock.now();
 
     @Column(columnDefinition = "TIMESTAMP")
     private LocalDateTime updatedAt;
 
+    // QuestionViewCounter가 모아서 일괄 UPDATE로만 더한다. 엔티티를 저장할 때 덮어쓰지 않도록 updatable = false.
+    @Column(columnDefinition = "BIGINT DEFAULT 0", nullable = false, updatable = false)
+    private long viewCount;
+
     protected Question() {
     }
 
@@ -74,6 +85,10 @@ public class Question {
         return this.writer.equals(writer);
     }
 
+    public boolean isOwner(LoginUser loginUser) {
+        return loginUser.isOwnerOf(writer.getId());
+    }
+
     public void addAnswer(Answer answer) {
         answer.toQuestion(this); // Answer가 Question을 참조하게 만드는 부분
         this.answers.add(answer);
@@ -83,6 +98,16 @@ public class Question {
         return id;
     }
 
+    // 메모리 저장소가 저장할 때 id를 매긴다.
+    void assignId(Long id) {
+        this.id = id;
+    }
+
+    // 메모리 저장소가 조회할 때 지연 로딩 대신 살아 있는 답변을 채운다.
+    void loadAnswers(List<Answer> answers) {
+        this.answers = new ArrayList<>(answers);
+    }
+
     public String getTitle() {
         return title;
     }
@@ -107,47 +132,110 @@ public class Question {
         return deleted;
     }
 
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getViewCount() {
+        return viewCount;
+    }
+
     public List<DeleteHistory> delete() {
-        List<DeleteHistory> deleteHistories = new ArrayList<>();
-        deleteHistories.add(this.deleteQuestion());
-        deleteHistories.addAll(this.deleteAnswers());
+        return delete(DomainClock.now());
+    }
+
+    public List<DeleteHistory> delete(LocalDateTime deletedAt) {
+        List<DeleteHistory> deleteHistories = new ArrayList<>(1 + answers.size());
+        deleteHistories.add(this.deleteQuestion(deletedAt));
+        deleteHistories.addAll(this.deleteAnswers(deletedAt));
         return deleteHistories;
     }
 
     public DeleteHistory deleteQuestion() {
+        return deleteQuestion(DomainClock.now());
+    }
+
+    public DeleteHistory deleteQuestion(LocalDateTime deletedAt) {
         this.deleted = true;
         return new DeleteHistory(
                 ContentType.QUESTION,
                 id,
                 writer,
-                LocalDateTime.now());
+                deletedAt);
     }
 
     public List<DeleteHistory> deleteAnswers() {
-        List<DeleteHistory> deleteHistories = new ArrayList<>();
+        return deleteAnswers(DomainClock.now());
+    }
+
+    public List<DeleteHistory> deleteAnswers(LocalDateTime deletedAt) {
+        List<DeleteHistory> deleteHistories = new ArrayList<>(answers.size());
         for (Answer answer : answers) {
-            deleteHistories.add(answer.delete());
+            deleteHistories.add(answer.delete(deletedAt));
         }
         return deleteHistories;
     }
 
+    /**
+     * 질문과 답변의 삭제 이력을 buffer[offset]부터 채운다. 채운 개수(1 + 답변 수)를 돌려준다.
+     */
+    public int deleteInto(DeleteHistory[] buffer, int offset, LocalDateTime deletedAt) {
+        int position = offset;
+        buffer[position++] = deleteQuestion(deletedAt);
+        for (Answer answer : answers) {
+            buffer[position++] = answer.delete(deletedAt);
+        }
+        return position - offset;
+    }
+
+    // 예외를 만들지 않고 삭제할 수 있는지만 본다. 여러 질문을 한꺼번에 확인할 때 쓴다.
+    public boolean isDeletableBy(LoginUser loginUser) {
+        if (!isOwner(loginUser)) {
+            return false;
+        }
+        for (Answer answer : answers) {
+            if (!answer.isOwner(loginUser)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public void validate(User loginUser) {
         validateOwnership(loginUser);
         validateAllAnswerOwnership(loginUser);
     }
 
+    // User 엔티티 대신 id만 비교하므로 로그인 사용자를 다시 읽어 올 필요가 없다.
+    public void validate(LoginUser loginUser) {
+        validateOwnership(loginUser);
+        validateAllAnswerOwnership(loginUser);
+    }
+
     protected void validateOwnership(User loginUser) {
         if (!isOwner(loginUser)) {
             throw new CannotDeleteException("질문을 삭제할 권한이 없습니다.");
         }
     }
 
+    public void validateOwnership(LoginUser loginUser) {
+        if (!isOwner(loginUser)) {
+            throw new CannotDeleteException("질문을 삭제할 권한이 없습니다.");
+        }
+    }
+
     protected void validateAllAnswerOwnership(User loginUser) {
         for (Answer answer : answers) {
             answer.validateOwnership(loginUser);
         }
     }
 
+    protected void validateAllAnswerOwnership(LoginUser loginUser) {
+        for (Answer answer : answers) {
+            answer.validateOwnership(loginUser);
+        }
+    }
+
     @Override
     public String toString() {
         return "Question{" +
@@ -0,0 +1,124 @@
+package qna.domain;
+
+import qna.exception.CannotDeleteException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 여러 질문을 한꺼번에 확인하고 삭제 이력을 만든다.
+ * 확인과 이력 생성은 질문 단위로 나눠 ForkJoinPool에서 병렬로 처리하고, 모든 이력은 같은 삭제 시각을 쓴다.
+ * 질문마다 이력이 들어갈 위치를 먼저 계산해 두므로 결과는 크기가 정해진 배열 하나에 바로 채워진다.
+ *
+ * 한 질문이라도 삭제할 수 없으면 아무것도 바꾸지 않고 CannotDeleteException을 던진다.
+ * 병렬 작업은 영속성 컨텍스트에 접근하면 안 되므로, 답변 컬렉션은 호출한 스레드에서 위치를 계산하면서 모두 읽어 둔다.
+ */
+public class QuestionBatchDeleter {
+    // 이력이 이 수 이하인 범위는 더 나누지 않고 한 작업에서 처리한다.
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private final ForkJoinPool pool;
+
+    public QuestionBatchDeleter(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public List<DeleteHistory> delete(List<Question> questions, LoginUser loginUser, LocalDateTime deletedAt) {
+        Question[] targets = questions.toArray(new Question[0]);
+        int[] offsets = new int[targets.length + 1];
+        for (int i = 0; i < targets.length; i++) {
+            offsets[i + 1] = offsets[i] + 1 + targets[i].getAnswers().size();
+        }
+
+        boolean[] deletable = new boolean[targets.length];
+        pool.invoke(new Validate(targets, offsets, loginUser, deletable, 0, targets.length));
+        for (int i = 0; i < targets.length; i++) {
+            if (!deletable[i]) {
+                // 같은 메시지로 실패하도록 해당 질문의 검증을 다시 실행한다.
+                targets[i].validate(loginUser);
+                throw new CannotDeleteException("질문을 삭제할 권한이 없습니다.");
+            }
+        }
+
+        DeleteHistory[] histories = new DeleteHistory[offsets[targets.length]];
+        pool.invoke(new Build(targets, offsets, histories, deletedAt, 0, targets.length));
+        return Arrays.asList(histories);
+    }
+
+    // 답변 수가 질문마다 크게 다르므로 질문 수가 아니라 이력 수가 반씩 되도록 나눈다.
+    private static boolean sequential(int[] offsets, int from, int to) {
+        return to - from == 1 || offsets[to] - offsets[from] <= SEQUENTIAL_THRESHOLD;
+    }
+
+    private static int split(int[] offsets, int from, int to) {
+        int target = (offsets[from] + offsets[to]) >>> 1;
+        int found = Arrays.binarySearch(offsets, from + 1, to, target);
+        int middle = found >= 0 ? found : -found - 1;
+        return Math.min(Math.max(middle, from + 1), to - 1);
+    }
+
+    private static final class Validate extends RecursiveAction {
+        private final Question[] questions;
+        private final int[] offsets;
+        private final LoginUser loginUser;
+        private final boolean[] deletable;
+        private final int from;
+        private final int to;
+
+        private Validate(Question[] questions, int[] offsets, LoginUser loginUser, boolean[] deletable, int from, int to) {
+            this.questions = questions;
+            this.offsets = offsets;
+            this.loginUser = loginUser;
+            this.deletable = deletable;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (sequential(offsets, from, to)) {
+                for (int i = from; i < to; i++) {
+                    deletable[i] = questions[i].isDeletableBy(loginUser);
+                }
+                return;
+            }
+            int middle = split(offsets, from, to);
+            invokeAll(new Validate(questions, offsets, loginUser, deletable, from, middle),
+                    new Validate(questions, offsets, loginUser, deletable, middle, to));
+        }
+    }
+
+    private static final class Build extends RecursiveAction {
+        private final Question[] questions;
+        private final int[] offsets;
+        private final DeleteHistory[] histories;
+        private final LocalDateTime deletedAt;
+        private final int from;
+        private final int to;
+
+        private Build(Question[] questions, int[] offsets, DeleteHistory[] histories, LocalDateTime deletedAt, int from, int to) {
+            this.questions = questions;
+            this.offsets = offsets;
+            this.histories = histories;
+            this.deletedAt = deletedAt;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (sequential(offsets, from, to)) {
+                for (int i = from; i < to; i++) {
+                    questions[i].deleteInto(histories, offsets[i], deletedAt);
+                }
+                return;
+            }
+            int middle = split(offsets, from, to);
+            invokeAll(new Build(questions, offsets, histories, deletedAt, from, middle),
+                    new Build(questions, offsets, histories, deletedAt, middle, to));
+        }
+    }
+}
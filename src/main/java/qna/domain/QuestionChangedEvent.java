@@ -0,0 +1,8 @@
+package qna.domain;
+
+/**
+ * Question 또는 그 Question에 달린 Answer가 저장/수정/삭제되었음을 알리는 이벤트.
+ * 읽기 전용 저장소(QuestionListing)처럼 Question 단위로 다시 계산해야 하는 곳에서 구독한다.
+ */
+public record QuestionChangedEvent(Long questionId) {
+}
@@ -0,0 +1,7 @@
+package qna.domain;
+
+/**
+ * 답변이 많은 질문의 삭제 작업(QuestionDeleteJob)이 끝났음을 알리는 이벤트.
+ */
+public record QuestionDeleteCompletedEvent(Long questionId, long deletedAnswers) {
+}
@@ -0,0 +1,132 @@
+package qna.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 답변이 많은 질문의 삭제 작업과 진행 위치.
+ * 질문은 작업을 만들 때 바로 삭제(숨김)되고, 답변은 짧은 트랜잭션마다 chunk 단위로 삭제되며 커서가 앞으로 간다.
+ * 중간에 멈추더라도 마지막 커서 다음부터 이어서 처리한다.
+ * 삭제자의 답변만 지우므로, 작업을 만든 뒤에 다른 사람의 답변이 들어와 남아 있으면 BLOCKED로 끝내 드러낸다.
+ */
+@Entity
+@Table(
+        name = "question_delete_job",
+        indexes = @Index(name = "idx_question_delete_job_status_updated", columnList = "status, updated_at")
+)
+public class QuestionDeleteJob {
+
+    public enum Status {
+        RUNNING, COMPLETED, BLOCKED
+    }
+
+    @Id
+    private Long questionId;
+
+    @ManyToOne
+    @JoinColumn(nullable = false)
+    private User deletedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status = Status.RUNNING;
+
+    @Column(columnDefinition = "TIMESTAMP")
+    private LocalDateTime cursorCreatedAt;
+
+    private Long cursorAnswerId;
+
+    @Column(nullable = false)
+    private long deletedAnswers;
+
+    @Column(columnDefinition = "TIMESTAMP", nullable = false)
+    private LocalDateTime startedAt = DomainClock.now();
+
+    @Column(name = "updated_at", columnDefinition = "TIMESTAMP", nullable = false)
+    private LocalDateTime updatedAt = startedAt;
+
+    @Column(columnDefinition = "TIMESTAMP")
+    private LocalDateTime completedAt;
+
+    // 여러 인스턴스가 같은 작업을 이어받아도 한 chunk를 두 번 처리하지 않도록 한다.
+    @Version
+    private Long version;
+
+    protected QuestionDeleteJob() {
+    }
+
+    public QuestionDeleteJob(Question question) {
+        this.questionId = question.getId();
+        this.deletedBy = question.getWriter();
+    }
+
+    public AnswerCursor cursor() {
+        if (Objects.isNull(cursorAnswerId)) {
+            return null;
+        }
+        return new AnswerCursor(cursorCreatedAt, cursorAnswerId);
+    }
+
+    public void advance(AnswerCursor last, int deletedAnswers) {
+        this.cursorCreatedAt = last.createdAt();
+        this.cursorAnswerId = last.id();
+        this.deletedAnswers += deletedAnswers;
+        this.updatedAt = DomainClock.now();
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.completedAt = DomainClock.now();
+        this.updatedAt = completedAt;
+    }
+
+    // 다른 사람의 답변이 남아 질문을 다 지우지 못했다. 다시 처리하지 않는다.
+    public void block() {
+        this.status = Status.BLOCKED;
+        this.completedAt = DomainClock.now();
+        this.updatedAt = completedAt;
+    }
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+
+    public boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    public Long getQuestionId() {
+        return questionId;
+    }
+
+    public User getDeletedBy() {
+        return deletedBy;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getDeletedAnswers() {
+        return deletedAnswers;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -0,0 +1,16 @@
+package qna.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface QuestionDeleteJobRepository extends JpaRepository<QuestionDeleteJob, Long> {
+
+    @Query("select j.questionId from QuestionDeleteJob j where j.status = :status and j.updatedAt < :before order by j.updatedAt")
+    List<Long> findIdsByStatusAndUpdatedAtBefore(
+            @Param("status") QuestionDeleteJob.Status status,
+            @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,27 @@
+package qna.domain;
+
+/**
+ * 질문 삭제 요청의 결과. 같은 멱등 키로 재시도하면 처음 요청의 결과를 그대로 돌려준다.
+ */
+public record QuestionDeleteResult(Long questionId, Status status) {
+    public enum Status {
+        // 질문과 답변을 모두 지웠다
+        DELETED,
+        // 질문을 지웠고, 답변은 삭제 작업이 커밋 후에 지운다
+        DELETE_JOB_STARTED,
+        // 같은 사용자가 이미 지운 질문이다
+        ALREADY_DELETED
+    }
+
+    public static QuestionDeleteResult deleted(Long questionId) {
+        return new QuestionDeleteResult(questionId, Status.DELETED);
+    }
+
+    public static QuestionDeleteResult deleteJobStarted(Long questionId) {
+        return new QuestionDeleteResult(questionId, Status.DELETE_JOB_STARTED);
+    }
+
+    public static QuestionDeleteResult alreadyDeleted(Long questionId) {
+        return new QuestionDeleteResult(questionId, Status.ALREADY_DELETED);
+    }
+}
@@ -0,0 +1,7 @@
+package qna.domain;
+
+/**
+ * Question이 삭제(숨김)되었다.
+ */
+public record QuestionDeletedEvent(Long questionId) {
+}
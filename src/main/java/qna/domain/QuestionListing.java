@@ -0,0 +1,100 @@
+package qna.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 질문 목록 조회 전용으로 비정규화한 읽기 모델.
+ * Question 한 건당 한 행이며, Question/Answer 변경 이벤트로부터 다시 계산된다.
+ */
+@Entity
+@Table(
+        name = "question_listing",
+        indexes = @Index(name = "idx_question_listing_last_activity", columnList = "last_activity_at")
+)
+public class QuestionListing {
+
+    @Id
+    private Long questionId;
+
+    @Column(length = 100, nullable = false)
+    private String title;
+
+    private String writerName;
+
+    @Column(nullable = false)
+    private long answerCount;
+
+    @Column(name = "last_activity_at", columnDefinition = "TIMESTAMP", nullable = false)
+    private LocalDateTime lastActivityAt;
+
+    @Column(columnDefinition = "TIMESTAMP", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    protected QuestionListing() {
+    }
+
+    public QuestionListing(Long questionId) {
+        this.questionId = questionId;
+    }
+
+    // JPQL 생성자 표현식(QuestionListingRepository.projectAfter)과 QuestionListingService.refresh에서 사용
+    public QuestionListing(Long questionId, String title, String writerName, Long answerCount, LocalDateTime lastActivityAt) {
+        this.questionId = questionId;
+        this.title = title;
+        this.writerName = writerName;
+        this.answerCount = answerCount;
+        this.lastActivityAt = lastActivityAt;
+    }
+
+    public void update(String title, String writerName, long answerCount, LocalDateTime lastActivityAt) {
+        this.title = title;
+        this.writerName = writerName;
+        this.answerCount = answerCount;
+        this.lastActivityAt = lastActivityAt;
+    }
+
+    public void refreshedAt(LocalDateTime refreshedAt) {
+        this.refreshedAt = refreshedAt;
+    }
+
+    public Long getQuestionId() {
+        return questionId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getWriterName() {
+        return writerName;
+    }
+
+    public long getAnswerCount() {
+        return answerCount;
+    }
+
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "QuestionListing{" +
+                "questionId=" + questionId +
+                ", title='" + title + '\'' +
+                ", writerName='" + writerName + '\'' +
+                ", answerCount=" + answerCount +
+                ", lastActivityAt=" + lastActivityAt +
+                '}';
+    }
+}
@@ -0,0 +1,26 @@
+package qna.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface QuestionListingRepository extends JpaRepository<QuestionListing, Long> {
+    List<QuestionListing> findAllByOrderByLastActivityAtDesc(Pageable pageable);
+
+    @Query("select new qna.domain.QuestionListing(q.id, q.title, w.name, count(a.id), coalesce(max(a.createdAt), q.createdAt)) " +
+            "from Question q join q.writer w " +
+            "left join Answer a on a.question = q and a.deleted = false " +
+            "where q.deleted = false and q.id > :afterId " +
+            "group by q.id, q.title, w.name, q.createdAt " +
+            "order by q.id")
+    List<QuestionListing> projectAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from QuestionListing l where l.refreshedAt < :refreshedAt")
+    int deleteRefreshedBefore(@Param("refreshedAt") LocalDateTime refreshedAt);
+}
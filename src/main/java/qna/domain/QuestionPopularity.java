@@ -0,0 +1,7 @@
+package qna.domain;
+
+/**
+ * 조회 수를 시간에 따라 감쇠시킨 Question의 인기 점수. 최근 조회일수록 크게 반영된다.
+ */
+public record QuestionPopularity(Long questionId, double score) {
+}
@@ -1,12 +1,67 @@
 package qna.domain;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findByDeletedFalse();
 
+    long countByDeletedFalse();
+
     Optional<Question> findByIdAndDeletedFalse(Long id);
+
+    // 같은 질문을 지우는 트랜잭션끼리 차례로 실행되게 행을 잠근다. 지워진 질문도 돌려주므로 deleted를 확인해야 한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select q from Question q where q.id = :id")
+    Optional<Question> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select distinct q from Question q left join fetch q.answers where q.deleted = false order by q.id")
+    List<Question> findLiveWithAnswers();
+
+    @Query("select distinct q from Question q left join fetch q.answers where q.id in :ids and q.deleted = false")
+    List<Question> findLiveWithAnswersByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 일괄 삭제용. 여러 요청이 같은 질문들을 잠가도 교착되지 않도록 id 순서로 잠근다.
+    // FOR UPDATE는 DISTINCT와 함께 쓸 수 없으므로 중복 제거는 Hibernate에 맡긴다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select q from Question q left join fetch q.answers where q.id in :ids and q.deleted = false order by q.id")
+    List<Question> findLiveWithAnswersByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("select q.id from Question q where q.id in :ids and q.deleted = false")
+    List<Long> findLiveIds(@Param("ids") Collection<Long> ids);
+
+    // (writer_id, deleted, created_at) 인덱스를 타는 최신순 keyset 페이지
+    @Query("select new qna.domain.UserContent(qna.domain.ContentType.QUESTION, q.id, q.id, q.title, q.createdAt) from Question q " +
+            "where q.writer.id = :writerId and q.deleted = false " +
+            "order by q.createdAt desc, q.id desc")
+    List<UserContent> findWrittenFirstPage(@Param("writerId") Long writerId, Pageable pageable);
+
+    @Query("select new qna.domain.UserContent(qna.domain.ContentType.QUESTION, q.id, q.id, q.title, q.createdAt) from Question q " +
+            "where q.writer.id = :writerId and q.deleted = false " +
+            "and (q.createdAt < :createdAt or (q.createdAt = :createdAt and q.id < :id)) " +
+            "order by q.createdAt desc, q.id desc")
+    List<UserContent> findWrittenPageAfter(
+            @Param("writerId") Long writerId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    long countByWriter_IdAndDeletedFalse(Long writerId);
+
+    @Query("select max(q.createdAt) from Question q where q.writer.id = :writerId")
+    Optional<LocalDateTime> findLastWrittenAt(@Param("writerId") Long writerId);
+
+    @Modifying
+    @Query("delete from Question q where q.id in :ids and q.deleted = true")
+    int deleteSoftDeletedByIdIn(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,31 @@
+package qna.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캐시해서 여러 요청이 함께 읽는 Question의 불변 스냅샷. 엔티티와 달리 영속성 컨텍스트 밖에서 공유해도 안전하다.
+ */
+public record QuestionView(
+        Long id,
+        String title,
+        String contents,
+        Long writerId,
+        String writerName,
+        LocalDateTime createdAt,
+        List<AnswerView> answers
+) {
+    public static QuestionView of(Question question) {
+        List<AnswerView> answers = question.getAnswers().stream()
+                .map(AnswerView::of)
+                .toList();
+        return new QuestionView(
+                question.getId(),
+                question.getTitle(),
+                question.getContents(),
+                question.getWriterId(),
+                question.getWriter().getName(),
+                question.getCreatedAt(),
+                answers);
+    }
+}
@@ -0,0 +1,17 @@
+package qna.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * IDENTITY 대신 TimeOrderedIdGenerator로 id를 매긴다. persist할 때 id가 정해지므로 INSERT를 flush까지 미루고 배치로 보낼 수 있다.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
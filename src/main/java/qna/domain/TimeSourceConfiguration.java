@@ -0,0 +1,31 @@
+package qna.domain;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * 설정한 Clock과 TimeOrderedIdGenerator를 빈으로 만들고, 빈이 아닌 엔티티도 쓸 수 있도록 DomainClock과 TimeOrderedIdGenerator에 끼워 둔다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TimeSourceConfiguration {
+
+    @Bean
+    public Clock clock(TimeSourceProperties properties) {
+        Clock clock = switch (properties.clock()) {
+            case SYSTEM -> Clock.systemDefaultZone();
+            case COARSE -> CoarseClock.start(ZoneId.systemDefault(), properties.coarseResolution());
+        };
+        DomainClock.use(clock);
+        return clock;
+    }
+
+    @Bean
+    public TimeOrderedIdGenerator timeOrderedIdGenerator(Clock clock, TimeSourceProperties properties) {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock, properties.nodeId());
+        TimeOrderedIdGenerator.use(generator);
+        return generator;
+    }
+}
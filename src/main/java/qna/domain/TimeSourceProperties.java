@@ -0,0 +1,30 @@
+package qna.domain;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 시계와 id 생성기 설정. (qna.time.*)
+ *
+ * @param clock            SYSTEM은 호출마다 시스템 시계를 읽고, COARSE는 coarseResolution마다 읽어 둔 값을 쓴다
+ * @param coarseResolution COARSE 시계가 시스템 시계를 읽는 간격. 시각이 이만큼 늦을 수 있다
+ * @param nodeId           id 생성기 노드 번호(0~1023). 같은 DB에 쓰는 프로세스마다 달라야 한다
+ */
+@ConfigurationProperties(prefix = "qna.time")
+public record TimeSourceProperties(
+        @DefaultValue("SYSTEM") Mode clock,
+        @DefaultValue("1ms") Duration coarseResolution,
+        @DefaultValue("0") int nodeId
+) {
+    public TimeSourceProperties {
+        if (nodeId < 0 || nodeId > TimeOrderedIdGenerator.MAX_NODE) {
+            throw new IllegalArgumentException("nodeId는 0부터 " + TimeOrderedIdGenerator.MAX_NODE + "까지입니다.");
+        }
+    }
+
+    public enum Mode {
+        SYSTEM, COARSE
+    }
+}
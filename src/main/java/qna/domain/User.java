@@ -2,6 +2,7 @@ package qna.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
+@EntityListeners(ContentChangeListener.class)
 @Table(name = "users")
 public class User {
     public static final GuestUser GUEST_USER = new GuestUser();
@@ -30,7 +32,7 @@ public class User {
     private String email;
 
     @Column(columnDefinition = "TIMESTAMP", nullable = false)
-    private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime createdAt = DomainClock.now();
 
     @Column(columnDefinition = "TIMESTAMP")
     private LocalDateTime updatedAt;
@@ -50,12 +52,13 @@ public class User {
         this.email = email;
     }
 
-    public void update(User loginUser, User target) {
+    // target.password는 사용자가 입력한 평문 비밀번호
+    public void update(User loginUser, User target, PasswordVerifier passwordVerifier) {
         if (!matchUserId(loginUser.userId)) {
             throw new UnAuthorizedException();
         }
 
-        if (!matchPassword(target.password)) {
+        if (!matchPassword(target.password, passwordVerifier)) {
             throw new UnAuthorizedException();
         }
 
@@ -67,8 +70,8 @@ public class User {
         return this.userId.equals(userId);
     }
 
-    public boolean matchPassword(String targetPassword) {
-        return this.password.equals(targetPassword);
+    public boolean matchPassword(String rawPassword, PasswordVerifier passwordVerifier) {
+        return passwordVerifier.matches(this, rawPassword);
     }
 
     public boolean equalsNameAndEmail(User target) {
@@ -146,7 +149,6 @@ public class User {
         return "User{" +
                 "id=" + id +
                 ", userId='" + userId + '\'' +
-                ", password='" + password + '\'' +
                 ", name='" + name + '\'' +
                 ", email='" + email + '\'' +
                 '}';
@@ -0,0 +1,76 @@
+package qna.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 사용자별 질문/답변 수와 마지막 활동 시각. 글이 저장되거나 삭제될 때마다 증감으로 갱신하므로
+ * 프로필을 보여줄 때 질문/답변 테이블을 세지 않는다. 샤딩과 관계없이 기본 샤드에만 둔다.
+ */
+@Entity
+@Table(name = "user_activity")
+public class UserActivity {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private long questionCount;
+
+    @Column(nullable = false)
+    private long answerCount;
+
+    @Column(columnDefinition = "TIMESTAMP")
+    private LocalDateTime lastActivityAt;
+
+    @Column(columnDefinition = "TIMESTAMP", nullable = false)
+    private LocalDateTime updatedAt = DomainClock.now();
+
+    protected UserActivity() {
+    }
+
+    public UserActivity(Long userId) {
+        this.userId = userId;
+    }
+
+    public void apply(long questionDelta, long answerDelta, LocalDateTime activityAt) {
+        this.questionCount = Math.max(0, questionCount + questionDelta);
+        this.answerCount = Math.max(0, answerCount + answerDelta);
+        if (Objects.nonNull(activityAt) && (Objects.isNull(lastActivityAt) || lastActivityAt.isBefore(activityAt))) {
+            this.lastActivityAt = activityAt;
+        }
+        this.updatedAt = DomainClock.now();
+    }
+
+    public void reset(long questionCount, long answerCount, LocalDateTime lastActivityAt) {
+        this.questionCount = questionCount;
+        this.answerCount = answerCount;
+        this.lastActivityAt = lastActivityAt;
+        this.updatedAt = DomainClock.now();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getQuestionCount() {
+        return questionCount;
+    }
+
+    public long getAnswerCount() {
+        return answerCount;
+    }
+
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,9 @@
+package qna.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자의 질문/답변 수가 바뀌었다. 삭제되면 delta가 음수이고, activityAt은 새 글을 쓴 시각이다. (삭제면 null)
+ */
+public record UserActivityChangedEvent(Long userId, int questionDelta, int answerDelta, LocalDateTime activityAt) {
+}
@@ -0,0 +1,34 @@
+package qna.domain;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface UserActivityRepository extends JpaRepository<UserActivity, Long> {
+
+    // 다시 세는 동안 applyDelta가 끼어들지 못하게 행을 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from UserActivity a where a.userId = :userId")
+    Optional<UserActivity> findByIdForUpdate(@Param("userId") Long userId);
+
+    // 읽고 고쳐 쓰지 않고 한 문장으로 더하므로 동시에 갱신해도 증감이 사라지지 않는다. 행이 없으면 0을 돌려준다.
+    @Modifying
+    @Query("update UserActivity a set " +
+            "a.questionCount = case when a.questionCount + :questionDelta < 0 then 0 else a.questionCount + :questionDelta end, " +
+            "a.answerCount = case when a.answerCount + :answerDelta < 0 then 0 else a.answerCount + :answerDelta end, " +
+            "a.lastActivityAt = case when a.lastActivityAt is null or a.lastActivityAt < :activityAt then :activityAt else a.lastActivityAt end, " +
+            "a.updatedAt = :now " +
+            "where a.userId = :userId")
+    int applyDelta(
+            @Param("userId") Long userId,
+            @Param("questionDelta") long questionDelta,
+            @Param("answerDelta") long answerDelta,
+            @Param("activityAt") LocalDateTime activityAt,
+            @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package qna.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자가 쓴 질문이나 답변 한 건. 답변이면 title은 답변한 질문의 제목이다.
+ */
+public record UserContent(ContentType contentType, Long id, Long questionId, String title, LocalDateTime createdAt) {
+    public ContentCursor cursor() {
+        return new ContentCursor(createdAt, id);
+    }
+}
@@ -1,9 +1,23 @@
 package qna.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserId(String userId);
+
+    @Query("select u.id from User u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select u from User u where u.id > :afterId and u.password not like :hashedPrefix order by u.id")
+    List<User> findPasswordsNotHashed(@Param("afterId") Long afterId, @Param("hashedPrefix") String hashedPrefix, Pageable pageable);
+
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
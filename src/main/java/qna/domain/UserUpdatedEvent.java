@@ -0,0 +1,8 @@
+package qna.domain;
+
+/**
+ * 사용자가 저장되거나 정보가 바뀌었음을 알리는 이벤트.
+ * 사용자 정보를 복사해 들고 있는 곳(LoginUserResolver, 샤드 간 users 복제)에서 구독한다.
+ */
+public record UserUpdatedEvent(Long userId) {
+}
@@ -0,0 +1,34 @@
+package qna.shard;
+
+/**
+ * 현재 스레드가 사용할 샤드 번호. 묶인 샤드가 없으면 기본 샤드(0)를 쓴다.
+ * 커넥션은 첫 SQL 시점에 가져오므로(LazyConnectionDataSourceProxy) 트랜잭션 안에서도 첫 조회 전에만 묶으면 된다.
+ */
+public final class ShardContext {
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard == null ? ShardRouter.PRIMARY : shard;
+    }
+
+    public static Scope bind(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,49 @@
+package qna.shard;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Question id로 샤드를 정한다. Answer는 자신이 속한 Question의 샤드에 함께 둔다.
+ *
+ * 샤드마다 question.id 컬럼을 (시작 값 = 샤드 번호, 증가 값 = 샤드 수)로 맞춰 두므로
+ * 어느 샤드에서 발급된 Question id든 floorMod(id, 샤드 수)가 곧 그 질문이 있는 샤드다.
+ * Answer id는 시각 순서 id(@TimeOrderedId)라 샤드와 관계가 없으므로, 답변은 question id로만 샤드를 찾는다.
+ * 새 Question은 nextShard()로 돌아가며 고른 샤드에 저장한다.
+ */
+public class ShardRouter {
+    public static final int PRIMARY = 0;
+
+    private final int shardCount;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ShardRouter(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("샤드는 1개 이상이어야 합니다. shardCount=" + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public int shardOf(Long questionId) {
+        if (Objects.isNull(questionId)) {
+            return PRIMARY;
+        }
+        return (int) Math.floorMod(questionId, (long) shardCount);
+    }
+
+    public int nextShard() {
+        return Math.floorMod(next.getAndIncrement(), shardCount);
+    }
+
+    public ShardContext.Scope bindQuestion(Long questionId) {
+        return ShardContext.bind(shardOf(questionId));
+    }
+}
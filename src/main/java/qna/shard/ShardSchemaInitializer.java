@@ -0,0 +1,95 @@
+package qna.shard;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * qna.sharding.initialize-schema=true일 때 시작 시점에 샤드를 준비한다.
+ * 샤드 0의 스키마는 시작 시점의 Flyway 마이그레이션이 만들고, 샤드 1부터는 샤드를 묶은 채 같은 마이그레이션을 돌린다.
+ * (Flyway를 끈 경우에는 같은 매핑으로 Hibernate SchemaManager가 만든다.)
+ * 그다음 모든 샤드의 question id 컬럼을 (시작 값 = 샤드 번호, 증가 값 = 샤드 수)로 바꿔
+ * 샤드가 달라도 id가 겹치지 않고 id만으로 샤드를 알 수 있게 한다. answer id는 INSERT 전에 매기므로(@TimeOrderedId) 바꾸지 않는다.
+ * 이미 있는 사용자는 모든 샤드로 복사한다.
+ */
+@Component
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+    private static final Logger log = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+    private static final List<String> SHARDED_TABLES = List.of("question");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectProvider<Flyway> flyway;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final UserReplicator userReplicator;
+    private final ShardingProperties properties;
+
+    public ShardSchemaInitializer(
+            EntityManagerFactory entityManagerFactory,
+            ObjectProvider<Flyway> flyway,
+            DataSource dataSource,
+            ShardRouter shardRouter,
+            UserReplicator userReplicator,
+            ShardingProperties properties) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.flyway = flyway;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.shardRouter = shardRouter;
+        this.userReplicator = userReplicator;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!shardRouter.isSharded() || !properties.initializeSchema()) {
+            return;
+        }
+
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            try (ShardContext.Scope scope = ShardContext.bind(shard)) {
+                if (shard != ShardRouter.PRIMARY) {
+                    createSchema();
+                }
+                interleaveIds(shard);
+            }
+        }
+        int users = userReplicator.replicateAll();
+        log.info("shards initialized. shards={}, replicatedUsers={}", shardRouter.shardCount(), users);
+    }
+
+    // Flyway는 DataSource(라우팅)에서 커넥션을 얻으므로 지금 묶인 샤드에 마이그레이션이 적용된다.
+    private void createSchema() {
+        Flyway migrator = flyway.getIfAvailable();
+        if (migrator != null) {
+            migrator.migrate();
+            return;
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager().exportMappedObjects(true);
+    }
+
+    private void interleaveIds(int shard) {
+        int shardCount = shardRouter.shardCount();
+        for (String table : SHARDED_TABLES) {
+            Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+            jdbcTemplate.execute("alter table " + table + " alter column id restart with " + nextId(maxId, shard, shardCount));
+            jdbcTemplate.execute("alter table " + table + " alter column id set increment by " + shardCount);
+        }
+    }
+
+    // maxId보다 크면서 샤드 수로 나눈 나머지가 샤드 번호인 가장 작은 양수
+    static long nextId(long maxId, int shard, int shardCount) {
+        long candidate = maxId + 1;
+        long remainder = Math.floorMod(candidate, (long) shardCount);
+        candidate += Math.floorMod(shard - remainder, (long) shardCount);
+        return candidate;
+    }
+}
@@ -0,0 +1,72 @@
+package qna.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤드 DataSource 구성.
+ * 샤드가 하나면 지금까지처럼 spring.datasource.*로 만든 커넥션 풀 하나를 그대로 쓴다.
+ * 여럿이면 ShardContext로 고르는 라우팅 DataSource를 LazyConnectionDataSourceProxy로 감싸서,
+ * 트랜잭션을 시작한 뒤 첫 SQL 전에 샤드를 정해도 그 샤드의 커넥션을 쓰게 한다.
+ * (AOT 처리에서 빈 구성이 고정되므로 조건부 빈 대신 실행 시점에 설정을 읽어 분기한다.)
+ */
+@Configuration(proxyBeanMethods = false)
+public class ShardingConfiguration {
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    public DataSource dataSource(
+            DataSourceProperties dataSourceProperties,
+            ShardingProperties shardingProperties,
+            Environment environment) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+        if (shardingProperties.datasources().isEmpty()) {
+            return primary;
+        }
+
+        Map<Object, Object> shards = new HashMap<>();
+        shards.put(ShardRouter.PRIMARY, primary);
+        List<ShardingProperties.Shard> others = shardingProperties.datasources();
+        for (int i = 0; i < others.size(); i++) {
+            int shard = i + 1;
+            shards.put(shard, shardDataSource(others.get(i), primary, shard, environment));
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(shards);
+        routing.setDefaultTargetDataSource(primary);
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties shardingProperties) {
+        return new ShardRouter(shardingProperties.shardCount());
+    }
+
+    private HikariDataSource shardDataSource(
+            ShardingProperties.Shard shard, HikariDataSource primary, int index, Environment environment) {
+        HikariDataSource dataSource = new HikariDataSource();
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        dataSource.setJdbcUrl(shard.url());
+        dataSource.setUsername(shard.username() != null ? shard.username() : primary.getUsername());
+        dataSource.setPassword(shard.password() != null ? shard.password() : primary.getPassword());
+        dataSource.setPoolName((primary.getPoolName() != null ? primary.getPoolName() : "shard") + "-" + index);
+        return dataSource;
+    }
+}
@@ -0,0 +1,27 @@
+package qna.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 샤딩 설정. (qna.sharding.*)
+ * 샤드 0은 spring.datasource.*를 그대로 쓰고, datasources에 적은 순서대로 샤드 1, 2, ...가 된다.
+ * datasources가 비어 있으면 샤딩하지 않는다.
+ *
+ * @param datasources      샤드 1부터의 접속 정보. 커넥션 풀 설정은 spring.datasource.hikari.*를 함께 쓴다.
+ * @param initializeSchema 시작할 때 샤드 1부터의 스키마를 만들고, 모든 샤드의 id 발급 규칙을 맞출지 여부
+ */
+@ConfigurationProperties(prefix = "qna.sharding")
+public record ShardingProperties(
+        @DefaultValue List<Shard> datasources,
+        @DefaultValue("false") boolean initializeSchema
+) {
+    public int shardCount() {
+        return 1 + datasources.size();
+    }
+
+    public record Shard(String url, String username, String password) {
+    }
+}
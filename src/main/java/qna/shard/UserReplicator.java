@@ -0,0 +1,80 @@
+package qna.shard;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.UserUpdatedEvent;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * users는 모든 샤드에 같은 내용으로 둔다. (question/answer/delete_history가 users를 외래 키로 참조한다)
+ * 사용자는 샤드 0에 저장하고, 커밋된 뒤 다른 샤드에 같은 id로 복사한다.
+ */
+@Component
+public class UserReplicator {
+    private static final Logger log = LoggerFactory.getLogger(UserReplicator.class);
+    private static final String SELECT_USER =
+            "select id, user_id, password, name, email, created_at, updated_at from users where id = ?";
+    private static final String SELECT_ALL_USERS =
+            "select id, user_id, password, name, email, created_at, updated_at from users order by id";
+    private static final String MERGE_USER =
+            "merge into users (id, user_id, password, name, email, created_at, updated_at) key (id) values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTemplate;
+    private final ShardRouter shardRouter;
+
+    public UserReplicator(DataSource dataSource, PlatformTransactionManager transactionManager, ShardRouter shardRouter) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shardRouter = shardRouter;
+    }
+
+    // 커밋 직후에는 끝난 트랜잭션의 커넥션이 아직 스레드에 묶여 있으므로 샤드마다 새 트랜잭션을 연다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        if (!shardRouter.isSharded()) {
+            return;
+        }
+        List<Map<String, Object>> rows = readPrimary(SELECT_USER, event.userId());
+        if (rows.isEmpty()) {
+            log.warn("user to replicate not found on primary shard. userId={}", event.userId());
+            return;
+        }
+        copyToReplicas(rows);
+    }
+
+    public int replicateAll() {
+        List<Map<String, Object>> rows = readPrimary(SELECT_ALL_USERS);
+        copyToReplicas(rows);
+        return rows.size();
+    }
+
+    private List<Map<String, Object>> readPrimary(String sql, Object... args) {
+        try (ShardContext.Scope scope = ShardContext.bind(ShardRouter.PRIMARY)) {
+            return requiresNewTemplate.execute(status -> jdbcTemplate.queryForList(sql, args));
+        }
+    }
+
+    private void copyToReplicas(List<Map<String, Object>> rows) {
+        List<Object[]> args = rows.stream()
+                .map(row -> new Object[]{
+                        row.get("id"), row.get("user_id"), row.get("password"), row.get("name"),
+                        row.get("email"), row.get("created_at"), row.get("updated_at")})
+                .toList();
+        for (int shard = ShardRouter.PRIMARY + 1; shard < shardRouter.shardCount(); shard++) {
+            try (ShardContext.Scope scope = ShardContext.bind(shard)) {
+                requiresNewTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(MERGE_USER, args));
+            }
+        }
+    }
+}
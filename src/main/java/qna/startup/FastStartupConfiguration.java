@@ -0,0 +1,32 @@
+package qna.startup;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import qna.application.BackfillService;
+import qna.application.QnaService;
+import qna.application.QuestionListingService;
+import qna.application.RetentionPurgeService;
+import qna.domain.QuestionRepository;
+import qna.shard.ShardSchemaInitializer;
+
+/**
+ * fast-startup 프로필(spring.main.lazy-initialization=true)에서도 미리 만들어 둘 빈.
+ * 요청 경로에 있는 빈은 첫 요청 지연을 줄이기 위해, 스케줄 작업을 가진 빈은 작업이 등록되도록,
+ * 샤드 준비 빈은 첫 요청 전에 스키마가 만들어지도록 즉시 초기화한다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class FastStartupConfiguration {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerHotPathBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                QnaService.class,
+                QuestionRepository.class,
+                QuestionListingService.class,
+                RetentionPurgeService.class,
+                BackfillService.class,
+                ShardSchemaInitializer.class
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package qna.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import qna.application.QnaService;
+import qna.application.QuestionListingService;
+import qna.exception.NotFoundException;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 기동 시간 측정용. qna.startup-probe.enabled=true로 실행하면
+ * JVM 시작부터 컨텍스트 준비 완료까지, 그리고 첫 요청(목록 조회 + 질문 조회) 완료까지의 시간을 출력하고 종료한다.
+ * AOT 처리 시점에 빈 구성이 고정되므로 조건부 등록 대신 실행 시점에 속성을 확인한다.
+ */
+@Component
+public class StartupProbe implements ApplicationListener<ApplicationReadyEvent> {
+    private static final Logger log = LoggerFactory.getLogger(StartupProbe.class);
+
+    private final QnaService qnaService;
+    private final QuestionListingService questionListingService;
+    private final boolean enabled;
+
+    public StartupProbe(
+            QnaService qnaService,
+            QuestionListingService questionListingService,
+            @Value("${qna.startup-probe.enabled:false}") boolean enabled) {
+        this.qnaService = qnaService;
+        this.questionListingService = questionListingService;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        long jvmStartedAt = ManagementFactory.getRuntimeMXBean().getStartTime();
+        long readyMillis = System.currentTimeMillis() - jvmStartedAt;
+
+        questionListingService.findLatest(0, 20);
+        try {
+            qnaService.findQuestionById(1L);
+        } catch (NotFoundException ignored) {
+            // 빈 데이터베이스라도 조회 경로 전체를 한 번 거친다.
+        }
+        long firstRequestMillis = System.currentTimeMillis() - jvmStartedAt;
+
+        log.info("startup-probe ready={}ms first-request={}ms", readyMillis, firstRequestMillis);
+        System.exit(SpringApplication.exit(event.getApplicationContext(), () -> 0));
+    }
+}
@@ -0,0 +1,91 @@
+-- 지금까지 Hibernate(ddl-auto)가 엔티티 매핑으로 만들던 테이블과 제약.
+-- Hibernate가 만든 기존 DB는 spring.flyway.baseline-on-migrate로 이 버전을 건너뛴다.
+--
+-- 운영 중인 테이블을 바꿀 때는 잠금이 짧은 변경만 한 번에 한다.
+--   1. expand: 새 컬럼은 nullable(또는 DEFAULT)로 추가하고, 코드가 옛 컬럼과 새 컬럼을 모두 쓰게 배포한다.
+--   2. backfill: 기존 행은 마이그레이션이 아니라 Backfill 빈으로 채운다. (BackfillService가 배치 단위로 천천히 채운다)
+--   3. contract: 새 컬럼만 읽도록 배포한 뒤 다음 버전에서 옛 컬럼을 지우거나 NOT NULL을 건다.
+-- 인덱스는 테이블 변경과 다른 파일로 나누고 트랜잭션 밖에서 만든다. (V2__indexes.sql.conf 참고)
+
+create table users (
+    id         bigint generated by default as identity primary key,
+    user_id    varchar(20)  not null,
+    password   varchar(255),
+    name       varchar(255),
+    email      varchar(255),
+    created_at timestamp    not null,
+    updated_at timestamp,
+    constraint uk_users_user_id unique (user_id)
+);
+
+create table question (
+    id         bigint generated by default as identity primary key,
+    title      varchar(100) not null,
+    contents   clob,
+    writer_id  bigint       not null,
+    deleted    boolean      not null,
+    created_at timestamp    not null,
+    updated_at timestamp,
+    view_count bigint default 0 not null,
+    constraint fk_question_writer foreign key (writer_id) references users (id)
+);
+
+create table answer (
+    id          bigint generated by default as identity primary key,
+    writer_id   bigint    not null,
+    question_id bigint    not null,
+    contents    clob,
+    deleted     boolean   not null,
+    created_at  timestamp not null,
+    updated_at  timestamp,
+    constraint fk_answer_writer foreign key (writer_id) references users (id),
+    constraint fk_answer_to_question foreign key (question_id) references question (id)
+);
+
+create table delete_history (
+    id            bigint generated by default as identity primary key,
+    content_type  varchar(255),
+    content_id    bigint,
+    deleted_by_id bigint    not null,
+    create_date   timestamp not null,
+    constraint uk_delete_history_content unique (content_type, content_id),
+    constraint fk_delete_history_deleted_by foreign key (deleted_by_id) references users (id)
+);
+
+create table question_listing (
+    question_id      bigint       not null primary key,
+    title            varchar(100) not null,
+    writer_name      varchar(255),
+    answer_count     bigint       not null,
+    last_activity_at timestamp    not null,
+    refreshed_at     timestamp    not null
+);
+
+create table purge_checkpoint (
+    content_type           varchar(20) not null primary key,
+    last_delete_history_id bigint      not null,
+    purged_rows            bigint      not null,
+    updated_at             timestamp
+);
+
+create table question_delete_job (
+    question_id       bigint      not null primary key,
+    deleted_by_id     bigint      not null,
+    status            varchar(20) not null,
+    cursor_created_at timestamp,
+    cursor_answer_id  bigint,
+    deleted_answers   bigint      not null,
+    started_at        timestamp   not null,
+    updated_at        timestamp   not null,
+    completed_at      timestamp,
+    version           bigint,
+    constraint fk_question_delete_job_deleted_by foreign key (deleted_by_id) references users (id)
+);
+
+create table user_activity (
+    user_id          bigint    not null primary key,
+    question_count   bigint    not null,
+    answer_count     bigint    not null,
+    last_activity_at timestamp,
+    updated_at       timestamp not null
+);
@@ -0,0 +1,13 @@
+-- 조회용 인덱스. Hibernate가 이미 만든 DB에서도 다시 돌 수 있도록 if not exists로 만든다.
+-- 문장마다 따로 커밋해 한 인덱스를 만드는 동안만 그 테이블을 잡는다.
+-- 동시 생성을 지원하는 DB의 스크립트는 create index concurrently로 쓴다. (vendor별 디렉터리)
+
+create index if not exists idx_question_writer_deleted_created on question (writer_id, deleted, created_at);
+
+create index if not exists idx_answer_question_deleted_created on answer (question_id, deleted, created_at);
+
+create index if not exists idx_answer_writer_deleted_created on answer (writer_id, deleted, created_at);
+
+create index if not exists idx_question_listing_last_activity on question_listing (last_activity_at);
+
+create index if not exists idx_question_delete_job_status_updated on question_delete_job (status, updated_at);
@@ -0,0 +1,9 @@
+-- Backfill별 진행 위치. 재시작해도 마지막으로 채운 id 다음부터 이어서 채운다.
+
+create table backfill_checkpoint (
+    name           varchar(100) not null primary key,
+    last_id        bigint       not null,
+    processed_rows bigint       not null,
+    completed_at   timestamp,
+    updated_at     timestamp
+);
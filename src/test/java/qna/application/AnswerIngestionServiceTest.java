@@ -0,0 +1,59 @@
+package qna.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import qna.domain.AnswerRepository;
+import qna.domain.Question;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserRepository;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "qna.ingestion.batch-size=2")
+class AnswerIngestionServiceTest {
+
+    @Autowired
+    AnswerIngestionService answerIngestionService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Test
+    @DisplayName("존재하는 작성자와 질문에 대한 답변만 배치로 저장하고, 나머지는 배치별로 거절 사유를 남긴다")
+    void 답변_일괄_수집() {
+        // given
+        User 작성자 = userRepository.save(new User("ingest1", "pw", "name", "a@test.com"));
+        Question 질문1 = questionRepository.save(new Question("제목1", "내용", 작성자));
+        Question 질문2 = questionRepository.save(new Question("제목2", "내용", 작성자));
+
+        // when: 5건 중 1건은 없는 작성자, 1건은 없는 질문
+        AnswerIngestionResult result = answerIngestionService.ingest(Stream.of(
+                new AnswerImportRequest(질문1.getId(), 작성자.getId(), "답변1"),
+                new AnswerImportRequest(질문1.getId(), 작성자.getId(), "답변2"),
+                new AnswerImportRequest(질문2.getId(), -1L, "없는 작성자"),
+                new AnswerImportRequest(-1L, 작성자.getId(), "없는 질문"),
+                new AnswerImportRequest(질문2.getId(), 작성자.getId(), "답변3")
+        ));
+
+        // then
+        assertThat(result.batches()).hasSize(3);
+        assertThat(result.inserted()).isEqualTo(3);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.batches().get(1).rejections())
+                .extracting(AnswerIngestionResult.Rejection::position)
+                .containsExactly(2L, 3L);
+        assertThat(answerRepository.countByQuestion_IdAndDeletedFalse(질문1.getId())).isEqualTo(2);
+        assertThat(answerRepository.countByQuestion_IdAndDeletedFalse(질문2.getId())).isEqualTo(1);
+    }
+}
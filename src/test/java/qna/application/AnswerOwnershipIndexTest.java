@@ -0,0 +1,95 @@
+package qna.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import qna.domain.AnswerChangedEvent;
+import qna.domain.AnswerRepository;
+import qna.domain.AnswerWriter;
+import qna.domain.LoginUser;
+import qna.domain.Question;
+import qna.domain.QuestionDeletedEvent;
+import qna.domain.UserTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Mockito의 런타임 바이트코드 생성은 native image에서 동작하지 않는다.
+@DisabledInNativeImage
+@ExtendWith(MockitoExtension.class)
+class AnswerOwnershipIndexTest {
+    private static final LoginUser DORAEMON = LoginUser.of(UserTest.DORAEMON);
+
+    @Mock
+    private AnswerRepository answerRepository;
+
+    private AnswerOwnershipIndex answerOwnershipIndex;
+    private Question question;
+
+    @BeforeEach
+    void setUp() {
+        answerOwnershipIndex = new AnswerOwnershipIndex(answerRepository, new SimpleMeterRegistry(), 100);
+        question = new Question(1L, "title1", "contents1", UserTest.DORAEMON);
+    }
+
+    @Test
+    @DisplayName("색인에 없는 질문은 답변 작성자만 한 번 읽어 올리고 이후에는 다시 읽지 않는다")
+    void loadOnMiss() {
+        // given
+        when(answerRepository.findWriters(1L)).thenReturn(List.of(new AnswerWriter(10L, DORAEMON.id())));
+
+        // when
+        AnswerOwnershipIndex.Ownership first = answerOwnershipIndex.check(question, DORAEMON);
+        AnswerOwnershipIndex.Ownership second = answerOwnershipIndex.check(question, DORAEMON);
+
+        // then
+        assertThat(first).isEqualTo(AnswerOwnershipIndex.Ownership.OWNED);
+        assertThat(second).isEqualTo(AnswerOwnershipIndex.Ownership.OWNED);
+        verify(answerRepository, times(1)).findWriters(1L);
+    }
+
+    @Test
+    @DisplayName("다른 사람의 답변이 저장되고 삭제되면 색인에 반영된다")
+    void answerChanged() {
+        // given
+        when(answerRepository.findWriters(1L)).thenReturn(List.of());
+        answerOwnershipIndex.check(question, DORAEMON);
+        Long 다른_사람 = UserTest.SPONGEBOB.getId();
+
+        // when
+        answerOwnershipIndex.onAnswerChanged(new AnswerChangedEvent(1L, 11L, 다른_사람, false));
+        AnswerOwnershipIndex.Ownership 저장_후 = answerOwnershipIndex.check(question, DORAEMON);
+        answerOwnershipIndex.onAnswerChanged(new AnswerChangedEvent(1L, 11L, 다른_사람, true));
+        AnswerOwnershipIndex.Ownership 삭제_후 = answerOwnershipIndex.check(question, DORAEMON);
+
+        // then
+        assertThat(저장_후).isEqualTo(AnswerOwnershipIndex.Ownership.FOREIGN);
+        assertThat(삭제_후).isEqualTo(AnswerOwnershipIndex.Ownership.OWNED);
+    }
+
+    @Test
+    @DisplayName("질문이 삭제되거나 답변이 일괄로 들어오면 색인에서 내려 다음 확인 때 다시 읽는다")
+    void invalidated() {
+        // given
+        when(answerRepository.findWriters(1L)).thenReturn(List.of());
+        answerOwnershipIndex.check(question, DORAEMON);
+
+        // when
+        answerOwnershipIndex.onAnswerChanged(AnswerChangedEvent.bulkInserted(1L));
+        answerOwnershipIndex.check(question, DORAEMON);
+        answerOwnershipIndex.onQuestionDeleted(new QuestionDeletedEvent(1L));
+
+        // then
+        assertThat(answerOwnershipIndex.questions()).isZero();
+        verify(answerRepository, times(2)).findWriters(1L);
+    }
+}
@@ -0,0 +1,67 @@
+package qna.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import qna.diagnostics.NPlusOneExtension;
+import qna.domain.Answer;
+import qna.domain.AnswerPage;
+import qna.domain.AnswerRepository;
+import qna.domain.AnswerView;
+import qna.domain.Question;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(NPlusOneExtension.class)
+@SpringBootTest(properties = "qna.answer.chunk-size=2")
+class AnswerServiceTest {
+
+    @Autowired
+    AnswerService answerService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Test
+    @DisplayName("답변을 페이지 단위로 끝까지 읽을 수 있다")
+    void findAnswers() {
+        // given
+        User 작성자 = userRepository.save(new User("paging1", "pw", "name", "a@test.com"));
+        Question 질문 = saveQuestionWithAnswers(작성자, 작성자, 5);
+
+        // when
+        List<AnswerView> 읽은_답변 = new ArrayList<>();
+        AnswerPage 페이지 = answerService.findAnswers(질문.getId(), null, 2);
+        읽은_답변.addAll(페이지.answers());
+        while (페이지.hasNext()) {
+            페이지 = answerService.findAnswers(질문.getId(), 페이지.next(), 2);
+            읽은_답변.addAll(페이지.answers());
+        }
+
+        // then
+        assertThat(읽은_답변).extracting(AnswerView::contents)
+                .containsExactly("답변0", "답변1", "답변2", "답변3", "답변4");
+    }
+
+    private Question saveQuestionWithAnswers(User 질문_작성자, User 답변_작성자, int 답변_수) {
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 질문_작성자));
+        for (int i = 0; i < 답변_수; i++) {
+            answerRepository.save(new Answer(답변_작성자, 질문, "답변" + i));
+        }
+        return 질문;
+    }
+}
@@ -0,0 +1,124 @@
+package qna.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import qna.domain.BackfillCheckpoint;
+import qna.domain.BackfillCheckpointRepository;
+import qna.domain.Question;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserActivityRepository;
+import qna.domain.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "qna.backfill.batch-size=2",
+        "qna.backfill.rows-per-second=10000"
+})
+class BackfillServiceTest {
+
+    @Autowired
+    BackfillService backfillService;
+
+    @Autowired
+    UserActivityBackfill userActivityBackfill;
+
+    @Autowired
+    BackfillCheckpointRepository checkpointRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    UserActivityRepository userActivityRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("시작할 때 Flyway 마이그레이션이 순서대로 모두 적용된다")
+    void migrationsApplied() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "select \"version\" from \"flyway_schema_history\" where \"success\" = true order by \"installed_rank\"",
+                String.class);
+
+        assertThat(versions).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    @DisplayName("집계가 없는 사용자의 활동 집계를 채우고, 끝난 Backfill은 다시 돌리지 않는다")
+    void userActivityBackfill() {
+        // given: 집계 행이 빠진 사용자
+        User 작성자 = userRepository.save(new User("backfill1", "pw", "name", "b@test.com"));
+        questionRepository.save(new Question("제목", "내용", 작성자));
+        userActivityRepository.deleteById(작성자.getId());
+
+        // when
+        long filled = backfillService.run(userActivityBackfill);
+
+        // then
+        assertThat(filled).isPositive();
+        assertThat(userActivityRepository.findById(작성자.getId()))
+                .hasValueSatisfying(activity -> assertThat(activity.getQuestionCount()).isEqualTo(1));
+        assertThat(checkpointRepository.findById(userActivityBackfill.name()))
+                .hasValueSatisfying(checkpoint -> assertThat(checkpoint.isCompleted()).isTrue());
+        assertThat(backfillService.run(userActivityBackfill)).isZero();
+    }
+
+    @Test
+    @DisplayName("중간에 실패하면 마지막으로 기록한 위치 다음부터 이어서 채운다")
+    void resumeFromCheckpoint() {
+        // given: 5개 중 세 번째 배치에서 한 번 실패하는 Backfill
+        FlakyBackfill backfill = new FlakyBackfill(5, 4L);
+        assertThatThrownBy(() -> backfillService.run(backfill)).isInstanceOf(IllegalStateException.class);
+
+        // when
+        long filled = backfillService.run(backfill);
+
+        // then
+        BackfillCheckpoint checkpoint = checkpointRepository.findById(backfill.name()).orElseThrow();
+        assertThat(filled).isEqualTo(1);
+        assertThat(checkpoint.getLastId()).isEqualTo(5);
+        assertThat(checkpoint.getProcessedRows()).isEqualTo(5);
+        assertThat(backfill.filled).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    private static class FlakyBackfill implements Backfill {
+        private final long rows;
+        private Long failAfterId;
+        private final List<Long> filled = new ArrayList<>();
+
+        FlakyBackfill(long rows, Long failAfterId) {
+            this.rows = rows;
+            this.failAfterId = failAfterId;
+        }
+
+        @Override
+        public String name() {
+            return "flaky";
+        }
+
+        @Override
+        public List<Long> fill(long afterId, int batchSize) {
+            if (failAfterId != null && failAfterId == afterId) {
+                failAfterId = null;
+                throw new IllegalStateException("일부러 실패");
+            }
+            List<Long> ids = LongStream.rangeClosed(afterId + 1, Math.min(afterId + batchSize, rows)).boxed().toList();
+            filled.addAll(ids);
+            return ids;
+        }
+    }
+}
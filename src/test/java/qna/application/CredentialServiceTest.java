@@ -0,0 +1,85 @@
+package qna.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import qna.domain.User;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CredentialServiceTest {
+
+    SimpleMeterRegistry meterRegistry;
+    CredentialService credentialService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        credentialService = new CredentialService(
+                new CredentialProperties(4, Duration.ofSeconds(30), 100, 10), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("평문으로 저장된 비밀번호도 검증되고, 검증에 성공하면 해시로 바뀐다")
+    void legacyPasswordUpgradedOnMatch() {
+        // given
+        User user = new User(1L, "doraemon", "password", "name", "doraemon@gmail.com");
+
+        // when
+        boolean matched = credentialService.matches(user, "password");
+
+        // then
+        assertThat(matched).isTrue();
+        assertThat(user.getPassword()).startsWith("{bcrypt}");
+        assertThat(credentialService.isLegacy(user.getPassword())).isFalse();
+        assertThat(credentialService.matches(user, "password")).isTrue();
+    }
+
+    @Test
+    @DisplayName("비밀번호가 다르면 검증에 실패하고 저장된 값은 그대로다")
+    void mismatch() {
+        // given
+        String hashed = credentialService.encode("password");
+        User user = new User(1L, "doraemon", hashed, "name", "doraemon@gmail.com");
+
+        // when
+        boolean matched = credentialService.matches(user, "wrong");
+
+        // then
+        assertThat(matched).isFalse();
+        assertThat(user.getPassword()).isEqualTo(hashed);
+    }
+
+    @Test
+    @DisplayName("최근에 성공한 검증은 캐시에서 확인한다")
+    void cacheHit() {
+        // given
+        User user = new User(1L, "doraemon", credentialService.encode("password"), "name", "doraemon@gmail.com");
+        credentialService.matches(user, "password");
+
+        // when
+        boolean matched = credentialService.matches(user, "password");
+
+        // then
+        assertThat(matched).isTrue();
+        assertThat(meterRegistry.counter("qna.credential.verifications", "result", "match").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("qna.credential.verifications", "result", "cache_hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에 있어도 다른 비밀번호는 통과하지 않는다")
+    void cacheDoesNotMatchOtherPassword() {
+        // given
+        User user = new User(1L, "doraemon", credentialService.encode("password"), "name", "doraemon@gmail.com");
+        credentialService.matches(user, "password");
+
+        // when
+        boolean matched = credentialService.matches(user, "wrong");
+
+        // then
+        assertThat(matched).isFalse();
+    }
+}
@@ -0,0 +1,51 @@
+package qna.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistoryRepository;
+import qna.domain.Question;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CALLER 모드에서는 삭제 이력이 호출자 트랜잭션에 참여하므로 풀 크기 1로도 삭제가 끝난다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=250",
+        "qna.delete-history.write-mode=CALLER"
+})
+class DeleteHistoryCallerModeTest {
+
+    @Autowired
+    QnaService qnaService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    DeleteHistoryRepository deleteHistoryRepository;
+
+    @Test
+    @DisplayName("CALLER 모드에서는 풀 크기 1로도 질문을 삭제하고 이력을 남긴다")
+    void 커넥션_하나로_삭제() {
+        User 작성자 = userRepository.save(new User("caller1", "pw", "name", "a@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+
+        qnaService.deleteQuestion(작성자, 질문.getId());
+
+        assertThat(questionRepository.findByIdAndDeletedFalse(질문.getId())).isEmpty();
+        assertThat(deleteHistoryRepository.findAll())
+                .anyMatch(history -> history.getContentType() == ContentType.QUESTION
+                        && history.getContentId().equals(질문.getId()));
+    }
+}
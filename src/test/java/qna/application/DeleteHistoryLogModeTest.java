@@ -0,0 +1,88 @@
+package qna.application;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.util.FileSystemUtils;
+import qna.domain.Answer;
+import qna.domain.AnswerRepository;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistoryRepository;
+import qna.domain.LoginUser;
+import qna.domain.Question;
+import qna.domain.QuestionDeleteResult;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserActivity;
+import qna.domain.UserRepository;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LOG 모드에서는 삭제 이력을 남기고 확인하는 모든 곳이 로그를 쓴다.
+ */
+@SpringBootTest(properties = {
+        "qna.delete-history.write-mode=LOG",
+        "qna.delete-history.log.directory=build/delete-history-log-mode-test/${random.uuid}"
+})
+class DeleteHistoryLogModeTest {
+
+    @Autowired
+    IdempotentDeleteService idempotentDeleteService;
+
+    @Autowired
+    DeleteHistoryService deleteHistoryService;
+
+    @Autowired
+    UserActivityService userActivityService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Autowired
+    DeleteHistoryRepository deleteHistoryRepository;
+
+    @AfterAll
+    static void tearDown() {
+        FileSystemUtils.deleteRecursively(Path.of("build/delete-history-log-mode-test").toFile());
+    }
+
+    @Test
+    @DisplayName("질문을 지우면 이력은 로그에만 남고, 활동 집계가 줄며, 키를 모르는 재시도는 ALREADY_DELETED가 된다")
+    void 로그_모드로_삭제() {
+        // given
+        LocalDateTime started = LocalDateTime.now().minusMinutes(1);
+        User 작성자 = userRepository.save(new User("logmode1", "pw", "name", "a@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+        answerRepository.save(new Answer(작성자, 질문, "답변"));
+        LoginUser loginUser = LoginUser.of(작성자);
+
+        // when
+        QuestionDeleteResult first = idempotentDeleteService.deleteQuestion(loginUser, 질문.getId(), "log-1");
+        QuestionDeleteResult retried = idempotentDeleteService.deleteQuestion(loginUser, 질문.getId(), "log-2");
+
+        // then
+        assertThat(first).isEqualTo(QuestionDeleteResult.deleted(질문.getId()));
+        assertThat(retried.status()).isEqualTo(QuestionDeleteResult.Status.ALREADY_DELETED);
+        assertThat(deleteHistoryService.exists(ContentType.QUESTION, 질문.getId(), 작성자.getId())).isTrue();
+        assertThat(deleteHistoryService.findBetween(started, LocalDateTime.now().plusMinutes(1)))
+                .filteredOn(record -> record.deletedById().equals(작성자.getId()))
+                .hasSize(2);
+        assertThat(deleteHistoryRepository.findAll()).isEmpty();
+
+        UserActivity 삭제_후 = userActivityService.findActivity(작성자.getId());
+        assertThat(삭제_후.getQuestionCount()).isZero();
+        assertThat(삭제_후.getAnswerCount()).isZero();
+    }
+}
@@ -0,0 +1,219 @@
+package qna.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistoryRecord;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeleteHistoryLogTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private final List<DeleteHistoryLog> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(DeleteHistoryLog::close);
+    }
+
+    @Test
+    @DisplayName("기록한 레코드를 시간 범위로 다시 읽는다")
+    void appendAndFind() {
+        // given
+        DeleteHistoryLog historyLog = open(DataSize.ofMegabytes(1), 4);
+        historyLog.appendRecords(List.of(record(1L, 0), record(2L, 10), record(3L, 20)));
+
+        // when
+        List<DeleteHistoryRecord> found = historyLog.findBetween(BASE.plusMinutes(5), BASE.plusMinutes(20));
+
+        // then
+        assertThat(found).containsExactly(record(2L, 10));
+        assertThat(historyLog.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 넘어가고, 다시 열어도 모든 레코드가 남아 있다")
+    void rotateAndRecover() throws Exception {
+        // given
+        DeleteHistoryLog historyLog = open(DataSize.ofBytes(DeleteHistoryLog.RECORD_SIZE * 4L), 2);
+        for (long id = 1; id <= 10; id++) {
+            historyLog.appendRecords(List.of(record(id, (int) id)));
+        }
+        historyLog.close();
+
+        // when
+        DeleteHistoryLog reopened = open(DataSize.ofBytes(DeleteHistoryLog.RECORD_SIZE * 4L), 2);
+        reopened.appendRecords(List.of(record(11L, 11)));
+
+        // then
+        assertThat(segmentFiles()).hasSize(3);
+        assertThat(reopened.findBetween(BASE, BASE.plusHours(1)))
+                .extracting(DeleteHistoryRecord::contentId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L);
+    }
+
+    @Test
+    @DisplayName("마지막에 깨진 레코드는 다시 열 때 버리고 그 자리부터 이어서 쓴다")
+    void tornTail() throws Exception {
+        // given
+        DeleteHistoryLog historyLog = open(DataSize.ofMegabytes(1), 4);
+        historyLog.appendRecords(List.of(record(1L, 0), record(2L, 1)));
+        historyLog.close();
+        try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{7, 7, 7}), DeleteHistoryLog.RECORD_SIZE + 3);
+        }
+
+        // when
+        DeleteHistoryLog reopened = open(DataSize.ofMegabytes(1), 4);
+        reopened.appendRecords(List.of(record(3L, 2)));
+
+        // then
+        assertThat(reopened.findBetween(BASE, BASE.plusHours(1)))
+                .extracting(DeleteHistoryRecord::contentId)
+                .containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("maxBatchRecords보다 큰 배치가 깨져도 뒤에 남은 레코드가 나중에 이어 쓴 레코드와 이어지지 않는다")
+    void tornLargeBatch() throws Exception {
+        // given
+        DeleteHistoryLog historyLog = open(DataSize.ofMegabytes(1), 4);
+        List<DeleteHistoryRecord> large = new ArrayList<>();
+        for (long id = 1; id <= 40; id++) {
+            large.add(record(id, 0));
+        }
+        historyLog.appendRecords(large);
+        historyLog.close();
+        try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{7, 7, 7}), DeleteHistoryLog.RECORD_SIZE + 3);
+        }
+
+        // when
+        DeleteHistoryLog reopened = open(DataSize.ofMegabytes(1), 4);
+        List<DeleteHistoryRecord> later = new ArrayList<>();
+        for (long id = 101; id <= 120; id++) {
+            later.add(record(id, 1));
+        }
+        reopened.appendRecords(later);
+        reopened.close();
+        DeleteHistoryLog recovered = open(DataSize.ofMegabytes(1), 4);
+
+        // then
+        assertThat(recovered.size()).isEqualTo(21);
+        assertThat(recovered.findBetween(BASE, BASE.plusHours(1)))
+                .extracting(DeleteHistoryRecord::contentId)
+                .doesNotContain(21L, 40L);
+    }
+
+    @Test
+    @DisplayName("이미 이력이 있는 글은 다시 기록하지 않고, 다시 열어도 이력이 있는 것으로 본다")
+    void duplicateContent() {
+        // given
+        DeleteHistoryLog historyLog = open(DataSize.ofMegabytes(1), 4);
+        historyLog.appendRecords(List.of(record(1L, 0)));
+
+        // when
+        historyLog.appendRecords(List.of(record(1L, 5), record(2L, 5), record(2L, 6)));
+        historyLog.close();
+        DeleteHistoryLog reopened = open(DataSize.ofMegabytes(1), 4);
+
+        // then
+        assertThat(reopened.findBetween(BASE, BASE.plusHours(1))).containsExactly(record(1L, 0), record(2L, 5));
+        assertThat(reopened.exists(ContentType.ANSWER, 2L, 1L)).isTrue();
+        assertThat(reopened.exists(ContentType.ANSWER, 2L, 9L)).isFalse();
+        assertThat(reopened.exists(ContentType.QUESTION, 2L, 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("중복 확인 창은 최근 dedupSegments개 세그먼트만 기억하고, 다시 열 때도 그 세그먼트만 읽는다")
+    void dedupWindow() {
+        // given
+        DeleteHistoryLog historyLog = open(DataSize.ofBytes(DeleteHistoryLog.RECORD_SIZE * 4L), 2, 1);
+        for (long id = 1; id <= 5; id++) {
+            historyLog.appendRecords(List.of(record(id, (int) id)));
+        }
+
+        // when
+        historyLog.close();
+        DeleteHistoryLog reopened = open(DataSize.ofBytes(DeleteHistoryLog.RECORD_SIZE * 4L), 2, 1);
+
+        // then
+        assertThat(reopened.exists(ContentType.ANSWER, 1L, 1L)).isFalse();
+        assertThat(reopened.exists(ContentType.ANSWER, 5L, 1L)).isTrue();
+        assertThat(reopened.dedupBytes()).isPositive();
+        reopened.appendRecords(List.of(record(5L, 6)));
+        assertThat(reopened.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 레코드를 잃지 않는다")
+    void concurrentAppends() throws Exception {
+        // given
+        DeleteHistoryLog historyLog = open(DataSize.ofMegabytes(1), 64);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int thread = 0; thread < 8; thread++) {
+            int first = thread * 100;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    historyLog.appendRecords(List.of(record((long) first + i, i % 60)));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(historyLog.size()).isEqualTo(800);
+        assertThat(historyLog.findBetween(BASE.plusMinutes(30), BASE.plusMinutes(31))).hasSize(8 * 2);
+    }
+
+    private DeleteHistoryLog open(DataSize segmentSize, int indexInterval) {
+        return open(segmentSize, indexInterval, 2);
+    }
+
+    private DeleteHistoryLog open(DataSize segmentSize, int indexInterval, int dedupSegments) {
+        DeleteHistoryLog historyLog = new DeleteHistoryLog(
+                new DeleteHistoryLogProperties(directory, segmentSize, 16, indexInterval, Duration.ofSeconds(5), dedupSegments),
+                new SimpleMeterRegistry());
+        opened.add(historyLog);
+        return historyLog;
+    }
+
+    private List<Path> segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static DeleteHistoryRecord record(Long contentId, int minutes) {
+        return new DeleteHistoryRecord(ContentType.ANSWER, contentId, 1L, BASE.plusMinutes(minutes).truncatedTo(ChronoUnit.MILLIS));
+    }
+}
@@ -0,0 +1,44 @@
+package qna.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.CannotCreateTransactionException;
+import qna.domain.Question;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커넥션 풀이 1개일 때 REQUIRES_NEW로 삭제 이력을 쓰면
+ * 바깥 트랜잭션이 커넥션을 쥔 채로 두 번째 커넥션을 기다리다 타임아웃된다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=250",
+        "qna.delete-history.write-mode=REQUIRES_NEW"
+})
+class DeleteHistoryPoolStarvationTest {
+
+    @Autowired
+    QnaService qnaService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Test
+    @DisplayName("REQUIRES_NEW 모드에서는 풀 크기 1로 질문을 삭제할 수 없다")
+    void 커넥션_고갈() {
+        User 작성자 = userRepository.save(new User("starve1", "pw", "name", "a@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+
+        assertThatThrownBy(() -> qnaService.deleteQuestion(작성자, 질문.getId()))
+                .isInstanceOf(CannotCreateTransactionException.class);
+    }
+}
@@ -0,0 +1,113 @@
+package qna.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import qna.exception.CannotDeleteException;
+import qna.exception.IdempotencyConflictException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+    private IdempotencyStore idempotencyStore;
+    private AtomicInteger runs;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = new IdempotencyStore(
+                new IdempotencyProperties(Duration.ofMinutes(1), 2), new SimpleMeterRegistry());
+        runs = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 작업을 다시 실행하지 않고 처음 결과를 돌려준다")
+    void replayed() {
+        // when
+        String first = idempotencyStore.execute("key", 1L, () -> "result-" + runs.incrementAndGet());
+        String second = idempotencyStore.execute("key", 1L, () -> "result-" + runs.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo(second).isEqualTo("result-1");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 실패한다")
+    void conflict() {
+        // given
+        idempotencyStore.execute("key", 1L, () -> runs.incrementAndGet());
+
+        // when, then
+        assertThatThrownBy(() -> idempotencyStore.execute("key", 2L, () -> runs.incrementAndGet()))
+                .isInstanceOf(IdempotencyConflictException.class);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 기억하지 않으므로 재시도하면 다시 실행한다")
+    void failureNotRemembered() {
+        // given
+        assertThatThrownBy(() -> idempotencyStore.execute("key", 1L, () -> {
+            runs.incrementAndGet();
+            throw new CannotDeleteException("실패");
+        })).isInstanceOf(CannotDeleteException.class);
+
+        // when
+        int result = idempotencyStore.execute("key", 1L, () -> runs.incrementAndGet());
+
+        // then
+        assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처음 요청이 실행 중이면 재시도는 그 결과를 기다린다")
+    void inflight() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> original = CompletableFuture.supplyAsync(() ->
+                idempotencyStore.execute("key", 1L, () -> {
+                    started.countDown();
+                    await(release);
+                    return runs.incrementAndGet();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Integer> retried = CompletableFuture.supplyAsync(() ->
+                idempotencyStore.execute("key", 1L, () -> runs.incrementAndGet()));
+        release.countDown();
+
+        // then
+        assertThat(retried.get(5, TimeUnit.SECONDS)).isEqualTo(original.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("기억하는 키 수는 maxSize를 넘지 않는다")
+    void bounded() {
+        // when
+        for (int i = 0; i < 10; i++) {
+            idempotencyStore.execute("key-" + i, 1L, () -> runs.incrementAndGet());
+        }
+
+        // then
+        assertThat(idempotencyStore.size()).isLessThanOrEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package qna.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import qna.domain.LoginUser;
+import qna.domain.Question;
+import qna.domain.QuestionDeleteResult;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AFTER_COMMIT 모드에서는 이력 INSERT가 요청이 끝난 뒤에 실패하므로, 동시에 들어온 같은 삭제는 질문 행 잠금으로만 가려진다.
+ */
+@SpringBootTest(properties = "qna.delete-history.write-mode=AFTER_COMMIT")
+class IdempotentDeleteAfterCommitTest {
+
+    @Autowired
+    IdempotentDeleteService idempotentDeleteService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Test
+    @DisplayName("다른 멱등 키로 동시에 같은 질문을 지우면 하나만 DELETED이고 나머지는 ALREADY_DELETED다")
+    void 동시_삭제() throws Exception {
+        // given
+        User 작성자 = userRepository.save(new User("after-commit1", "pw", "name", "a@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+        LoginUser loginUser = LoginUser.of(작성자);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<QuestionDeleteResult>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            String key = "concurrent-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return idempotentDeleteService.deleteQuestion(loginUser, 질문.getId(), key);
+            }));
+        }
+        start.countDown();
+        List<QuestionDeleteResult.Status> statuses = new ArrayList<>();
+        for (Future<QuestionDeleteResult> future : futures) {
+            statuses.add(future.get().status());
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(statuses).containsOnlyOnce(QuestionDeleteResult.Status.DELETED);
+        assertThat(statuses).filteredOn(status -> status == QuestionDeleteResult.Status.ALREADY_DELETED).hasSize(3);
+    }
+}
@@ -0,0 +1,68 @@
+package qna.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistoryRepository;
+import qna.domain.LoginUser;
+import qna.domain.Question;
+import qna.domain.QuestionDeleteResult;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class IdempotentDeleteServiceTest {
+
+    @Autowired
+    IdempotentDeleteService idempotentDeleteService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    DeleteHistoryRepository deleteHistoryRepository;
+
+    @Test
+    @DisplayName("같은 멱등 키로 재시도하면 처음 결과를 돌려주고 이력을 다시 남기지 않는다")
+    void 같은_키로_재시도() {
+        // given
+        User 작성자 = userRepository.save(new User("idempotent1", "pw", "name", "a@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+        LoginUser loginUser = LoginUser.of(작성자);
+
+        // when
+        QuestionDeleteResult first = idempotentDeleteService.deleteQuestion(loginUser, 질문.getId(), "retry-1");
+        QuestionDeleteResult second = idempotentDeleteService.deleteQuestion(loginUser, 질문.getId(), "retry-1");
+
+        // then
+        assertThat(first).isEqualTo(second).isEqualTo(QuestionDeleteResult.deleted(질문.getId()));
+        assertThat(deleteHistoryRepository.findAll())
+                .filteredOn(history -> history.getContentType() == ContentType.QUESTION
+                        && history.getContentId().equals(질문.getId()))
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("키를 모르는 재시도라도 같은 사용자가 이미 지운 질문이면 NotFound 대신 ALREADY_DELETED를 돌려준다")
+    void 이미_삭제된_질문() {
+        // given
+        User 작성자 = userRepository.save(new User("idempotent2", "pw", "name", "a@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+        LoginUser loginUser = LoginUser.of(작성자);
+        idempotentDeleteService.deleteQuestion(loginUser, 질문.getId(), "retry-2");
+
+        // when
+        QuestionDeleteResult result = idempotentDeleteService.deleteQuestion(loginUser, 질문.getId(), "retry-3");
+
+        // then
+        assertThat(result.status()).isEqualTo(QuestionDeleteResult.Status.ALREADY_DELETED);
+    }
+}
@@ -0,0 +1,85 @@
+package qna.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import qna.domain.LoginUser;
+import qna.domain.UserRepository;
+import qna.domain.UserTest;
+import qna.domain.UserUpdatedEvent;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Mockito의 런타임 바이트코드 생성은 native image에서 동작하지 않는다.
+@DisabledInNativeImage
+@ExtendWith(MockitoExtension.class)
+class LoginUserResolverTest {
+    @Mock
+    private UserRepository userRepository;
+
+    private LoginUserResolver loginUserResolver;
+
+    @BeforeEach
+    void setUp() {
+        loginUserResolver = new LoginUserResolver(
+                userRepository, new LoginUserProperties(Duration.ofMinutes(10), 100), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 세션으로 다시 찾으면 User를 다시 읽지 않는다")
+    void cached() {
+        // given
+        when(userRepository.findByUserId("doraemon")).thenReturn(Optional.of(UserTest.DORAEMON));
+
+        // when
+        LoginUser first = loginUserResolver.resolve("session-1", "doraemon");
+        LoginUser second = loginUserResolver.resolve("session-1", "doraemon");
+
+        // then
+        assertThat(first).isEqualTo(new LoginUser(1L, "doraemon", "name"));
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByUserId("doraemon");
+    }
+
+    @Test
+    @DisplayName("사용자 정보가 바뀌면 캐시된 세션을 지우고 다시 읽는다")
+    void invalidatedOnUserUpdated() {
+        // given
+        when(userRepository.findByUserId("doraemon")).thenReturn(Optional.of(UserTest.DORAEMON));
+        loginUserResolver.resolve("session-1", "doraemon");
+        loginUserResolver.resolve("session-2", "doraemon");
+
+        // when
+        loginUserResolver.onUserUpdated(new UserUpdatedEvent(UserTest.DORAEMON.getId()));
+        loginUserResolver.resolve("session-1", "doraemon");
+
+        // then
+        assertThat(loginUserResolver.size()).isEqualTo(1);
+        verify(userRepository, times(3)).findByUserId("doraemon");
+    }
+
+    @Test
+    @DisplayName("세션이 없거나 존재하지 않는 사용자면 GUEST를 돌려주고 캐시하지 않는다")
+    void guest() {
+        // given
+        when(userRepository.findByUserId("nobody")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(loginUserResolver.resolve(null, "doraemon")).isEqualTo(LoginUser.GUEST);
+        assertThat(loginUserResolver.resolve("session-1", "nobody")).isEqualTo(LoginUser.GUEST);
+        assertThat(loginUserResolver.size()).isZero();
+        verify(userRepository, never()).findByUserId("doraemon");
+    }
+}
@@ -0,0 +1,47 @@
+package qna.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("넣고 지운 키가 충돌 경로와 관계없이 정확히 조회된다")
+    void putAndRemove() {
+        // given
+        LongLongHashMap map = new LongLongHashMap(-1L);
+        for (long key = 0; key < 10_000; key++) {
+            map.put(key, key * 2);
+        }
+
+        // when
+        for (long key = 0; key < 10_000; key += 2) {
+            map.remove(key);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(5_000);
+        for (long key = 0; key < 10_000; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 2 == 0 ? -1L : key * 2);
+        }
+    }
+
+    @Test
+    @DisplayName("답변 백만 개를 담는 데 답변당 40바이트를 넘지 않는다")
+    void memoryPerMillionAnswers() {
+        // given
+        LongLongHashMap map = new LongLongHashMap(-1L);
+
+        // when
+        for (long answerId = 1; answerId <= 1_000_000; answerId++) {
+            map.put(answerId, answerId % 1_000);
+        }
+
+        // then
+        // 2^21 슬롯 x 16바이트 = 약 32MB. HashMap<Long, Long>은 같은 양에 70MB 이상 쓴다.
+        assertThat(map.size()).isEqualTo(1_000_000);
+        assertThat(map.estimatedBytes() / map.size()).isLessThanOrEqualTo(40);
+    }
+}
@@ -2,18 +2,25 @@ package qna.application;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import qna.domain.Answer;
+import qna.domain.AnswerRepository;
+import qna.domain.AnswerWriter;
 import qna.domain.ContentType;
 import qna.domain.DeleteHistory;
+import qna.domain.LoginUser;
 import qna.domain.Question;
 import qna.domain.QuestionRepository;
 import qna.domain.QuestionTest;
 import qna.domain.UserTest;
 import qna.exception.CannotDeleteException;
+import qna.shard.ShardRouter;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -22,17 +29,38 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+// Mockito의 런타임 바이트코드 생성은 native image에서 동작하지 않는다.
+@DisabledInNativeImage
 @ExtendWith(MockitoExtension.class)
 class QnaServiceTest {
     @Mock
     private QuestionRepository questionRepository;
 
+    @Mock
+    private AnswerRepository answerRepository;
+
     @Mock
     private DeleteHistoryService deleteHistoryService;
 
+    @Mock
+    private AnswerService answerService;
+
+    @Mock
+    private AnswerOwnershipIndex answerOwnershipIndex;
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(1);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private QnaService qnaService;
 
@@ -48,43 +76,72 @@ class QnaServiceTest {
 
     @Test
     public void delete_성공() throws Exception {
-        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(questionRepository.findByIdForUpdate(question.getId())).thenReturn(Optional.of(question));
+        when(answerService.countAnswers(question.getId())).thenReturn(1L);
+        when(answerOwnershipIndex.ownedAnswers(eq(question), any(LoginUser.class)))
+                .thenReturn(new AnswerOwnershipIndex.OwnedAnswers(AnswerOwnershipIndex.Ownership.OWNED, List.of(answer.getId())));
 
         assertThat(question.isDeleted()).isFalse();
         qnaService.deleteQuestion(UserTest.DORAEMON, question.getId());
 
         assertThat(question.isDeleted()).isTrue();
+        verify(answerRepository).markDeletedByIdIn(List.of(answer.getId()));
+        verify(answerRepository, never()).findWriters(any());
         verifyDeleteHistories();
     }
 
     @Test
     public void delete_다른_사람이_쓴_글() throws Exception {
-        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(questionRepository.findByIdForUpdate(question.getId())).thenReturn(Optional.of(question));
 
         assertThatThrownBy(() -> qnaService.deleteQuestion(UserTest.SPONGEBOB, question.getId()))
                 .isInstanceOf(CannotDeleteException.class);
     }
 
     @Test
-    public void delete_성공_질문자_답변자_같음() throws Exception {
-        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+    public void delete_성공_색인을_올리는_중이면_작성자만_읽어_확인() throws Exception {
+        when(questionRepository.findByIdForUpdate(question.getId())).thenReturn(Optional.of(question));
+        when(answerService.countAnswers(question.getId())).thenReturn(1L);
+        when(answerOwnershipIndex.ownedAnswers(eq(question), any(LoginUser.class)))
+                .thenReturn(new AnswerOwnershipIndex.OwnedAnswers(AnswerOwnershipIndex.Ownership.UNKNOWN, List.of()));
+        when(answerRepository.findWriters(question.getId()))
+                .thenReturn(List.of(new AnswerWriter(answer.getId(), UserTest.DORAEMON.getId())));
 
         qnaService.deleteQuestion(UserTest.DORAEMON, question.getId());
 
         assertThat(question.isDeleted()).isTrue();
-        assertThat(answer.isDeleted()).isTrue();
+        verify(answerRepository).markDeletedByIdIn(List.of(answer.getId()));
         verifyDeleteHistories();
     }
 
     @Test
-    public void delete_답변_중_다른_사람이_쓴_글() throws Exception {
+    public void delete_색인의_답변_수가_DB와_다르면_작성자만_읽어_확인() throws Exception {
         Answer answer2 = new Answer(2L, UserTest.SPONGEBOB, QuestionTest.Q1, "Answers Contents1");
-        question.addAnswer(answer2);
+        when(questionRepository.findByIdForUpdate(question.getId())).thenReturn(Optional.of(question));
+        when(answerService.countAnswers(question.getId())).thenReturn(2L);
+        when(answerOwnershipIndex.ownedAnswers(eq(question), any(LoginUser.class)))
+                .thenReturn(new AnswerOwnershipIndex.OwnedAnswers(AnswerOwnershipIndex.Ownership.OWNED, List.of(answer.getId())));
+        when(answerRepository.findWriters(question.getId())).thenReturn(List.of(
+                new AnswerWriter(answer.getId(), UserTest.DORAEMON.getId()),
+                new AnswerWriter(answer2.getId(), UserTest.SPONGEBOB.getId())));
 
-        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        assertThatThrownBy(() -> qnaService.deleteQuestion(UserTest.DORAEMON, question.getId()))
+                .isInstanceOf(CannotDeleteException.class);
+        verify(answerRepository, never()).markDeletedByIdIn(anyList());
+        verify(deleteHistoryService, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void delete_색인에서_다른_사람의_답변이_확인되면_답변을_읽지_않고_거절() throws Exception {
+        when(questionRepository.findByIdForUpdate(question.getId())).thenReturn(Optional.of(question));
+        when(answerOwnershipIndex.ownedAnswers(eq(question), any(LoginUser.class)))
+                .thenReturn(new AnswerOwnershipIndex.OwnedAnswers(AnswerOwnershipIndex.Ownership.FOREIGN, List.of()));
 
         assertThatThrownBy(() -> qnaService.deleteQuestion(UserTest.DORAEMON, question.getId()))
                 .isInstanceOf(CannotDeleteException.class);
+        verify(answerRepository, never()).findWriters(any());
+        verify(answerRepository, never()).markDeletedByIdIn(anyList());
+        verify(deleteHistoryService, never()).saveAll(anyList());
     }
 
     private void verifyDeleteHistories() {
@@ -0,0 +1,98 @@
+package qna.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import qna.domain.AnswerChangedEvent;
+import qna.domain.QuestionChangedEvent;
+import qna.domain.UserUpdatedEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryResultCacheTest {
+    private static final Set<QueryResultCache.Table> QUESTIONS = Set.of(QueryResultCache.Table.QUESTION);
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryResultCache queryResultCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queryResultCache = new QueryResultCache(
+                new QueryCacheProperties(Duration.ofMinutes(1), Map.of("no-cache", Duration.ZERO), 2), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 조회와 인자는 테이블이 바뀌기 전까지 다시 읽지 않는다")
+    void cached() {
+        // when
+        long first = count("question-count", 1L);
+        long second = count("question-count", 1L);
+        queryResultCache.onAnswerChanged(new AnswerChangedEvent(1L, 1L, 1L, false));
+        long afterAnswerChanged = count("question-count", 1L);
+
+        // then
+        assertThat(first).isEqualTo(second).isEqualTo(afterAnswerChanged);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("qna.query-cache.hit-ratio").gauge().value()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("의존하는 테이블의 버전이 오르면 다시 읽는다")
+    void invalidated() {
+        // given
+        count("question-count", 1L);
+
+        // when
+        queryResultCache.onQuestionChanged(new QuestionChangedEvent(1L));
+        count("question-count", 1L);
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("작성자 이름이 든 결과는 사용자 정보가 바뀌면 다시 읽는다")
+    void invalidatedByUserUpdate() {
+        // given
+        Set<QueryResultCache.Table> withWriters = Set.of(QueryResultCache.Table.QUESTION, QueryResultCache.Table.USER);
+        queryResultCache.get("live-questions", List.of(), withWriters, loads::incrementAndGet);
+        count("question-count", 1L);
+
+        // when
+        queryResultCache.onUserUpdated(new UserUpdatedEvent(1L));
+        queryResultCache.get("live-questions", List.of(), withWriters, loads::incrementAndGet);
+        count("question-count", 1L);
+
+        // then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("ttl을 따로 정한 조회와 다른 인자는 각각 다루고, 최대 크기를 넘지 않는다")
+    void ttlOverrideAndMaxSize() {
+        // when
+        count("no-cache", 1L);
+        count("no-cache", 1L);
+        count("question-count", 1L);
+        count("question-count", 2L);
+        count("question-count", 3L);
+
+        // then
+        assertThat(loads).hasValue(5);
+        assertThat(queryResultCache.size()).isLessThanOrEqualTo(2);
+    }
+
+    private long count(String query, Long arg) {
+        return queryResultCache.get(query, List.of(arg), QUESTIONS, () -> (long) loads.incrementAndGet());
+    }
+}
@@ -0,0 +1,214 @@
+package qna.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import qna.domain.Answer;
+import qna.domain.AnswerRepository;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistoryRepository;
+import qna.domain.DomainClock;
+import qna.domain.Question;
+import qna.domain.QuestionDeleteCompletedEvent;
+import qna.domain.QuestionDeleteJob;
+import qna.domain.QuestionDeleteJobRepository;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserRepository;
+import qna.exception.CannotDeleteException;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "qna.answer.chunk-size=2",
+        "qna.delete-job.chunk-size=2",
+        "qna.delete-job.stale-after=0s",
+        "qna.delete-job.resume-delay=3600000"
+})
+class QuestionDeleteJobServiceTest {
+
+    @Autowired
+    QnaService qnaService;
+
+    @Autowired
+    QuestionDeleteJobService questionDeleteJobService;
+
+    @Autowired
+    QuestionDeleteJobRepository questionDeleteJobRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Autowired
+    DeleteHistoryRepository deleteHistoryRepository;
+
+    @Autowired
+    CompletedEvents completedEvents;
+
+    @Test
+    @DisplayName("답변이 많은 질문은 바로 숨겨지고, 답변은 chunk 단위로 삭제된 뒤 완료 이벤트가 발행된다")
+    void deleteLargeThread() throws Exception {
+        // given
+        User 작성자 = userRepository.save(new User("job1", "pw", "name", "a@test.com"));
+        Question 질문 = saveQuestionWithAnswers(작성자, 5);
+
+        // when
+        qnaService.deleteQuestion(작성자, 질문.getId());
+
+        // then
+        assertThat(questionRepository.findByIdAndDeletedFalse(질문.getId())).isEmpty();
+        QuestionDeleteJob 작업 = awaitFinished(질문.getId());
+        assertThat(작업.getDeletedAnswers()).isEqualTo(5);
+        assertThat(answerRepository.countByQuestion_IdAndDeletedFalse(질문.getId())).isZero();
+        assertThat(answerHistories(질문)).isEqualTo(5);
+        assertThat(completedEvents.events).contains(new QuestionDeleteCompletedEvent(질문.getId(), 5));
+    }
+
+    @Test
+    @DisplayName("멈춘 작업은 마지막 커서 다음부터 이어서 처리한다")
+    void resumeStalled() throws Exception {
+        // given
+        // 질문 삭제와 작업 생성까지만 커밋되고 답변은 처리되지 않은 상태
+        User 작성자 = userRepository.save(new User("job2", "pw", "name", "b@test.com"));
+        Question 질문 = saveQuestionWithAnswers(작성자, 5);
+        질문.deleteQuestion();
+        questionRepository.save(질문);
+        questionDeleteJobRepository.save(new QuestionDeleteJob(질문));
+
+        // when
+        questionDeleteJobService.resumeStalled();
+
+        // then
+        assertThat(awaitFinished(질문.getId()).getDeletedAnswers()).isEqualTo(5);
+        assertThat(answerHistories(질문)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("chunk로 지운 답변의 이력도 질문의 이력과 같이 DomainClock 시각으로 남는다")
+    void domainClock() throws Exception {
+        // given
+        User 작성자 = userRepository.save(new User("job5", "pw", "name", "e@test.com"));
+        Question 질문 = saveQuestionWithAnswers(작성자, 5);
+        Clock original = DomainClock.clock();
+        LocalDateTime fixed = LocalDateTime.of(2025, 1, 1, 9, 0);
+        DomainClock.use(Clock.fixed(fixed.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+        try {
+            // when
+            qnaService.deleteQuestion(작성자, 질문.getId());
+            awaitFinished(질문.getId());
+
+            // then
+            assertThat(deleteHistoryRepository.findAll())
+                    .filteredOn(history -> history.getDeletedById().equals(작성자.getId()))
+                    .hasSize(6)
+                    .allMatch(history -> history.getCreateDate().equals(fixed));
+        } finally {
+            DomainClock.use(original);
+        }
+    }
+
+    @Test
+    @DisplayName("답변이 많은 질문도 다른 사람의 답변이 있으면 삭제할 수 없다")
+    void othersAnswer() {
+        // given
+        User 작성자 = userRepository.save(new User("job3", "pw", "name", "c@test.com"));
+        User 다른_사람 = userRepository.save(new User("job4", "pw", "name", "d@test.com"));
+        Question 질문 = saveQuestionWithAnswers(작성자, 4);
+        answerRepository.save(new Answer(다른_사람, 질문, "다른 사람 답변"));
+
+        // when & then
+        assertThatThrownBy(() -> qnaService.deleteQuestion(작성자, 질문.getId()))
+                .isInstanceOf(CannotDeleteException.class);
+        assertThat(questionRepository.findByIdAndDeletedFalse(질문.getId())).isPresent();
+        assertThat(questionDeleteJobRepository.findById(질문.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작업을 만든 뒤에 들어온 다른 사람의 답변은 지우지 않고, 작업을 BLOCKED로 끝낸다")
+    void othersAnswerAfterStart() throws Exception {
+        // given
+        // 다른 사람의 답변 확인을 지난 뒤에 그 사람의 답변이 커밋된 상태
+        User 작성자 = userRepository.save(new User("job6", "pw", "name", "f@test.com"));
+        User 다른_사람 = userRepository.save(new User("job7", "pw", "name", "g@test.com"));
+        Question 질문 = saveQuestionWithAnswers(작성자, 4);
+        Answer 다른_사람_답변 = answerRepository.save(new Answer(다른_사람, 질문, "다른 사람 답변"));
+        질문.deleteQuestion();
+        questionRepository.save(질문);
+        questionDeleteJobRepository.save(new QuestionDeleteJob(질문));
+
+        // when
+        questionDeleteJobService.resumeStalled();
+
+        // then
+        QuestionDeleteJob 작업 = awaitFinished(질문.getId());
+        assertThat(작업.getStatus()).isEqualTo(QuestionDeleteJob.Status.BLOCKED);
+        assertThat(작업.getDeletedAnswers()).isEqualTo(4);
+        assertThat(answerRepository.findByIdAndDeletedFalse(다른_사람_답변.getId())).isPresent();
+        assertThat(answerHistories(질문)).isEqualTo(4);
+    }
+
+    private Question saveQuestionWithAnswers(User 작성자, int 답변_수) {
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+        for (int i = 0; i < 답변_수; i++) {
+            answerRepository.save(new Answer(작성자, 질문, "답변" + i));
+        }
+        return 질문;
+    }
+
+    private QuestionDeleteJob awaitFinished(Long questionId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            QuestionDeleteJob job = questionDeleteJobRepository.findById(questionId).orElseThrow();
+            if (job.isFinished()) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("삭제 작업이 끝나지 않았습니다. questionId=" + questionId);
+    }
+
+    private long answerHistories(Question 질문) {
+        List<Long> 답변_id = answerRepository.findAll().stream()
+                .filter(answer -> answer.getQuestionId().equals(질문.getId()))
+                .map(Answer::getId)
+                .toList();
+        return deleteHistoryRepository.findAll().stream()
+                .filter(history -> history.getContentType() == ContentType.ANSWER
+                        && 답변_id.contains(history.getContentId()))
+                .count();
+    }
+
+    @TestConfiguration
+    static class CompletedEventsConfiguration {
+        @Bean
+        CompletedEvents completedEvents() {
+            return new CompletedEvents();
+        }
+    }
+
+    static class CompletedEvents {
+        final List<QuestionDeleteCompletedEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void on(QuestionDeleteCompletedEvent event) {
+            events.add(event);
+        }
+    }
+}
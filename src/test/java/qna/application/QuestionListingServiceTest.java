@@ -0,0 +1,91 @@
+package qna.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import qna.domain.Answer;
+import qna.domain.AnswerRepository;
+import qna.domain.Question;
+import qna.domain.QuestionListing;
+import qna.domain.QuestionListingRepository;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class QuestionListingServiceTest {
+
+    @Autowired
+    QuestionListingService questionListingService;
+
+    @Autowired
+    QuestionListingRepository questionListingRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Test
+    @DisplayName("커밋된 질문/답변 변경이 읽기 모델에 반영된다")
+    void 변경_이벤트_반영() {
+        // given: 질문과 답변 2개가 저장되어 있고
+        User 작성자 = userRepository.save(new User("listing1", "pw", "도라에몽", "a@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+        answerRepository.save(new Answer(작성자, 질문, "답변1"));
+        answerRepository.save(new Answer(작성자, 질문, "답변2"));
+
+        // when: 대기 중인 변경을 반영하면
+        questionListingService.refreshPending();
+
+        // then: 질문 한 건당 한 행이 만들어진다
+        QuestionListing listing = questionListingRepository.findById(질문.getId()).orElse(null);
+        assertThat(listing).isNotNull();
+        assertThat(listing.getTitle()).isEqualTo("제목");
+        assertThat(listing.getWriterName()).isEqualTo("도라에몽");
+        assertThat(listing.getAnswerCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제된 질문은 읽기 모델에서 빠진다")
+    void 삭제된_질문_제거() {
+        // given
+        User 작성자 = userRepository.save(new User("listing2", "pw", "스폰지밥", "b@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+        questionListingService.refreshPending();
+        assertThat(questionListingRepository.findById(질문.getId())).isPresent();
+
+        // when
+        질문.deleteQuestion();
+        questionRepository.save(질문);
+        questionListingService.refreshPending();
+
+        // then
+        assertThat(questionListingRepository.findById(질문.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 재구성 시 정규화된 테이블 기준으로 다시 계산된다")
+    void 전체_재구성() {
+        // given: 읽기 모델이 비어 있어도
+        User 작성자 = userRepository.save(new User("listing3", "pw", "징징이", "c@test.com"));
+        Question 질문 = questionRepository.save(new Question("재구성", "내용", 작성자));
+        answerRepository.save(new Answer(작성자, 질문, "답변"));
+        questionListingRepository.deleteAll();
+
+        // when
+        questionListingService.rebuild();
+
+        // then
+        QuestionListing listing = questionListingRepository.findById(질문.getId()).orElse(null);
+        assertThat(listing).isNotNull();
+        assertThat(listing.getAnswerCount()).isEqualTo(1);
+    }
+}
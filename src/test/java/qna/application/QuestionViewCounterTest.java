@@ -0,0 +1,77 @@
+package qna.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import qna.domain.Question;
+import qna.domain.QuestionPopularity;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "qna.view-counter.flush-delay=3600000")
+class QuestionViewCounterTest {
+
+    @Autowired
+    QuestionViewCounter viewCounter;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    QnaService qnaService;
+
+    @Test
+    @DisplayName("모아 둔 조회 수가 한 번에 반영되고 많이 조회된 질문이 먼저 나온다")
+    void flush() {
+        // given
+        User 작성자 = userRepository.save(new User("views1", "pw", "name", "a@test.com"));
+        Question 인기_질문 = questionRepository.save(new Question("제목1", "내용", 작성자));
+        Question 질문 = questionRepository.save(new Question("제목2", "내용", 작성자));
+        for (int i = 0; i < 3; i++) {
+            viewCounter.record(인기_질문.getId());
+        }
+        viewCounter.record(질문.getId());
+
+        // when
+        viewCounter.flush();
+
+        // then
+        assertThat(questionRepository.findById(인기_질문.getId()).orElseThrow().getViewCount()).isEqualTo(3);
+        assertThat(questionRepository.findById(질문.getId()).orElseThrow().getViewCount()).isEqualTo(1);
+        assertThat(viewCounter.hotQuestions(2)).extracting(QuestionPopularity::questionId)
+                .containsExactly(인기_질문.getId(), 질문.getId());
+    }
+
+    @Test
+    @DisplayName("삭제된 질문은 인기 질문에서 빠진다")
+    void deletedQuestion() throws InterruptedException {
+        // given
+        User 작성자 = userRepository.save(new User("views2", "pw", "name", "b@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+        viewCounter.record(질문.getId());
+        viewCounter.flush();
+        assertThat(viewCounter.hotQuestions(100)).extracting(QuestionPopularity::questionId).contains(질문.getId());
+
+        // when
+        qnaService.deleteQuestion(작성자, 질문.getId());
+
+        // then
+        // 반영 스레드에서 지우므로 잠시 기다린다.
+        for (int i = 0; i < 100 && isHot(질문); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(viewCounter.hotQuestions(100)).extracting(QuestionPopularity::questionId).doesNotContain(질문.getId());
+    }
+
+    private boolean isHot(Question 질문) {
+        return viewCounter.hotQuestions(100).stream()
+                .anyMatch(popularity -> popularity.questionId().equals(질문.getId()));
+    }
+}
@@ -0,0 +1,161 @@
+package qna.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import qna.domain.Question;
+import qna.domain.QuestionChangedEvent;
+import qna.domain.QuestionRepository;
+import qna.domain.QuestionView;
+import qna.domain.UserTest;
+import qna.exception.NotFoundException;
+import qna.shard.ShardRouter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Mockito의 런타임 바이트코드 생성은 native image에서 동작하지 않는다.
+@DisabledInNativeImage
+@ExtendWith(MockitoExtension.class)
+class QuestionViewServiceTest {
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private QuestionViewCounter viewCounter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QuestionViewService questionViewService;
+    private Question question;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        questionViewService = new QuestionViewService(questionRepository, viewCounter, new ShardRouter(1), transactionManager, meterRegistry,
+                new QuestionViewProperties(Duration.ofMinutes(1), false, Duration.ZERO, 100, 3, 10));
+        question = new Question(1L, "title1", "contents1", UserTest.DORAEMON);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 Question을 동시에 조회하면 DB 조회는 한 번만 일어난다")
+    void coalesced() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(questionRepository.findByIdAndDeletedFalse(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(question);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<QuestionView>> results = new ArrayList<>();
+        results.add(executor.submit(() -> questionViewService.findQuestionById(1L)));
+        loading.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> questionViewService.findQuestionById(1L)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<QuestionView> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).title()).isEqualTo("title1");
+        }
+        executor.shutdown();
+        verify(questionRepository, times(1)).findByIdAndDeletedFalse(1L);
+        assertThat(meterRegistry.counter("qna.question-view.requests", "result", "coalesced").count()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("ttl 안에서는 캐시된 값을 돌려준다")
+    void cached() {
+        // given
+        when(questionRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(question));
+        QuestionView first = questionViewService.findQuestionById(1L);
+
+        // when
+        QuestionView second = questionViewService.findQuestionById(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(questionRepository, times(1)).findByIdAndDeletedFalse(1L);
+    }
+
+    @Test
+    @DisplayName("삭제가 flush되면 트랜잭션이 끝날 때까지 캐시를 쓰지 않고, 커밋 뒤에는 삭제된 결과를 본다")
+    void invalidatedOnDelete() {
+        // given
+        when(questionRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(question));
+        questionViewService.findQuestionById(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        questionViewService.onQuestionChanged(new QuestionChangedEvent(1L));
+        questionViewService.findQuestionById(1L);
+        when(questionRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.empty());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertThat(meterRegistry.counter("qna.question-view.requests", "result", "bypass").count()).isEqualTo(1);
+        assertThat(questionViewService.size()).isZero();
+        assertThatThrownBy(() -> questionViewService.findQuestionById(1L))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("집계 구간 동안 기준 이상 조회된 키만 핫 키로 남긴다")
+    void hotKeys() {
+        // given
+        when(questionRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(question));
+        for (int i = 0; i < 3; i++) {
+            questionViewService.findQuestionById(1L);
+        }
+
+        // when
+        questionViewService.rollHotKeys();
+
+        // then
+        assertThat(questionViewService.hotKeys()).containsEntry(1L, 3L);
+        assertThat(meterRegistry.get("qna.question-view.hot-key.requests").tag("question_id", "1").gauge().value())
+                .isEqualTo(3);
+
+        questionViewService.rollHotKeys();
+        assertThat(questionViewService.hotKeys()).isEmpty();
+    }
+}
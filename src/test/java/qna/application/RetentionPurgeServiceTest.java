@@ -0,0 +1,112 @@
+package qna.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import qna.domain.Answer;
+import qna.domain.AnswerRepository;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.DeleteHistoryRepository;
+import qna.domain.PurgeCheckpointRepository;
+import qna.domain.Question;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserRepository;
+import qna.shard.ShardRouter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "qna.purge.retention.question=1d",
+        "qna.purge.retention.answer=1d",
+        "qna.purge.chunk-size=1",
+        "qna.purge.rows-per-second=10000"
+})
+class RetentionPurgeServiceTest {
+
+    @Autowired
+    RetentionPurgeService retentionPurgeService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Autowired
+    DeleteHistoryRepository deleteHistoryRepository;
+
+    @Autowired
+    PurgeCheckpointRepository purgeCheckpointRepository;
+
+    @Test
+    @DisplayName("보존 기간이 지난 삭제 이력과 soft delete된 답변만 물리 삭제된다")
+    void 보존기간_지난_답변_정리() {
+        // given: soft delete된 답변 2개 중 하나만 보존 기간이 지났을 때
+        User 작성자 = userRepository.save(new User("purge1", "pw", "name", "purge@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+        Answer 오래된_답변 = new Answer(작성자, 질문, "오래된 답변");
+        오래된_답변.setDeleted(true);
+        Answer 최근_답변 = new Answer(작성자, 질문, "최근 답변");
+        최근_답변.setDeleted(true);
+        answerRepository.save(오래된_답변);
+        answerRepository.save(최근_답변);
+        DeleteHistory 오래된_이력 = deleteHistoryRepository.save(
+                new DeleteHistory(ContentType.ANSWER, 오래된_답변.getId(), 작성자, LocalDateTime.now().minusDays(2)));
+        DeleteHistory 최근_이력 = deleteHistoryRepository.save(
+                new DeleteHistory(ContentType.ANSWER, 최근_답변.getId(), 작성자, LocalDateTime.now()));
+
+        // when
+        retentionPurgeService.purge();
+
+        // then
+        assertThat(answerRepository.findById(오래된_답변.getId())).isEmpty();
+        assertThat(deleteHistoryRepository.findById(오래된_이력.getId())).isEmpty();
+        assertThat(answerRepository.findById(최근_답변.getId())).isPresent();
+        assertThat(deleteHistoryRepository.findById(최근_이력.getId())).isPresent();
+        assertThat(purgeCheckpointRepository.findById(ContentType.ANSWER))
+                .hasValueSatisfying(checkpoint -> assertThat(checkpoint.getPurgedRows()).isGreaterThanOrEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 질문은 soft delete된 답변과 함께 물리 삭제된다")
+    void 보존기간_지난_질문_정리() {
+        // given
+        User 작성자 = userRepository.save(new User("purge2", "pw", "name", "purge@test.com"));
+        Question 질문 = new Question("제목", "내용", 작성자);
+        Answer 답변 = new Answer(작성자, 질문, "답변");
+        질문.addAnswer(답변);
+        질문.delete();
+        questionRepository.save(질문);
+        deleteHistoryRepository.save(
+                new DeleteHistory(ContentType.QUESTION, 질문.getId(), 작성자, LocalDateTime.now().minusDays(2)));
+
+        // when
+        retentionPurgeService.purge();
+
+        // then
+        assertThat(questionRepository.findById(질문.getId())).isEmpty();
+        assertThat(answerRepository.findById(답변.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정리를 켠 채로 LOG 모드를 쓰면 시작하지 않는다")
+    void LOG_모드와_함께_켤_수_없다() {
+        PurgeProperties 정리_켬 = new PurgeProperties(true, Map.of(ContentType.ANSWER, Duration.ofDays(1)), 100, 500);
+
+        assertThatThrownBy(() -> new RetentionPurgeService(정리_켬, deleteHistoryRepository, questionRepository, answerRepository,
+                purgeCheckpointRepository, null, new ShardRouter(1), new SimpleMeterRegistry(), DeleteHistoryWriteMode.LOG))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,118 @@
+package qna.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import qna.domain.Answer;
+import qna.domain.AnswerRepository;
+import qna.domain.ContentType;
+import qna.domain.Question;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserActivity;
+import qna.domain.UserActivityRepository;
+import qna.domain.UserContent;
+import qna.domain.UserContentPage;
+import qna.domain.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+@SpringBootTest
+class UserActivityServiceTest {
+
+    @Autowired
+    UserActivityService userActivityService;
+
+    @Autowired
+    QnaService qnaService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @SpyBean
+    UserActivityRepository userActivityRepository;
+
+    @Test
+    @DisplayName("질문과 답변을 쓰고 지우면 활동 집계가 커밋될 때마다 갱신된다")
+    void activity() {
+        // given
+        User 작성자 = userRepository.save(new User("activity1", "pw", "name", "a@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+        answerRepository.save(new Answer(작성자, 질문, "답변1"));
+        answerRepository.save(new Answer(작성자, 질문, "답변2"));
+
+        UserActivity 작성_후 = userActivityService.findActivity(작성자.getId());
+        assertThat(작성_후.getQuestionCount()).isEqualTo(1);
+        assertThat(작성_후.getAnswerCount()).isEqualTo(2);
+        assertThat(작성_후.getLastActivityAt()).isNotNull();
+
+        // when
+        qnaService.deleteQuestion(작성자, 질문.getId());
+
+        // then
+        UserActivity 삭제_후 = userActivityService.findActivity(작성자.getId());
+        assertThat(삭제_후.getQuestionCount()).isZero();
+        assertThat(삭제_후.getAnswerCount()).isZero();
+        assertThat(userActivityService.recount(작성자.getId()).getAnswerCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋 뒤 집계 갱신이 실패한 사용자는 다시 세어 맞춘다")
+    void recountStale() {
+        // given
+        User 작성자 = userRepository.save(new User("activity4", "pw", "name", "a@test.com"));
+        doThrow(new IllegalStateException("update failed"))
+                .when(userActivityRepository).applyDelta(eq(작성자.getId()), anyLong(), anyLong(), any(), any());
+        questionRepository.save(new Question("제목", "내용", 작성자));
+        assertThat(userActivityService.findActivity(작성자.getId()).getQuestionCount()).isZero();
+
+        // when
+        reset(userActivityRepository);
+        userActivityService.recountStale();
+
+        // then
+        assertThat(userActivityService.findActivity(작성자.getId()).getQuestionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("내가 쓴 질문을 최신순 페이지로 끝까지 읽을 수 있다")
+    void findQuestions() {
+        // given
+        User 작성자 = userRepository.save(new User("activity2", "pw", "name", "a@test.com"));
+        User 다른_사람 = userRepository.save(new User("activity3", "pw", "name", "a@test.com"));
+        for (int i = 0; i < 5; i++) {
+            questionRepository.save(new Question("질문" + i, "내용", 작성자));
+        }
+        questionRepository.save(new Question("다른 질문", "내용", 다른_사람));
+
+        // when
+        List<UserContent> 읽은_질문 = new ArrayList<>();
+        UserContentPage 페이지 = userActivityService.findQuestions(작성자.getId(), null, 2);
+        읽은_질문.addAll(페이지.contents());
+        while (페이지.hasNext()) {
+            페이지 = userActivityService.findQuestions(작성자.getId(), 페이지.next(), 2);
+            읽은_질문.addAll(페이지.contents());
+        }
+
+        // then
+        assertThat(읽은_질문).extracting(UserContent::title)
+                .containsExactly("질문4", "질문3", "질문2", "질문1", "질문0");
+        assertThat(읽은_질문).extracting(UserContent::contentType).containsOnly(ContentType.QUESTION);
+    }
+}
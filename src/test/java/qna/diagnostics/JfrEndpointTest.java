@@ -0,0 +1,140 @@
+package qna.diagnostics;
+
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+import qna.application.QnaService;
+import qna.domain.Answer;
+import qna.domain.AnswerRepository;
+import qna.domain.Question;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserRepository;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class JfrEndpointTest {
+
+    @Autowired
+    QnaService qnaService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @TempDir
+    Path directory;
+
+    private JfrEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new JfrEndpoint(new JfrProperties(directory, Duration.ofMinutes(1), DataSize.ofMegabytes(64), 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+    }
+
+    @Test
+    @DisplayName("녹화 중에 질문을 지우면 질문 삭제, 삭제 이력 저장, 저장소 호출 이벤트가 파일에 남는다")
+    void recordDeleteQuestion() throws Exception {
+        // given
+        User 작성자 = userRepository.save(new User("jfr1", "pw", "name", "jfr@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 작성자));
+        answerRepository.save(new Answer(작성자, 질문, "답변1"));
+        answerRepository.save(new Answer(작성자, 질문, "답변2"));
+        JfrEndpoint.RecordingDescriptor started = endpoint.start(JfrPreset.JDBC, null);
+
+        // when
+        qnaService.deleteQuestion(작성자, 질문.getId());
+        JfrEndpoint.RecordingDescriptor stopped = endpoint.stop(started.id());
+
+        // then
+        assertThat(stopped.state()).isEqualTo(RecordingState.CLOSED);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(Path.of(stopped.file()));
+        RecordedEvent 질문_삭제 = only(events, "qna.QuestionDelete");
+        assertThat(질문_삭제.getLong("questionId")).isEqualTo(질문.getId());
+        assertThat(질문_삭제.getLong("answerCount")).isEqualTo(2);
+        assertThat(질문_삭제.getLong("statementCount")).isPositive();
+        assertThat(질문_삭제.getString("result")).isEqualTo("DELETED");
+        assertThat(only(events, "qna.DeleteHistorySave").getInt("histories")).isEqualTo(3);
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals("qna.RepositoryCall"))
+                .extracting(event -> event.getString("repository"))
+                .contains("questionRepository", "deleteHistoryRepository");
+    }
+
+    @Test
+    @DisplayName("녹화 중에도 지금까지의 내용을 내려받을 수 있고, 최대 개수를 넘겨 시작할 수 없다")
+    void downloadRunning() throws Exception {
+        // given
+        JfrEndpoint.RecordingDescriptor started = endpoint.start(JfrPreset.LOCK_CONTENTION, Duration.ofMinutes(1));
+
+        // when
+        Resource snapshot = endpoint.download(started.id());
+
+        // then
+        assertThat(snapshot.contentLength()).isPositive();
+        assertThat(endpoint.recordings()).extracting(JfrEndpoint.RecordingDescriptor::state)
+                .containsExactly(RecordingState.RUNNING);
+        assertThatThrownBy(() -> endpoint.start(JfrPreset.ALLOCATION, null)).isInstanceOf(IllegalStateException.class);
+        assertThat(endpoint.download(started.id() + 1000)).isNull();
+    }
+
+    @Test
+    @DisplayName("내려받은 스냅샷은 다 읽으면 지워지고, 끝난 녹화는 최근 maxRecordings개만 목록에 남는다")
+    void cleanup() throws Exception {
+        // given
+        JfrEndpoint.RecordingDescriptor first = endpoint.start(JfrPreset.LOCK_CONTENTION, Duration.ofMinutes(1));
+        Resource snapshot = endpoint.download(first.id());
+
+        // when
+        try (InputStream input = snapshot.getInputStream()) {
+            input.readAllBytes();
+        }
+        boolean deletedAfterRead = !snapshot.exists();
+        endpoint.stop(first.id());
+        JfrEndpoint.RecordingDescriptor second = endpoint.start(JfrPreset.LOCK_CONTENTION, Duration.ofMinutes(1));
+        endpoint.stop(second.id());
+
+        // then
+        assertThat(deletedAfterRead).isTrue();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString())).noneMatch(name -> name.endsWith("-snapshot.jfr"));
+        }
+        assertThat(endpoint.recordings()).extracting(JfrEndpoint.RecordingDescriptor::id).containsExactly(second.id());
+        assertThat(Path.of(first.file())).exists();
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matched = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertThat(matched).hasSize(1);
+        return matched.get(0);
+    }
+}
@@ -0,0 +1,83 @@
+package qna.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.Answer;
+import qna.domain.AnswerRepository;
+import qna.domain.Question;
+import qna.domain.QuestionRepository;
+import qna.domain.User;
+import qna.domain.UserRepository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "qna.n-plus-one.threshold=3")
+class NPlusOneDetectorTest {
+
+    @Autowired
+    NPlusOneDetector detector;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    private final List<NPlusOneWarning> warnings = new CopyOnWriteArrayList<>();
+    private final Consumer<NPlusOneWarning> listener = warnings::add;
+
+    @BeforeEach
+    void setUp() {
+        User 작성자 = userRepository.findByUserId("nplusone")
+                .orElseGet(() -> userRepository.save(new User("nplusone", "pw", "name", "a@test.com")));
+        for (int i = 0; i < 5; i++) {
+            Question 질문 = questionRepository.save(new Question("제목" + i, "내용", 작성자));
+            answerRepository.save(new Answer(작성자, 질문, "답변" + i));
+        }
+        detector.addListener(listener);
+    }
+
+    @AfterEach
+    void tearDown() {
+        detector.removeListener(listener);
+    }
+
+    @Test
+    @DisplayName("질문마다 답변을 따로 읽으면 호출 위치와 함께 N+1로 알린다")
+    void detect() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> questionRepository.findByDeletedFalse()
+                .forEach(question -> question.getAnswers().size()));
+
+        // then
+        assertThat(warnings).hasSize(1);
+        assertThat(warnings.get(0).shape()).contains("from answer");
+        assertThat(warnings.get(0).callSite()).startsWith(NPlusOneDetectorTest.class.getName());
+    }
+
+    @Test
+    @DisplayName("fetch join으로 한 번에 읽으면 알리지 않는다")
+    void fetchJoin() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> questionRepository.findLiveWithAnswers()
+                .forEach(question -> question.getAnswers().size()));
+
+        // then
+        assertThat(warnings).isEmpty();
+    }
+}
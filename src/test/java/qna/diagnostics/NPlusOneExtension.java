@@ -0,0 +1,51 @@
+package qna.diagnostics;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 테스트 스레드에서 N+1로 보이는 SELECT가 실행되면 테스트를 실패시킨다.
+ * Spring 테스트 컨텍스트의 NPlusOneDetector에 리스너를 등록하므로 @SpringBootTest와 함께 쓴다.
+ * 기준은 qna.n-plus-one.threshold이며, 리스너가 등록된 동안에는 샘플링과 관계없이 모든 트랜잭션을 감시한다.
+ */
+public class NPlusOneExtension implements BeforeEachCallback, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(NPlusOneExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        NPlusOneDetector detector = SpringExtension.getApplicationContext(context).getBean(NPlusOneDetector.class);
+        String testThread = Thread.currentThread().getName();
+        List<NPlusOneWarning> warnings = new CopyOnWriteArrayList<>();
+        Consumer<NPlusOneWarning> listener = warning -> {
+            if (warning.thread().equals(testThread)) {
+                warnings.add(warning);
+            }
+        };
+        detector.addListener(listener);
+        context.getStore(NAMESPACE).put(Recording.class, new Recording(detector, listener, warnings));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Recording recording = context.getStore(NAMESPACE).remove(Recording.class, Recording.class);
+        if (recording == null) {
+            return;
+        }
+        recording.detector().removeListener(recording.listener());
+        if (!recording.warnings().isEmpty()) {
+            throw new AssertionError("N+1로 보이는 SELECT가 실행되었습니다.\n" + recording.warnings().stream()
+                    .map(warning -> "  " + warning.callSite() + " (" + warning.count() + "회 이상) " + warning.shape())
+                    .collect(Collectors.joining("\n")));
+        }
+    }
+
+    private record Recording(NPlusOneDetector detector, Consumer<NPlusOneWarning> listener, List<NPlusOneWarning> warnings) {
+    }
+}
@@ -0,0 +1,69 @@
+package qna.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoarseClockTest {
+
+    @Test
+    @DisplayName("읽어 둔 시각은 resolution 안에서 시스템 시각을 따라가고 뒤로 가지 않는다")
+    void followsSystemClock() throws InterruptedException {
+        try (CoarseClock clock = CoarseClock.start(ZoneId.systemDefault(), Duration.ofMillis(1))) {
+            // given
+            long first = clock.millis();
+
+            // when
+            Thread.sleep(50);
+            long second = clock.millis();
+
+            // then
+            assertThat(second).isGreaterThan(first);
+            assertThat(System.currentTimeMillis() - second).isLessThan(1_000);
+        }
+    }
+
+    @Test
+    @DisplayName("닫은 뒤에는 시스템 시계를 직접 읽는다")
+    void afterClose() throws InterruptedException {
+        // given
+        CoarseClock clock = CoarseClock.start(ZoneId.systemDefault(), Duration.ofHours(1));
+        long ticked = clock.millis();
+        clock.close();
+
+        // when
+        Thread.sleep(20);
+
+        // then
+        assertThat(clock.millis()).isGreaterThan(ticked);
+    }
+
+    @Test
+    @DisplayName("DomainClock에 고정 시계를 끼우면 엔티티가 그 시각으로 만들어진다")
+    void domainClock() {
+        // given
+        Clock original = DomainClock.clock();
+        LocalDateTime fixed = LocalDateTime.of(2025, 1, 1, 9, 0);
+        DomainClock.use(Clock.fixed(fixed.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+        try {
+            // when
+            User user = new User("clock", "pw", "name", "clock@test.com");
+            Question question = new Question("제목", "내용", user);
+            Answer answer = new Answer(user, question, "답변");
+
+            // then
+            assertThat(question.getCreatedAt()).isEqualTo(fixed);
+            assertThat(answer.getCreatedAt()).isEqualTo(fixed);
+        } finally {
+            DomainClock.use(original);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package qna.domain;
+
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * AnswerRepository의 메모리 구현. 질문별, 작성자별 보조 색인으로 keyset 페이지와 개수 조회를 그 질문(작성자)의 답변만 훑어서 처리한다.
+ * 질문의 answers는 InMemoryQuestionRepository가 질문을 조회할 때 이 저장소에서 채운다.
+ */
+public class InMemoryAnswerRepository extends InMemoryRepository<Answer> implements AnswerRepository {
+    private static final Comparator<Answer> OLDEST_FIRST = Comparator.comparing(Answer::getCreatedAt)
+            .thenComparing(Answer::getId);
+
+    private final Map<Long, Set<Long>> byQuestion = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> byWriter = new ConcurrentHashMap<>();
+
+    @Override
+    protected Long idOf(Answer answer) {
+        return answer.getId();
+    }
+
+    @Override
+    protected void assignId(Answer answer, Long id) {
+        answer.assignId(id);
+    }
+
+    @Override
+    protected Long nextId() {
+        return TimeOrderedIdGenerator.nextId();
+    }
+
+    @Override
+    protected void index(Answer answer) {
+        addTo(byQuestion, answer.getQuestionId(), answer.getId());
+        addTo(byWriter, answer.getWriterId(), answer.getId());
+    }
+
+    @Override
+    protected void unindex(Answer answer) {
+        removeFrom(byQuestion, answer.getQuestionId(), answer.getId());
+        removeFrom(byWriter, answer.getWriterId(), answer.getId());
+    }
+
+    @Override
+    public List<Answer> findByQuestion_IdAndDeletedFalse(Long questionId) {
+        return liveOf(questionId)
+                .sorted(Comparator.comparing(Answer::getId))
+                .toList();
+    }
+
+    @Override
+    public Optional<Answer> findByIdAndDeletedFalse(Long id) {
+        return findById(id).filter(answer -> !answer.isDeleted());
+    }
+
+    @Override
+    public long countByQuestion_IdAndDeletedFalse(Long questionId) {
+        return liveOf(questionId).count();
+    }
+
+    @Override
+    public boolean existsByQuestion_IdAndDeletedFalseAndWriter_IdNot(Long questionId, Long writerId) {
+        return liveOf(questionId).anyMatch(answer -> !answer.getWriterId().equals(writerId));
+    }
+
+    @Override
+    public List<AnswerWriter> findWriters(Long questionId) {
+        return liveOf(questionId)
+                .map(answer -> new AnswerWriter(answer.getId(), answer.getWriterId()))
+                .toList();
+    }
+
+    @Override
+    public List<AnswerView> findFirstPage(Long questionId, Pageable pageable) {
+        return page(visibleOf(questionId)
+                .sorted(OLDEST_FIRST)
+                .map(AnswerView::of), pageable);
+    }
+
+    @Override
+    public List<AnswerView> findPageAfter(Long questionId, LocalDateTime createdAt, Long id, Pageable pageable) {
+        return page(visibleOf(questionId)
+                .filter(answer -> isAfter(answer, createdAt, id))
+                .sorted(OLDEST_FIRST)
+                .map(AnswerView::of), pageable);
+    }
+
+    @Override
+    public List<AnswerCursor> findFirstKeys(Long questionId, Long writerId, Pageable pageable) {
+        return page(liveOf(questionId)
+                .filter(answer -> writerId.equals(answer.getWriterId()))
+                .sorted(OLDEST_FIRST)
+                .map(answer -> new AnswerCursor(answer.getCreatedAt(), answer.getId())), pageable);
+    }
+
+    @Override
+    public List<AnswerCursor> findKeysAfter(Long questionId, Long writerId, LocalDateTime createdAt, Long id, Pageable pageable) {
+        return page(liveOf(questionId)
+                .filter(answer -> writerId.equals(answer.getWriterId()))
+                .filter(answer -> isAfter(answer, createdAt, id))
+                .sorted(OLDEST_FIRST)
+                .map(answer -> new AnswerCursor(answer.getCreatedAt(), answer.getId())), pageable);
+    }
+
+    @Override
+    public List<UserContent> findWrittenFirstPage(Long writerId, Pageable pageable) {
+        return page(visibleWrittenBy(writerId)
+                .sorted(OLDEST_FIRST.reversed())
+                .map(InMemoryAnswerRepository::toUserContent), pageable);
+    }
+
+    @Override
+    public List<UserContent> findWrittenPageAfter(Long writerId, LocalDateTime createdAt, Long id, Pageable pageable) {
+        return page(visibleWrittenBy(writerId)
+                .filter(answer -> answer.getCreatedAt().isBefore(createdAt)
+                        || (answer.getCreatedAt().isEqual(createdAt) && answer.getId() < id))
+                .sorted(OLDEST_FIRST.reversed())
+                .map(InMemoryAnswerRepository::toUserContent), pageable);
+    }
+
+    @Override
+    public long countByWriter_IdAndDeletedFalse(Long writerId) {
+        return writtenBy(writerId)
+                .filter(answer -> !answer.isDeleted())
+                .count();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLastWrittenAt(Long writerId) {
+        return writtenBy(writerId)
+                .map(Answer::getCreatedAt)
+                .max(Comparator.naturalOrder());
+    }
+
+    @Override
+    public int markDeletedByIdIn(List<Long> ids) {
+        int updated = 0;
+        for (Answer answer : findAllById(ids)) {
+            if (!answer.isDeleted()) {
+                answer.setDeleted(true);
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLastCreatedAt(Long questionId) {
+        return liveOf(questionId)
+                .map(Answer::getCreatedAt)
+                .max(Comparator.naturalOrder());
+    }
+
+    @Override
+    public int deleteSoftDeletedByIdIn(List<Long> ids) {
+        return removeDeleted(entities(ids));
+    }
+
+    @Override
+    public int deleteSoftDeletedByQuestionIdIn(List<Long> questionIds) {
+        return removeDeleted(questionIds.stream().flatMap(this::ofQuestion));
+    }
+
+    // 색인을 훑는 동안 색인을 고치지 않도록 대상을 먼저 모은다.
+    private int removeDeleted(Stream<Answer> answers) {
+        int deleted = 0;
+        for (Answer answer : answers.toList()) {
+            if (answer.isDeleted() && store.remove(answer.getId(), answer)) {
+                unindex(answer);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private Stream<Answer> ofQuestion(Long questionId) {
+        return entities(lookup(byQuestion, questionId));
+    }
+
+    private Stream<Answer> liveOf(Long questionId) {
+        return ofQuestion(questionId).filter(answer -> !answer.isDeleted());
+    }
+
+    // 삭제 작업이 진행 중인 질문(deleted = true)의 남은 답변은 보이지 않는다.
+    private Stream<Answer> visibleOf(Long questionId) {
+        return liveOf(questionId).filter(answer -> !answer.getQuestion().isDeleted());
+    }
+
+    private Stream<Answer> writtenBy(Long writerId) {
+        return entities(lookup(byWriter, writerId));
+    }
+
+    private Stream<Answer> visibleWrittenBy(Long writerId) {
+        return writtenBy(writerId)
+                .filter(answer -> !answer.isDeleted() && !answer.getQuestion().isDeleted());
+    }
+
+    private static boolean isAfter(Answer answer, LocalDateTime createdAt, Long id) {
+        return answer.getCreatedAt().isAfter(createdAt)
+                || (answer.getCreatedAt().isEqual(createdAt) && answer.getId() > id);
+    }
+
+    private static UserContent toUserContent(Answer answer) {
+        Question question = answer.getQuestion();
+        return new UserContent(ContentType.ANSWER, answer.getId(), question.getId(), question.getTitle(), answer.getCreatedAt());
+    }
+}
@@ -0,0 +1,84 @@
+package qna.domain;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DeleteHistoryRepository의 메모리 구현. DB의 uk_delete_history_content처럼 같은 글의 이력은 하나만 저장한다.
+ */
+public class InMemoryDeleteHistoryRepository extends InMemoryRepository<DeleteHistory> implements DeleteHistoryRepository {
+    private final Map<ContentKey, Long> byContent = new ConcurrentHashMap<>();
+
+    @Override
+    protected Long idOf(DeleteHistory history) {
+        return history.getId();
+    }
+
+    @Override
+    protected void assignId(DeleteHistory history, Long id) {
+        history.assignId(id);
+    }
+
+    @Override
+    protected Long nextId() {
+        return TimeOrderedIdGenerator.nextId();
+    }
+
+    @Override
+    protected void index(DeleteHistory history) {
+        Long existing = byContent.putIfAbsent(ContentKey.of(history), history.getId());
+        if (existing != null && !existing.equals(history.getId())) {
+            throw new DataIntegrityViolationException("이미 삭제 이력이 있습니다. " + ContentKey.of(history));
+        }
+    }
+
+    @Override
+    protected void unindex(DeleteHistory history) {
+        byContent.remove(ContentKey.of(history), history.getId());
+    }
+
+    @Override
+    public List<PurgeTarget> findPurgeTargets(ContentType contentType, Long afterId, LocalDateTime before, Pageable pageable) {
+        return page(store.tailMap(afterId, false).values().stream()
+                .filter(history -> history.getContentType() == contentType && history.getCreateDate().isBefore(before))
+                .map(history -> new PurgeTarget(history.getId(), history.getContentId())), pageable);
+    }
+
+    @Override
+    public boolean existsByContentTypeAndContentIdAndDeletedBy_Id(ContentType contentType, Long contentId, Long deletedById) {
+        Long id = byContent.get(new ContentKey(contentType, contentId));
+        if (id == null) {
+            return false;
+        }
+        DeleteHistory history = store.get(id);
+        return history != null && history.getDeletedById().equals(deletedById);
+    }
+
+    @Override
+    public long countByContentTypeAndCreateDateBefore(ContentType contentType, LocalDateTime before) {
+        return store.values().stream()
+                .filter(history -> history.getContentType() == contentType && history.getCreateDate().isBefore(before))
+                .count();
+    }
+
+    @Override
+    public List<DeleteHistoryRecord> findRecordsBetween(LocalDateTime from, LocalDateTime to) {
+        return store.values().stream()
+                .filter(history -> !history.getCreateDate().isBefore(from) && history.getCreateDate().isBefore(to))
+                .sorted(Comparator.comparing(DeleteHistory::getCreateDate).thenComparing(DeleteHistory::getId))
+                .map(DeleteHistoryRecord::of)
+                .toList();
+    }
+
+    private record ContentKey(ContentType contentType, Long contentId) {
+        private static ContentKey of(DeleteHistory history) {
+            return new ContentKey(history.getContentType(), history.getContentId());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package qna.domain;
+
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * QuestionRepository의 메모리 구현. 작성자별 보조 색인으로 "내 질문" 조회를 작성자의 질문만 훑어서 처리한다.
+ * JPA처럼 조회한 질문의 answers에는 살아 있는 답변이 들어 있고, 새 답변이 든 질문을 저장하면 답변도 함께 저장한다. (CascadeType.PERSIST, REMOVE)
+ */
+public class InMemoryQuestionRepository extends InMemoryRepository<Question> implements QuestionRepository {
+    private static final Comparator<Question> NEWEST_FIRST = Comparator.comparing(Question::getCreatedAt)
+            .thenComparing(Question::getId)
+            .reversed();
+
+    private final Map<Long, Set<Long>> byWriter = new ConcurrentHashMap<>();
+    private final InMemoryAnswerRepository answerRepository;
+
+    public InMemoryQuestionRepository(InMemoryAnswerRepository answerRepository) {
+        this.answerRepository = answerRepository;
+    }
+
+    @Override
+    public <S extends Question> S save(S question) {
+        S saved = super.save(question);
+        for (Answer answer : List.copyOf(saved.getAnswers())) {
+            if (Objects.isNull(answer.getId())) {
+                answerRepository.save(answer);
+            }
+        }
+        return saved;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        findById(id).ifPresent(question -> answerRepository.deleteAll(question.getAnswers()));
+        super.deleteById(id);
+    }
+
+    @Override
+    protected Long idOf(Question question) {
+        return question.getId();
+    }
+
+    @Override
+    protected void assignId(Question question, Long id) {
+        question.assignId(id);
+    }
+
+    @Override
+    protected void index(Question question) {
+        addTo(byWriter, question.getWriterId(), question.getId());
+    }
+
+    @Override
+    protected void unindex(Question question) {
+        removeFrom(byWriter, question.getWriterId(), question.getId());
+    }
+
+    @Override
+    protected Question loaded(Question question) {
+        question.loadAnswers(answerRepository.findByQuestion_IdAndDeletedFalse(question.getId()));
+        return question;
+    }
+
+    @Override
+    public List<Question> findByDeletedFalse() {
+        return live().map(this::loaded).toList();
+    }
+
+    @Override
+    public long countByDeletedFalse() {
+        return live().count();
+    }
+
+    @Override
+    public Optional<Question> findByIdAndDeletedFalse(Long id) {
+        return findById(id).filter(question -> !question.isDeleted());
+    }
+
+    // 행 잠금이 없으므로 동시에 지우는 요청을 차례로 세우지 않는다.
+    @Override
+    public Optional<Question> findByIdForUpdate(Long id) {
+        return findById(id);
+    }
+
+    @Override
+    public List<Question> findLiveWithAnswers() {
+        return live().map(this::loaded).toList();
+    }
+
+    @Override
+    public List<Question> findLiveWithAnswersByIdIn(Collection<Long> ids) {
+        return entities(ids)
+                .filter(question -> !question.isDeleted())
+                .map(this::loaded)
+                .toList();
+    }
+
+    @Override
+    public List<Question> findLiveWithAnswersByIdInForUpdate(Collection<Long> ids) {
+        return findLiveWithAnswersByIdIn(ids);
+    }
+
+    @Override
+    public List<Long> findLiveIds(Collection<Long> ids) {
+        return entities(ids)
+                .filter(question -> !question.isDeleted())
+                .map(Question::getId)
+                .toList();
+    }
+
+    @Override
+    public List<UserContent> findWrittenFirstPage(Long writerId, Pageable pageable) {
+        return page(written(writerId)
+                .filter(question -> !question.isDeleted())
+                .sorted(NEWEST_FIRST)
+                .map(InMemoryQuestionRepository::toUserContent), pageable);
+    }
+
+    @Override
+    public List<UserContent> findWrittenPageAfter(Long writerId, LocalDateTime createdAt, Long id, Pageable pageable) {
+        return page(written(writerId)
+                .filter(question -> !question.isDeleted())
+                .filter(question -> question.getCreatedAt().isBefore(createdAt)
+                        || (question.getCreatedAt().isEqual(createdAt) && question.getId() < id))
+                .sorted(NEWEST_FIRST)
+                .map(InMemoryQuestionRepository::toUserContent), pageable);
+    }
+
+    @Override
+    public long countByWriter_IdAndDeletedFalse(Long writerId) {
+        return written(writerId)
+                .filter(question -> !question.isDeleted())
+                .count();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLastWrittenAt(Long writerId) {
+        return written(writerId)
+                .map(Question::getCreatedAt)
+                .max(Comparator.naturalOrder());
+    }
+
+    @Override
+    public int deleteSoftDeletedByIdIn(List<Long> ids) {
+        int deleted = 0;
+        for (Long id : ids) {
+            Question question = store.get(id);
+            if (question != null && question.isDeleted() && store.remove(id, question)) {
+                unindex(question);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private Stream<Question> live() {
+        return store.values().stream()
+                .filter(question -> !question.isDeleted());
+    }
+
+    private Stream<Question> written(Long writerId) {
+        return entities(lookup(byWriter, writerId))
+                .filter(question -> writerId.equals(question.getWriterId()));
+    }
+
+    private static UserContent toUserContent(Question question) {
+        return new UserContent(ContentType.QUESTION, question.getId(), question.getId(), question.getTitle(), question.getCreatedAt());
+    }
+}
@@ -0,0 +1,575 @@
+package qna.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Transient;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.support.ExampleMatcherAccessor;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * JpaRepository를 ConcurrentSkipListMap 위에 구현한 메모리 저장소의 공통 부분. id 순서로 저장하고, id가 없으면 저장할 때 매긴다.
+ * 저장한 객체를 복사하지 않고 그대로 돌려주므로 영속성 컨텍스트처럼 저장 뒤에 엔티티를 고친 내용이 다음 조회에 보인다.
+ *
+ * 보조 색인은 저장 뒤에 바뀌지 않는 값(작성자, 질문 등)에만 두고, deleted처럼 바뀌는 값은 조회할 때 거른다.
+ * 저장할 때 @Column/@JoinColumn의 NOT NULL과 문자열 길이를 DB 제약처럼 확인한다.
+ * 정렬과 Example 조회는 필드를 리플렉션으로 읽어 JPA(H2)와 같은 순서와 조건으로 거른다. null은 오름차순에서 먼저 온다.
+ * 트랜잭션과 롤백은 없다.
+ */
+public abstract class InMemoryRepository<T> implements JpaRepository<T, Long> {
+    private static final int DEFAULT_COLUMN_LENGTH = 255;
+    private static final Map<Class<?>, List<Field>> PERSISTENT_FIELDS = new ConcurrentHashMap<>();
+
+    protected final ConcurrentNavigableMap<Long, T> store = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    protected abstract Long idOf(T entity);
+
+    protected abstract void assignId(T entity, Long id);
+
+    // id가 없는 엔티티를 저장할 때 매길 id. JPA에서 DB가 아니라 애플리케이션이 id를 매기는 엔티티는 같은 방식으로 바꾼다.
+    protected Long nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    // 저장하기 전에 호출된다. 유니크 제약을 어기면 예외를 던져 저장을 막는다.
+    protected void index(T entity) {
+    }
+
+    protected void unindex(T entity) {
+    }
+
+    // 조회 결과로 돌려주기 전에 호출된다. JPA가 지연 로딩하는 연관을 채울 때 쓴다.
+    protected T loaded(T entity) {
+        return entity;
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        Long id = idOf(entity);
+        if (Objects.isNull(id)) {
+            id = nextId();
+            assignId(entity, id);
+        } else {
+            sequence.accumulateAndGet(id, Math::max);
+            T previous = store.get(id);
+            if (previous != null && previous != entity) {
+                unindex(previous);
+            }
+        }
+        checkColumns(entity);
+        index(entity);
+        store.put(id, entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<T> findById(Long id) {
+        return Optional.ofNullable(store.get(id)).map(this::loaded);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return store.containsKey(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return store.values().stream()
+                .map(this::loaded)
+                .toList();
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<Long> ids) {
+        List<T> found = new ArrayList<>();
+        for (Long id : ids) {
+            T entity = store.get(id);
+            if (entity != null) {
+                found.add(loaded(entity));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public long count() {
+        return store.size();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        T removed = store.remove(id);
+        if (removed != null) {
+            unindex(removed);
+        }
+    }
+
+    @Override
+    public void delete(T entity) {
+        Long id = idOf(entity);
+        if (id != null) {
+            deleteById(id);
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        for (Long id : ids) {
+            deleteById(id);
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        for (T entity : entities) {
+            delete(entity);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        deleteAllById(new ArrayList<>(store.keySet()));
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        return sorted(store.values().stream(), sort)
+                .map(this::loaded)
+                .toList();
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        return pageOf(() -> store.values().stream(), pageable);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public <S extends T> S saveAndFlush(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends T> List<S> saveAllAndFlush(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<T> entities) {
+        deleteAll(entities);
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Long> ids) {
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        deleteAll();
+    }
+
+    @Deprecated
+    @Override
+    public T getOne(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Deprecated
+    @Override
+    public T getById(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    public T getReferenceById(Long id) {
+        return findById(id).orElseThrow(() -> new EntityNotFoundException("id=" + id));
+    }
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        return Optional.ofNullable(new ExampleQuery<>(example.getProbeType(), () -> matching(example)).oneValue());
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        return matching(example).toList();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        return sorted(matching(example), sort).toList();
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return pageOf(() -> matching(example), pageable);
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        return matching(example).count();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        return matching(example).findAny().isPresent();
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new ExampleQuery<>(example.getProbeType(), () -> matching(example)));
+    }
+
+    // 보조 색인에서 찾은 id를 저장된 엔티티로 바꾼다. 그 사이에 지워진 id는 건너뛴다.
+    protected Stream<T> entities(Collection<Long> ids) {
+        return ids.stream()
+                .map(store::get)
+                .filter(Objects::nonNull);
+    }
+
+    // 같은 키 잠금(compute) 안에서 넣고 빼므로, 비어서 지워지는 집합에 id를 넣어 잃어버리는 일이 없다.
+    protected static void addTo(Map<Long, Set<Long>> index, Long key, Long id) {
+        index.compute(key, (ignored, ids) -> {
+            Set<Long> updated = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+            updated.add(id);
+            return updated;
+        });
+    }
+
+    protected static void removeFrom(Map<Long, Set<Long>> index, Long key, Long id) {
+        index.computeIfPresent(key, (ignored, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    protected static Set<Long> lookup(Map<Long, Set<Long>> index, Long key) {
+        return index.getOrDefault(key, Set.of());
+    }
+
+    protected static <R> List<R> page(Stream<R> stream, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return stream.toList();
+        }
+        return stream.skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    // JPQL like의 %와 _만 지원한다.
+    protected static boolean like(String value, String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+            if (c == '%') {
+                regex.append(".*");
+            } else if (c == '_') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return value != null && Pattern.compile(regex.toString(), Pattern.DOTALL).matcher(value).matches();
+    }
+
+    private <S extends T> Page<S> pageOf(Supplier<Stream<S>> query, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(query.get().toList());
+        }
+        List<S> content = page(sorted(query.get(), pageable.getSort()), pageable);
+        return new PageImpl<>(content, pageable, query.get().count());
+    }
+
+    // 저장된 엔티티 중 probe와 같은 타입이고 조건에 맞는 것. JPA처럼 probe 타입의 하위 타입도 포함한다.
+    @SuppressWarnings("unchecked")
+    private <S extends T> Stream<S> matching(Example<S> example) {
+        ExampleMatcherAccessor matcher = new ExampleMatcherAccessor(example.getMatcher());
+        boolean all = example.getMatcher().isAllMatching();
+        return store.values().stream()
+                .filter(example.getProbeType()::isInstance)
+                .filter(entity -> matches(conditions(example.getProbe(), entity, matcher, all, "", new IdentityHashMap<>()), all))
+                .map(entity -> (S) loaded(entity));
+    }
+
+    // probe의 영속 필드마다 조건 하나를 만든다. 연관 엔티티와 @Embeddable은 값이 있는 필드만 따라 들어가고, 컬렉션은 보지 않는다.
+    private static List<Boolean> conditions(Object probe, Object candidate, ExampleMatcherAccessor matcher, boolean all,
+                                            String prefix, Map<Object, Boolean> visited) {
+        visited.put(probe, Boolean.TRUE);
+        List<Boolean> conditions = new ArrayList<>();
+        for (Field field : persistentFields(probe.getClass())) {
+            String path = prefix + field.getName();
+            if (matcher.isIgnoredPath(path) || Collection.class.isAssignableFrom(field.getType())
+                    || Map.class.isAssignableFrom(field.getType())) {
+                continue;
+            }
+            Object expected = matcher.getValueTransformerForPath(path)
+                    .apply(Optional.ofNullable(ReflectionUtils.getField(field, probe)))
+                    .orElse(null);
+            Object actual = candidate == null ? null : ReflectionUtils.getField(field, candidate);
+            if (expected == null) {
+                if (matcher.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                    conditions.add(actual == null);
+                }
+            } else if (isAssociation(field.getType())) {
+                if (!visited.containsKey(expected)) {
+                    conditions.add(matches(conditions(expected, actual, matcher, all, path + ".", visited), all));
+                }
+            } else if (expected instanceof String text) {
+                conditions.add(actual instanceof String value && matchesString(value, text, matcher, path));
+            } else {
+                conditions.add(Objects.equals(expected, actual));
+            }
+        }
+        return conditions;
+    }
+
+    private static boolean matches(List<Boolean> conditions, boolean all) {
+        if (conditions.isEmpty()) {
+            return true;
+        }
+        return all ? !conditions.contains(Boolean.FALSE) : conditions.contains(Boolean.TRUE);
+    }
+
+    private static boolean matchesString(String value, String expected, ExampleMatcherAccessor matcher, String path) {
+        if (matcher.isIgnoreCaseForPath(path)) {
+            value = value.toLowerCase();
+            expected = expected.toLowerCase();
+        }
+        return switch (matcher.getStringMatcherForPath(path)) {
+            case DEFAULT, EXACT -> value.equals(expected);
+            case STARTING -> value.startsWith(expected);
+            case ENDING -> value.endsWith(expected);
+            case CONTAINING -> value.contains(expected);
+            case REGEX -> throw new IllegalArgumentException("Unsupported StringMatcher REGEX");
+        };
+    }
+
+    private static boolean isAssociation(Class<?> type) {
+        return type.isAnnotationPresent(Entity.class) || type.isAnnotationPresent(Embeddable.class);
+    }
+
+    protected static <R> Stream<R> sorted(Stream<R> stream, Sort sort) {
+        if (sort.isUnsorted()) {
+            return stream;
+        }
+        Comparator<R> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            comparator = comparator.thenComparing(byProperty(order));
+        }
+        return stream.sorted(comparator);
+    }
+
+    // H2처럼 NATIVE면 null을 가장 작은 값으로 본다. 엔티티의 enum은 모두 EnumType.STRING이므로 이름으로 비교한다.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <R> Comparator<R> byProperty(Sort.Order order) {
+        boolean nullsFirst = order.getNullHandling() == Sort.NullHandling.NULLS_FIRST
+                || (order.getNullHandling() == Sort.NullHandling.NATIVE && order.isAscending());
+        return (left, right) -> {
+            Object a = property(left, order.getProperty());
+            Object b = property(right, order.getProperty());
+            if (a == null || b == null) {
+                if (a == b) {
+                    return 0;
+                }
+                return (a == null) == nullsFirst ? -1 : 1;
+            }
+            int compared;
+            if (a instanceof Enum<?> x && b instanceof Enum<?> y) {
+                compared = x.name().compareTo(y.name());
+            } else if (order.isIgnoreCase() && a instanceof String x && b instanceof String y) {
+                compared = String.CASE_INSENSITIVE_ORDER.compare(x, y);
+            } else {
+                compared = ((Comparable) a).compareTo(b);
+            }
+            return order.isAscending() ? compared : -compared;
+        };
+    }
+
+    // "writer.name"처럼 점으로 이은 경로를 따라 필드를 읽는다. 중간이 null이면 null이다.
+    private static Object property(Object target, String path) {
+        Object value = target;
+        for (String name : path.split("\\.")) {
+            if (value == null) {
+                return null;
+            }
+            Field field = ReflectionUtils.findField(value.getClass(), name);
+            if (field == null) {
+                throw new InvalidDataAccessApiUsageException("No property '" + name + "' found for type '"
+                        + value.getClass().getSimpleName() + "'");
+            }
+            ReflectionUtils.makeAccessible(field);
+            value = ReflectionUtils.getField(field, value);
+        }
+        return value;
+    }
+
+    // DB의 NOT NULL과 varchar 길이 제약. 스키마(V1__baseline.sql)는 매핑과 같으므로 @Lob이 아닌 문자열은 length(기본 255)까지다.
+    private static void checkColumns(Object entity) {
+        for (Field field : persistentFields(entity.getClass())) {
+            Column column = field.getAnnotation(Column.class);
+            JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+            Object value = ReflectionUtils.getField(field, entity);
+            boolean notNull = (column != null && !column.nullable()) || (joinColumn != null && !joinColumn.nullable());
+            if (value == null && notNull) {
+                throw new DataIntegrityViolationException("NULL not allowed for column " + field.getName());
+            }
+            if (value instanceof String text && !field.isAnnotationPresent(Lob.class)) {
+                int length = column == null ? DEFAULT_COLUMN_LENGTH : column.length();
+                if (text.length() > length) {
+                    throw new DataIntegrityViolationException("Value too long for column " + field.getName() + ": " + text.length());
+                }
+            }
+        }
+    }
+
+    private static List<Field> persistentFields(Class<?> type) {
+        return PERSISTENT_FIELDS.computeIfAbsent(type, ignored -> {
+            List<Field> fields = new ArrayList<>();
+            ReflectionUtils.doWithFields(type, field -> {
+                ReflectionUtils.makeAccessible(field);
+                fields.add(field);
+            }, field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())
+                    && !field.isAnnotationPresent(Transient.class));
+            return List.copyOf(fields);
+        });
+    }
+
+    /**
+     * findBy(Example, ...)의 조회. project는 가져올 필드를 좁히는 힌트라 무시하고, as는 엔티티의 상위 타입으로만 바꿀 수 있다.
+     */
+    private static final class ExampleQuery<R> implements FluentQuery.FetchableFluentQuery<R> {
+        private final Class<?> domainType;
+        private final Supplier<Stream<R>> query;
+        private final Sort sort;
+        private final int limit;
+
+        private ExampleQuery(Class<?> domainType, Supplier<Stream<R>> query) {
+            this(domainType, query, Sort.unsorted(), 0);
+        }
+
+        private ExampleQuery(Class<?> domainType, Supplier<Stream<R>> query, Sort sort, int limit) {
+            this.domainType = domainType;
+            this.query = query;
+            this.sort = sort;
+            this.limit = limit;
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> sortBy(Sort sort) {
+            return new ExampleQuery<>(domainType, query, this.sort.and(sort), limit);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> limit(int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("Limit must not be negative");
+            }
+            return new ExampleQuery<>(domainType, query, sort, limit);
+        }
+
+        @Override
+        public <N> FluentQuery.FetchableFluentQuery<N> as(Class<N> resultType) {
+            if (!resultType.isAssignableFrom(domainType)) {
+                throw new UnsupportedOperationException("메모리 저장소는 엔티티와 그 상위 타입으로만 돌려줍니다: " + resultType.getName());
+            }
+            return new ExampleQuery<>(domainType, () -> query.get().map(resultType::cast), sort, limit);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> project(Collection<String> properties) {
+            return this;
+        }
+
+        @Override
+        public R oneValue() {
+            List<R> found = sorted(query.get(), sort).limit(2).toList();
+            if (found.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1);
+            }
+            return found.isEmpty() ? null : found.get(0);
+        }
+
+        @Override
+        public R firstValue() {
+            return stream().findFirst().orElse(null);
+        }
+
+        @Override
+        public List<R> all() {
+            return stream().toList();
+        }
+
+        @Override
+        public Page<R> page(Pageable pageable) {
+            if (pageable.isUnpaged()) {
+                return new PageImpl<>(all());
+            }
+            Sort pageSort = pageable.getSort().isSorted() ? pageable.getSort() : sort;
+            List<R> content = InMemoryRepository.page(sorted(query.get(), pageSort), pageable);
+            return new PageImpl<>(content, pageable, count());
+        }
+
+        @Override
+        public Stream<R> stream() {
+            Stream<R> sorted = sorted(query.get(), sort);
+            return limit > 0 ? sorted.limit(limit) : sorted;
+        }
+
+        @Override
+        public long count() {
+            return query.get().count();
+        }
+
+        @Override
+        public boolean exists() {
+            return query.get().findAny().isPresent();
+        }
+    }
+}
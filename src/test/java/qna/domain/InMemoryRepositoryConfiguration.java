@@ -0,0 +1,40 @@
+package qna.domain;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 테스트에서 in-memory 프로필을 켜면(@ActiveProfiles) Question, Answer, User, DeleteHistory 저장소를 메모리 구현으로 바꾼다.
+ * 메모리 저장소는 테스트용이므로 테스트 소스에만 두어 운영 빌드에는 들어가지 않는다. 동작은 RepositoryContract로 JPA 저장소와 맞춘다.
+ * JPA 저장소 빈도 그대로 만들어지지만 @Primary인 메모리 구현이 주입된다. 메모리 저장소에는 트랜잭션 롤백과 샤드 라우팅이 적용되지 않는다.
+ */
+@Profile("in-memory")
+@Configuration(proxyBeanMethods = false)
+public class InMemoryRepositoryConfiguration {
+
+    @Bean
+    @Primary
+    public QuestionRepository inMemoryQuestionRepository(InMemoryAnswerRepository inMemoryAnswerRepository) {
+        return new InMemoryQuestionRepository(inMemoryAnswerRepository);
+    }
+
+    @Bean
+    @Primary
+    public InMemoryAnswerRepository inMemoryAnswerRepository() {
+        return new InMemoryAnswerRepository();
+    }
+
+    @Bean
+    @Primary
+    public UserRepository inMemoryUserRepository() {
+        return new InMemoryUserRepository();
+    }
+
+    @Bean
+    @Primary
+    public DeleteHistoryRepository inMemoryDeleteHistoryRepository() {
+        return new InMemoryDeleteHistoryRepository();
+    }
+}
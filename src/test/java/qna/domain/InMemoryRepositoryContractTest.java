@@ -0,0 +1,31 @@
+package qna.domain;
+
+/**
+ * 메모리 저장소로 공통 테스트를 실행한다. Spring과 DB 없이 돈다.
+ */
+class InMemoryRepositoryContractTest extends RepositoryContract {
+    private final InMemoryAnswerRepository answerRepository = new InMemoryAnswerRepository();
+    private final QuestionRepository questionRepository = new InMemoryQuestionRepository(answerRepository);
+    private final UserRepository userRepository = new InMemoryUserRepository();
+    private final DeleteHistoryRepository deleteHistoryRepository = new InMemoryDeleteHistoryRepository();
+
+    @Override
+    protected QuestionRepository questionRepository() {
+        return questionRepository;
+    }
+
+    @Override
+    protected AnswerRepository answerRepository() {
+        return answerRepository;
+    }
+
+    @Override
+    protected UserRepository userRepository() {
+        return userRepository;
+    }
+
+    @Override
+    protected DeleteHistoryRepository deleteHistoryRepository() {
+        return deleteHistoryRepository;
+    }
+}
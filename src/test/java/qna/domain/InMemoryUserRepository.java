@@ -0,0 +1,77 @@
+package qna.domain;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UserRepository의 메모리 구현. userId 색인으로 로그인 조회를 처리하고, DB처럼 userId가 겹치면 저장하지 않는다.
+ */
+public class InMemoryUserRepository extends InMemoryRepository<User> implements UserRepository {
+    private final Map<String, Long> byUserId = new ConcurrentHashMap<>();
+
+    @Override
+    protected Long idOf(User user) {
+        return user.getId();
+    }
+
+    @Override
+    protected void assignId(User user, Long id) {
+        user.setId(id);
+    }
+
+    @Override
+    protected void index(User user) {
+        Long existing = byUserId.putIfAbsent(user.getUserId(), user.getId());
+        if (existing == null || existing.equals(user.getId())) {
+            return;
+        }
+        User owner = store.get(existing);
+        if (owner != null && user.getUserId().equals(owner.getUserId())) {
+            throw new DataIntegrityViolationException("userId가 이미 있습니다. userId=" + user.getUserId());
+        }
+        byUserId.put(user.getUserId(), user.getId());
+    }
+
+    @Override
+    protected void unindex(User user) {
+        byUserId.remove(user.getUserId(), user.getId());
+    }
+
+    // 저장 뒤에 setUserId로 바뀐 사용자는 색인에 없으므로 전체를 훑는다.
+    @Override
+    public Optional<User> findByUserId(String userId) {
+        Long id = byUserId.get(userId);
+        User user = Objects.isNull(id) ? null : store.get(id);
+        if (user != null && userId.equals(user.getUserId())) {
+            return Optional.of(user);
+        }
+        return store.values().stream()
+                .filter(candidate -> userId.equals(candidate.getUserId()))
+                .findFirst();
+    }
+
+    @Override
+    public List<Long> findExistingIds(Collection<Long> ids) {
+        return ids.stream()
+                .filter(store::containsKey)
+                .toList();
+    }
+
+    @Override
+    public List<User> findPasswordsNotHashed(Long afterId, String hashedPrefix, Pageable pageable) {
+        return page(store.tailMap(afterId, false).values().stream()
+                .filter(user -> !like(user.getPassword(), hashedPrefix)), pageable);
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Long afterId, Pageable pageable) {
+        return page(store.tailMap(afterId, false).keySet().stream(), pageable);
+    }
+}
@@ -0,0 +1,78 @@
+package qna.domain;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA 저장소(H2)로 공통 테스트를 실행한다. 저장소 테스트의 @DataJpaTest는 이 클래스 하나뿐이다.
+ * 영속성 컨텍스트에 기대는 JPA만의 동작도 여기서 확인한다.
+ */
+@DataJpaTest
+class JpaRepositoryContractTest extends RepositoryContract {
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    DeleteHistoryRepository deleteHistoryRepository;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Override
+    protected QuestionRepository questionRepository() {
+        return questionRepository;
+    }
+
+    @Override
+    protected AnswerRepository answerRepository() {
+        return answerRepository;
+    }
+
+    @Override
+    protected UserRepository userRepository() {
+        return userRepository;
+    }
+
+    @Override
+    protected DeleteHistoryRepository deleteHistoryRepository() {
+        return deleteHistoryRepository;
+    }
+
+    @Override
+    protected void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("조회한 질문의 answers에 답변을 더하기만 해도 flush될 때 답변이 저장된다")
+    void cascadeOnDirtyCheck() {
+        // given
+        User 유저 = userRepository.save(new User("jpa1", "pw", "name", "a@test.com"));
+        Question 질문 = questionRepository.save(new Question("제목", "내용", 유저));
+        clear();
+
+        // when
+        Question 찾은_질문 = questionRepository.findById(질문.getId()).orElseThrow();
+        찾은_질문.addAnswer(new Answer(유저, 찾은_질문, "답변"));
+
+        // then
+        List<Answer> answers = answerRepository.findByQuestion_IdAndDeletedFalse(찾은_질문.getId());
+        assertThat(answers).hasSize(1);
+    }
+}
@@ -0,0 +1,77 @@
+package qna.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import qna.exception.CannotDeleteException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuestionBatchDeleterTest {
+    private static final LoginUser DORAEMON = LoginUser.of(UserTest.DORAEMON);
+
+    private ForkJoinPool pool;
+    private QuestionBatchDeleter deleter;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        deleter = new QuestionBatchDeleter(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 질문의 이력을 질문 순서대로 같은 삭제 시각으로 만든다")
+    void delete() {
+        // given
+        List<Question> 질문들 = questions(UserTest.DORAEMON, 200, 30);
+        LocalDateTime 삭제_시각 = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        // when
+        List<DeleteHistory> 이력 = deleter.delete(질문들, DORAEMON, 삭제_시각);
+
+        // then
+        assertThat(이력).hasSize(200 * 31);
+        assertThat(이력).extracting(DeleteHistory::getCreateDate).containsOnly(삭제_시각);
+        assertThat(이력.get(0).getContentType()).isEqualTo(ContentType.QUESTION);
+        assertThat(이력.get(31).getContentId()).isEqualTo(질문들.get(1).getId());
+        assertThat(질문들).allMatch(Question::isDeleted);
+    }
+
+    @Test
+    @DisplayName("한 질문이라도 다른 사람의 답변이 있으면 아무것도 삭제하지 않는다")
+    void rejectAll() {
+        // given
+        List<Question> 질문들 = questions(UserTest.DORAEMON, 100, 5);
+        질문들.get(70).addAnswer(new Answer(100_000L, UserTest.SPONGEBOB, 질문들.get(70), "answer"));
+
+        // when & then
+        assertThatThrownBy(() -> deleter.delete(질문들, DORAEMON, LocalDateTime.now()))
+                .isInstanceOf(CannotDeleteException.class);
+        assertThat(질문들).noneMatch(Question::isDeleted);
+    }
+
+    private static List<Question> questions(User 작성자, int 질문_수, int 답변_수) {
+        List<Question> 질문들 = new ArrayList<>();
+        long answerId = 1;
+        for (long questionId = 1; questionId <= 질문_수; questionId++) {
+            Question 질문 = new Question(questionId, "title", "contents", 작성자);
+            for (int i = 0; i < 답변_수; i++) {
+                질문.addAnswer(new Answer(answerId++, 작성자, 질문, "answer"));
+            }
+            질문들.add(질문);
+        }
+        return 질문들;
+    }
+}
@@ -168,4 +168,42 @@ public class QuestionTest {
                 () -> 질문.validate(질문_작성자)
         ).isInstanceOf(CannotDeleteException.class);
     }
+
+    @Test
+    @DisplayName("LoginUser로 검증할 때는 작성자 id만 비교한다")
+    void validateWithLoginUser() {
+        // given
+        Question 질문 = new Question(1L, "눈이 떨리는 이유는 뭔가요?", "", UserTest.DORAEMON);
+        질문.addAnswer(new Answer(10L, UserTest.DORAEMON, 질문, "마그네슘이 부족할 수도"));
+        LoginUser 로그인_사용자 = new LoginUser(UserTest.DORAEMON.getId(), "doraemon", "다른 이름");
+
+        // when & then
+        질문.validate(로그인_사용자);
+    }
+
+    @Test
+    @DisplayName("LoginUser로 검증할 때 타인이 작성한 답변이 있으면 삭제 실패")
+    void validateWithLoginUser_타인답변() {
+        // given
+        Question 질문 = new Question(1L, "눈이 떨리는 이유는 뭔가요?", "", UserTest.DORAEMON);
+        질문.addAnswer(new Answer(10L, UserTest.SPONGEBOB, 질문, "마그네슘이 부족할 수도"));
+
+        // when & then
+        assertThatThrownBy(
+                () -> 질문.validate(LoginUser.of(UserTest.DORAEMON))
+        ).isInstanceOf(CannotDeleteException.class);
+    }
+
+    @Test
+    @DisplayName("GUEST는 어떤 질문도 삭제할 수 없다")
+    void validateWithGuest() {
+        // given
+        Question 질문 = new Question(1L, "눈이 떨리는 이유는 뭔가요?", "", UserTest.DORAEMON);
+
+        // when & then
+        assertThat(LoginUser.of(User.GUEST_USER)).isEqualTo(LoginUser.GUEST);
+        assertThatThrownBy(
+                () -> 질문.validate(LoginUser.GUEST)
+        ).isInstanceOf(CannotDeleteException.class);
+    }
 }
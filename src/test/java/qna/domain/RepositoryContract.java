@@ -0,0 +1,490 @@
+package qna.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * JPA 저장소와 메모리 저장소가 같게 동작하는지 확인하는 공통 테스트. 구현마다 이 클래스를 상속해 저장소를 넘긴다.
+ * 조회 결과는 전체 테이블이 아니라 테스트에서 만든 작성자와 질문으로 좁혀서 비교한다.
+ * 영속성 컨텍스트에 기대는 동작(변경 감지 등)처럼 JPA에만 있는 것은 JpaRepositoryContractTest에 둔다.
+ */
+abstract class RepositoryContract {
+    private User 작성자;
+    private User 다른_사람;
+
+    protected abstract QuestionRepository questionRepository();
+
+    protected abstract AnswerRepository answerRepository();
+
+    protected abstract UserRepository userRepository();
+
+    protected abstract DeleteHistoryRepository deleteHistoryRepository();
+
+    // 저장한 내용을 DB에 쓰고 영속성 컨텍스트를 비워, 다음 조회가 DB에서 다시 읽게 한다.
+    protected void clear() {
+    }
+
+    @BeforeEach
+    void setUpUsers() {
+        작성자 = userRepository().save(new User("contract1", "pw", "작성자", "a@test.com"));
+        다른_사람 = userRepository().save(new User("contract2", "{bcrypt}hashed", "다른 사람", "b@test.com"));
+    }
+
+    @Test
+    @DisplayName("저장하면 id가 매겨지고 id로 다시 찾을 수 있다")
+    void saveAndFind() {
+        // when
+        Question 질문 = questionRepository().save(new Question("제목", "내용", 작성자));
+
+        // then
+        assertThat(질문.getId()).isNotNull();
+        assertThat(questionRepository().findById(질문.getId()))
+                .hasValueSatisfying(found -> assertThat(found.getTitle()).isEqualTo("제목"));
+        assertThat(userRepository().findByUserId("contract1")).hasValueSatisfying(found ->
+                assertThat(found.getId()).isEqualTo(작성자.getId()));
+    }
+
+    @Test
+    @DisplayName("삭제된 질문은 살아 있는 질문 조회에 나오지 않는다")
+    void deletedQuestionHidden() {
+        // given
+        Question 살아_있는_질문 = questionRepository().save(new Question("제목1", "내용", 작성자));
+        Question 삭제된_질문 = questionRepository().save(new Question("제목2", "내용", 작성자));
+        삭제된_질문.deleteQuestion();
+        questionRepository().save(삭제된_질문);
+
+        // when
+        List<Long> liveIds = questionRepository().findLiveIds(List.of(살아_있는_질문.getId(), 삭제된_질문.getId()));
+
+        // then
+        assertThat(liveIds).containsExactly(살아_있는_질문.getId());
+        assertThat(questionRepository().findByIdAndDeletedFalse(삭제된_질문.getId())).isEmpty();
+        assertThat(questionRepository().countByWriter_IdAndDeletedFalse(작성자.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("내 질문은 최신순으로, 커서 다음부터 읽는다")
+    void writtenQuestions() {
+        // given
+        Question 질문1 = questionRepository().save(new Question("제목1", "내용", 작성자));
+        Question 질문2 = questionRepository().save(new Question("제목2", "내용", 작성자));
+        Question 질문3 = questionRepository().save(new Question("제목3", "내용", 작성자));
+        questionRepository().save(new Question("다른 사람 질문", "내용", 다른_사람));
+
+        // when
+        List<UserContent> first = questionRepository().findWrittenFirstPage(작성자.getId(), PageRequest.of(0, 2));
+        UserContent last = first.get(first.size() - 1);
+        List<UserContent> next = questionRepository().findWrittenPageAfter(
+                작성자.getId(), last.createdAt(), last.id(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(first).extracting(UserContent::id).containsExactly(질문3.getId(), 질문2.getId());
+        assertThat(next).extracting(UserContent::id).containsExactly(질문1.getId());
+    }
+
+    @Test
+    @DisplayName("답변은 작성 순서대로 keyset 페이지로 읽는다")
+    void answerPages() {
+        // given
+        Question 질문 = questionRepository().save(new Question("제목", "내용", 작성자));
+        Answer 답변1 = answerRepository().save(new Answer(작성자, 질문, "답변1"));
+        Answer 답변2 = answerRepository().save(new Answer(작성자, 질문, "답변2"));
+        Answer 답변3 = answerRepository().save(new Answer(작성자, 질문, "답변3"));
+
+        // when
+        List<AnswerView> first = answerRepository().findFirstPage(질문.getId(), PageRequest.of(0, 2));
+        AnswerCursor cursor = first.get(first.size() - 1).cursor();
+        List<AnswerView> next = answerRepository().findPageAfter(
+                질문.getId(), cursor.createdAt(), cursor.id(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(first).extracting(AnswerView::id).containsExactly(답변1.getId(), 답변2.getId());
+        assertThat(next).extracting(AnswerView::id).containsExactly(답변3.getId());
+        assertThat(first.get(0).writerName()).isEqualTo("작성자");
+    }
+
+    @Test
+    @DisplayName("다른 사람의 답변이 있는지와 답변 작성자를 확인한다")
+    void answerWriters() {
+        // given
+        Question 질문 = questionRepository().save(new Question("제목", "내용", 작성자));
+        Answer 내_답변 = answerRepository().save(new Answer(작성자, 질문, "내 답변"));
+        Answer 다른_사람_답변 = answerRepository().save(new Answer(다른_사람, 질문, "다른 사람 답변"));
+
+        // when
+        boolean foreign = answerRepository().existsByQuestion_IdAndDeletedFalseAndWriter_IdNot(질문.getId(), 작성자.getId());
+        List<AnswerWriter> writers = answerRepository().findWriters(질문.getId());
+
+        // then
+        assertThat(foreign).isTrue();
+        assertThat(writers).containsExactlyInAnyOrder(
+                new AnswerWriter(내_답변.getId(), 작성자.getId()),
+                new AnswerWriter(다른_사람_답변.getId(), 다른_사람.getId()));
+    }
+
+    @Test
+    @DisplayName("답변을 한꺼번에 삭제 표시하면 살아 있는 답변 수에서 빠지고, 삭제 표시된 답변만 물리 삭제된다")
+    void markDeletedAndPurge() {
+        // given
+        Question 질문 = questionRepository().save(new Question("제목", "내용", 작성자));
+        Answer 답변1 = answerRepository().save(new Answer(작성자, 질문, "답변1"));
+        Answer 답변2 = answerRepository().save(new Answer(작성자, 질문, "답변2"));
+
+        // when
+        int marked = answerRepository().markDeletedByIdIn(List.of(답변1.getId()));
+        long live = answerRepository().countByQuestion_IdAndDeletedFalse(질문.getId());
+        int purged = answerRepository().deleteSoftDeletedByIdIn(List.of(답변1.getId(), 답변2.getId()));
+
+        // then
+        assertThat(marked).isEqualTo(1);
+        assertThat(live).isEqualTo(1);
+        assertThat(purged).isEqualTo(1);
+        assertThat(answerRepository().existsById(답변1.getId())).isFalse();
+        assertThat(answerRepository().existsById(답변2.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("userId가 겹치는 사용자는 저장할 수 없다")
+    void duplicateUserId() {
+        assertThatThrownBy(() -> userRepository().save(new User("contract1", "pw", "name", "c@test.com")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("해시되지 않은 비밀번호만 id 순서로 찾는다")
+    void passwordsNotHashed() {
+        // when
+        List<User> users = userRepository().findPasswordsNotHashed(
+                작성자.getId() - 1, "{bcrypt}%", PageRequest.of(0, 10));
+
+        // then
+        assertThat(users).extracting(User::getId).contains(작성자.getId()).doesNotContain(다른_사람.getId());
+    }
+
+    @Test
+    @DisplayName("같은 글의 삭제 이력은 하나만 저장된다")
+    void uniqueDeleteHistory() {
+        // given
+        deleteHistoryRepository().save(new DeleteHistory(ContentType.QUESTION, 100L, 작성자, LocalDateTime.now()));
+
+        // when, then
+        // JPA에서는 제약 위반 뒤의 세션을 더 쓰지 않도록 조회를 먼저 한다.
+        // id를 애플리케이션이 매기므로 INSERT는 flush 때 나간다.
+        assertThat(deleteHistoryRepository().existsByContentTypeAndContentIdAndDeletedBy_Id(
+                ContentType.QUESTION, 100L, 작성자.getId())).isTrue();
+        assertThat(deleteHistoryRepository().existsByContentTypeAndContentIdAndDeletedBy_Id(
+                ContentType.QUESTION, 100L, 다른_사람.getId())).isFalse();
+        assertThatThrownBy(() -> deleteHistoryRepository().saveAndFlush(
+                new DeleteHistory(ContentType.QUESTION, 100L, 작성자, LocalDateTime.now())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 이력만 id 순서로 정리 대상이 된다")
+    void purgeTargets() {
+        // given
+        DeleteHistory 오래된_이력 = deleteHistoryRepository().save(
+                new DeleteHistory(ContentType.ANSWER, 200L, 작성자, LocalDateTime.now().minusDays(2)));
+        deleteHistoryRepository().save(new DeleteHistory(ContentType.ANSWER, 201L, 작성자, LocalDateTime.now()));
+
+        // when
+        List<PurgeTarget> targets = deleteHistoryRepository().findPurgeTargets(
+                ContentType.ANSWER, 오래된_이력.getId() - 1, LocalDateTime.now().minusDays(1), PageRequest.of(0, 10));
+
+        // then
+        assertThat(targets).containsExactly(new PurgeTarget(오래된_이력.getId(), 200L));
+    }
+
+    @Test
+    @DisplayName("질문을 저장하면 id가 매겨지고 제목과 내용이 그대로다")
+    void saveQuestion() {
+        // given
+        Question 질문 = new Question("제목", "내용", 작성자);
+        assertThat(질문.getId()).isNull();
+
+        // when
+        Question 저장된_질문 = questionRepository().save(질문);
+
+        // then
+        assertThat(저장된_질문.getId()).isNotNull();
+        assertThat(저장된_질문.getTitle()).isEqualTo("제목");
+        assertThat(저장된_질문.getContents()).isEqualTo("내용");
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 질문만 목록과 단건 조회에 나온다")
+    void findLiveQuestions() {
+        // given
+        Question 질문1 = questionRepository().save(new Question("제목1", "내용", 작성자));
+        Question 질문2 = new Question("제목2", "내용", 작성자);
+        질문2.deleteQuestion();
+        questionRepository().save(질문2);
+
+        // when
+        List<Question> 전체 = questionRepository().findAll();
+        List<Question> 살아_있는_질문 = questionRepository().findByDeletedFalse();
+
+        // then
+        assertThat(전체).extracting(Question::getId).contains(질문1.getId(), 질문2.getId());
+        assertThat(살아_있는_질문).extracting(Question::getId).contains(질문1.getId()).doesNotContain(질문2.getId());
+        assertThat(questionRepository().findByIdAndDeletedFalse(질문1.getId()))
+                .hasValueSatisfying(found -> assertThat(found.getTitle()).isEqualTo("제목1"));
+    }
+
+    @Test
+    @DisplayName("제목이 없거나 100자를 넘는 질문은 저장할 수 없다")
+    void questionTitleConstraints() {
+        assertThatThrownBy(() -> questionRepository().save(new Question(null, "", 작성자)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> questionRepository().save(new Question("a".repeat(101), "내용", 작성자)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("다시 읽은 질문의 answers에는 삭제되지 않은 답변만 들어 있다")
+    void questionAnswers() {
+        // given
+        Question 질문 = questionRepository().save(new Question("제목", "내용", 작성자));
+        answerRepository().save(new Answer(작성자, 질문, "답변1"));
+        answerRepository().save(new Answer(다른_사람, 질문, "답변2"));
+        Answer 삭제된_답변 = new Answer(작성자, 질문, "답변3");
+        삭제된_답변.setDeleted(true);
+        answerRepository().save(삭제된_답변);
+        clear();
+
+        // when
+        Question 찾은_질문 = questionRepository().findById(질문.getId()).orElseThrow();
+
+        // then
+        assertThat(찾은_질문.getAnswers()).extracting(Answer::getContents).containsExactlyInAnyOrder("답변1", "답변2");
+    }
+
+    @Test
+    @DisplayName("답변을 단 질문을 저장하면 답변도 함께 저장된다")
+    void cascadeAnswers() {
+        // given
+        Question 질문 = new Question("제목", "내용", 작성자);
+        질문.addAnswer(new Answer(작성자, 질문, "답변1"));
+        질문.addAnswer(new Answer(작성자, 질문, "답변2"));
+
+        // when
+        questionRepository().save(질문);
+        clear();
+
+        // then
+        assertThat(answerRepository().findByQuestion_IdAndDeletedFalse(질문.getId())).hasSize(2);
+        assertThat(questionRepository().findById(질문.getId()).orElseThrow().getAnswers()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("답변과 함께 읽은 살아 있는 질문에는 삭제되지 않은 답변이 채워져 있다")
+    void findLiveWithAnswers() {
+        // given
+        Question 질문 = questionRepository().save(new Question("제목", "내용", 작성자));
+        answerRepository().save(new Answer(작성자, 질문, "답변1"));
+        Answer 삭제할_답변 = answerRepository().save(new Answer(작성자, 질문, "답변2"));
+        answerRepository().markDeletedByIdIn(List.of(삭제할_답변.getId()));
+        Question 삭제된_질문 = new Question("삭제된 제목", "내용", 작성자);
+        삭제된_질문.deleteQuestion();
+        questionRepository().save(삭제된_질문);
+        clear();
+
+        // when
+        List<Question> 전체 = questionRepository().findLiveWithAnswers().stream()
+                .filter(question -> question.isOwner(작성자))
+                .toList();
+        List<Question> 고른_질문 = questionRepository().findLiveWithAnswersByIdIn(List.of(질문.getId(), 삭제된_질문.getId()));
+
+        // then
+        assertThat(전체).extracting(Question::getId).containsExactly(질문.getId());
+        assertThat(고른_질문).extracting(Question::getId).containsExactly(질문.getId());
+        assertThat(전체.get(0).getAnswers()).extracting(Answer::getContents).containsExactly("답변1");
+        assertThat(고른_질문.get(0).getAnswers()).extracting(Answer::getContents).containsExactly("답변1");
+    }
+
+    @Test
+    @DisplayName("답변을 저장하면 id가 매겨지고, 넘긴 객체가 그대로 돌아온다")
+    void saveAnswer() {
+        // given
+        Question 질문 = questionRepository().save(new Question("제목", "내용", 작성자));
+        Answer 저장할_답변 = new Answer(작성자, 질문, "내용");
+        assertThat(저장할_답변.getId()).isNull();
+
+        // when
+        Answer 저장된_답변 = answerRepository().save(저장할_답변);
+
+        // then
+        assertAll(
+                () -> assertThat(저장된_답변.getId()).isNotNull(),
+                () -> assertThat(저장된_답변.getContents()).isEqualTo("내용"),
+                () -> assertThat(저장된_답변).isSameAs(저장할_답변));
+    }
+
+    @Test
+    @DisplayName("답변 id는 INSERT 전에 매겨지고 만든 순서대로 커진다")
+    void answerIdsAreTimeOrdered() {
+        // given
+        Question 질문 = questionRepository().save(new Question("제목", "내용", 작성자));
+        Answer 먼저_쓴_답변 = new Answer(작성자, 질문, "먼저");
+        Answer 나중에_쓴_답변 = new Answer(작성자, 질문, "나중");
+
+        // when
+        answerRepository().save(먼저_쓴_답변);
+        answerRepository().save(나중에_쓴_답변);
+
+        // then
+        assertThat(나중에_쓴_답변.getId()).isGreaterThan(먼저_쓴_답변.getId());
+        assertThat(TimeOrderedIdGenerator.timestampOf(먼저_쓴_답변.getId()))
+                .isBetween(Instant.now().minusSeconds(60), Instant.now());
+        assertThat(answerRepository().findAllById(List.of(먼저_쓴_답변.getId(), 나중에_쓴_답변.getId()))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 답변만 질문 id와 답변 id로 찾는다")
+    void findLiveAnswers() {
+        // given
+        Question 질문 = questionRepository().save(new Question("제목", "내용", 작성자));
+        Answer 답변 = answerRepository().save(new Answer(작성자, 질문, "답변"));
+        Answer 삭제된_답변 = new Answer(작성자, 질문, "삭제된 답변");
+        삭제된_답변.setDeleted(true);
+        answerRepository().saveAll(List.of(new Answer(작성자, 질문, "답변2"), 삭제된_답변));
+        clear();
+
+        // when
+        List<Answer> 답변들 = answerRepository().findByQuestion_IdAndDeletedFalse(질문.getId());
+        Answer 찾은_답변 = answerRepository().findByIdAndDeletedFalse(답변.getId()).orElseThrow();
+
+        // then
+        assertThat(답변들).hasSize(2).noneMatch(Answer::isDeleted);
+        assertAll(
+                () -> assertThat(찾은_답변.getContents()).isEqualTo("답변"),
+                () -> assertThat(찾은_답변.getQuestionId()).isEqualTo(질문.getId()),
+                () -> assertThat(찾은_답변.getWriterId()).isEqualTo(작성자.getId()));
+        assertThat(answerRepository().findByIdAndDeletedFalse(삭제된_답변.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("답변을 (createdAt, id) keyset으로 나눠 읽으면 삭제된 답변을 빼고 건너뛰거나 겹치지 않는다")
+    void answerPagesSkipDeleted() {
+        // given
+        Question 질문 = questionRepository().save(new Question("제목", "내용", 작성자));
+        for (int i = 0; i < 5; i++) {
+            Answer 답변 = new Answer(작성자, 질문, "내용" + i);
+            답변.setDeleted(i == 2);
+            answerRepository().save(답변);
+        }
+
+        // when
+        List<AnswerView> 첫_페이지 = answerRepository().findFirstPage(질문.getId(), PageRequest.of(0, 2));
+        AnswerCursor 커서 = 첫_페이지.get(1).cursor();
+        List<AnswerView> 두번째_페이지 = answerRepository().findPageAfter(질문.getId(), 커서.createdAt(), 커서.id(), PageRequest.of(0, 2));
+        커서 = 두번째_페이지.get(1).cursor();
+        List<AnswerView> 마지막_페이지 = answerRepository().findPageAfter(질문.getId(), 커서.createdAt(), 커서.id(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(첫_페이지).extracting(AnswerView::contents).containsExactly("내용0", "내용1");
+        assertThat(두번째_페이지).extracting(AnswerView::contents).containsExactly("내용3", "내용4");
+        assertThat(마지막_페이지).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장한 사용자를 다시 읽으면 같은 사용자다")
+    void saveAndFindUser() {
+        // given
+        User 유저 = userRepository().save(new User("axax", "pw", "김씨", "a@gmail.com"));
+        clear();
+
+        // when
+        User 찾은_유저 = userRepository().findById(유저.getId()).orElseThrow();
+
+        // then
+        assertThat(찾은_유저).isEqualTo(유저);
+        assertThat(userRepository().findByUserId("axax")).hasValue(유저);
+    }
+
+    @Test
+    @DisplayName("없는 userId로 찾으면 비어 있다")
+    void findUserByNonExistentUserId() {
+        assertThat(userRepository().findByUserId("asfsafsadfsadfsadfs")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제 이력을 저장하고 id로, 전체로 다시 읽는다")
+    void saveAndFindDeleteHistory() {
+        // given
+        DeleteHistory 이력1 = deleteHistoryRepository().save(new DeleteHistory(ContentType.ANSWER, 1L, 작성자, LocalDateTime.now()));
+        DeleteHistory 이력2 = deleteHistoryRepository().save(new DeleteHistory(ContentType.ANSWER, 2L, 작성자, LocalDateTime.now()));
+        DeleteHistory 이력3 = deleteHistoryRepository().save(new DeleteHistory(ContentType.ANSWER, 3L, 작성자, LocalDateTime.now()));
+
+        // when
+        DeleteHistory 찾은_이력 = deleteHistoryRepository().findById(이력1.getId()).orElseThrow();
+        List<DeleteHistory> 전체 = deleteHistoryRepository().findAll();
+
+        // then
+        assertThat(이력1.getId()).isNotNull();
+        assertThat(찾은_이력.getContentType()).isEqualTo(ContentType.ANSWER);
+        assertThat(찾은_이력.getContentId()).isEqualTo(1L);
+        assertThat(전체).extracting(DeleteHistory::getId).contains(이력1.getId(), 이력2.getId(), 이력3.getId());
+    }
+
+    @Test
+    @DisplayName("정렬과 페이지로 전체를 읽는다. null은 오름차순에서 먼저 온다")
+    void sortedFindAll() {
+        // given
+        User 이름_없는_사람 = userRepository().save(new User("contract3", "pw", null, "c@test.com"));
+        User 가_사람 = userRepository().save(new User("contract4", "pw", "가", "d@test.com"));
+        List<Long> ids = List.of(작성자.getId(), 다른_사람.getId(), 이름_없는_사람.getId(), 가_사람.getId());
+
+        // when
+        List<User> 이름순 = userRepository().findAll(Sort.by("name")).stream()
+                .filter(user -> ids.contains(user.getId()))
+                .toList();
+        List<User> 역순_첫_페이지 = userRepository().findAll(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"))).getContent();
+
+        // then
+        assertThat(이름순).extracting(User::getId)
+                .containsExactly(이름_없는_사람.getId(), 가_사람.getId(), 다른_사람.getId(), 작성자.getId());
+        assertThat(역순_첫_페이지).extracting(User::getId).containsExactly(가_사람.getId(), 이름_없는_사람.getId());
+    }
+
+    @Test
+    @DisplayName("Example 조회는 probe에 값이 있는 필드와 연관 엔티티의 필드로 거른다")
+    void findByExample() {
+        // given
+        Question 질문1 = questionRepository().save(new Question("예제 제목", "내용", 작성자));
+        Question 질문2 = questionRepository().save(new Question("예제 제목 둘", "내용", 작성자));
+        questionRepository().save(new Question("예제 제목", "내용", 다른_사람));
+        Question probe = new Question("예제", null, new User(null, null, null, "a@test.com"));
+        ExampleMatcher matcher = ExampleMatcher.matching()
+                .withIgnorePaths("createdAt", "viewCount", "writer.createdAt")
+                .withMatcher("title", ExampleMatcher.GenericPropertyMatchers.startsWith());
+        Example<Question> example = Example.of(probe, matcher);
+
+        // when
+        List<Question> found = questionRepository().findAll(example, Sort.by("id"));
+        long count = questionRepository().count(example);
+        Question first = questionRepository().findBy(example, query -> query.sortBy(Sort.by("id")).firstValue());
+
+        // then
+        assertThat(found).extracting(Question::getId).containsExactly(질문1.getId(), 질문2.getId());
+        assertThat(count).isEqualTo(2);
+        assertThat(first.getId()).isEqualTo(질문1.getId());
+        assertThatThrownBy(() -> questionRepository().findOne(example))
+                .isInstanceOf(IncorrectResultSizeDataAccessException.class);
+    }
+}
@@ -0,0 +1,114 @@
+package qna.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdGeneratorTest {
+    private static final Instant NOW = Instant.parse("2025-03-01T12:00:00Z");
+
+    @Test
+    @DisplayName("id에서 만든 시각과 노드 번호를 다시 읽을 수 있다")
+    void decode() {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC), 7);
+
+        // when
+        long id = generator.next();
+
+        // then
+        assertThat(TimeOrderedIdGenerator.timestampOf(id)).isEqualTo(NOW);
+        assertThat(TimeOrderedIdGenerator.nodeOf(id)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 순번이 넘치거나 시계가 뒤로 가도 id는 계속 커진다")
+    void monotonic() {
+        // given
+        MovableClock clock = new MovableClock(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock, 1);
+        List<Long> ids = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 5000; i++) {
+            ids.add(generator.next());
+        }
+        clock.instant = NOW.minusSeconds(1);
+        ids.add(generator.next());
+
+        // then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(TimeOrderedIdGenerator.timestampOf(ids.get(4095))).isEqualTo(NOW);
+        assertThat(TimeOrderedIdGenerator.timestampOf(ids.get(4096))).isEqualTo(NOW.plusMillis(1));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 만들어도 id가 겹치지 않는다")
+    void concurrent() throws Exception {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.systemUTC(), 0);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int thread = 0; thread < 8; thread++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(generator.next());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    @DisplayName("노드 번호는 10비트 안이어야 한다")
+    void invalidNode() {
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(Clock.systemUTC(), TimeOrderedIdGenerator.MAX_NODE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class MovableClock extends Clock {
+        private Instant instant;
+
+        private MovableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package qna.loadtest;
+
+/**
+ * 생성된 데이터셋. 질문 id와 그 작성자 id를 같은 인덱스로 가진다.
+ */
+public record Dataset(long[] userIds, long[] questionIds, long[] questionWriterIds, long answers) {
+
+    public int questionCount() {
+        return questionIds.length;
+    }
+}
@@ -0,0 +1,125 @@
+package qna.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * users/question/answer 테이블에 합성 데이터를 JDBC 배치 insert로 채운다.
+ * 엔티티를 거치지 않으므로 id를 직접 지정하고, 끝나면 IDENTITY 시작값을 그 다음으로 옮긴다.
+ */
+public class DatasetGenerator {
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+    private static final double PARETO_ALPHA = 1.5;
+    private static final int MAX_HOT_THREAD_MULTIPLIER = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Dataset generate(DatasetSpec spec) {
+        long startedAt = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(spec.seed());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long[] userIds = insertUsers(spec, now);
+        long[] questionIds = new long[spec.questions()];
+        long[] questionWriterIds = new long[spec.questions()];
+        insertQuestions(spec, random, now, userIds, questionIds, questionWriterIds);
+        long answers = insertAnswers(spec, random, now, userIds, questionIds, questionWriterIds);
+
+        log.info("dataset generated. users={}, questions={}, answers={}, elapsed={}ms",
+                userIds.length, questionIds.length, answers, (System.nanoTime() - startedAt) / 1_000_000);
+        return new Dataset(userIds, questionIds, questionWriterIds, answers);
+    }
+
+    private long[] insertUsers(DatasetSpec spec, Timestamp now) {
+        long firstId = nextId("users");
+        long[] ids = new long[spec.users()];
+        List<Object[]> batch = new ArrayList<>(spec.batchSize());
+        for (int i = 0; i < spec.users(); i++) {
+            ids[i] = firstId + i;
+            batch.add(new Object[]{ids[i], "lt" + ids[i], "password", "user" + ids[i], "user" + ids[i] + "@loadtest", now});
+            flushIfFull(batch, spec.batchSize(),
+                    "insert into users (id, user_id, password, name, email, created_at) values (?, ?, ?, ?, ?, ?)");
+        }
+        flush(batch, "insert into users (id, user_id, password, name, email, created_at) values (?, ?, ?, ?, ?, ?)");
+        restartIdentity("users", firstId + ids.length);
+        return ids;
+    }
+
+    private void insertQuestions(DatasetSpec spec, SplittableRandom random, Timestamp now,
+                                 long[] userIds, long[] questionIds, long[] questionWriterIds) {
+        String sql = "insert into question (id, title, contents, writer_id, deleted, created_at) values (?, ?, ?, ?, false, ?)";
+        long firstId = nextId("question");
+        List<Object[]> batch = new ArrayList<>(spec.batchSize());
+        for (int i = 0; i < questionIds.length; i++) {
+            questionIds[i] = firstId + i;
+            questionWriterIds[i] = userIds[random.nextInt(userIds.length)];
+            batch.add(new Object[]{questionIds[i], "question " + questionIds[i], "contents", questionWriterIds[i], now});
+            flushIfFull(batch, spec.batchSize(), sql);
+        }
+        flush(batch, sql);
+        restartIdentity("question", firstId + questionIds.length);
+    }
+
+    private long insertAnswers(DatasetSpec spec, SplittableRandom random, Timestamp now,
+                               long[] userIds, long[] questionIds, long[] questionWriterIds) {
+        String sql = "insert into answer (id, contents, question_id, writer_id, deleted, created_at) values (?, ?, ?, ?, false, ?)";
+        long firstId = nextId("answer");
+        long nextId = firstId;
+        List<Object[]> batch = new ArrayList<>(spec.batchSize());
+        for (int i = 0; i < questionIds.length; i++) {
+            boolean ownAnswersOnly = random.nextDouble() < spec.ownAnswerRatio();
+            int answers = answerCount(spec, random);
+            for (int j = 0; j < answers; j++) {
+                long writerId = ownAnswersOnly ? questionWriterIds[i] : userIds[random.nextInt(userIds.length)];
+                batch.add(new Object[]{nextId++, "answer", questionIds[i], writerId, now});
+                flushIfFull(batch, spec.batchSize(), sql);
+            }
+        }
+        flush(batch, sql);
+        restartIdentity("answer", nextId);
+        return nextId - firstId;
+    }
+
+    // 일반 질문은 평균 meanAnswersPerQuestion의 지수 분포, 인기 질문은 hotThreadAnswers부터 시작하는 파레토 분포
+    private int answerCount(DatasetSpec spec, SplittableRandom random) {
+        if (random.nextDouble() < spec.hotThreadRatio()) {
+            double multiplier = Math.pow(1.0 - random.nextDouble(), -1.0 / PARETO_ALPHA);
+            return (int) (spec.hotThreadAnswers() * Math.min(multiplier, MAX_HOT_THREAD_MULTIPLIER));
+        }
+        return (int) Math.round(-spec.meanAnswersPerQuestion() * Math.log(1.0 - random.nextDouble()));
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        return maxId == null ? 1L : maxId + 1;
+    }
+
+    private void restartIdentity(String table, long nextId) {
+        jdbcTemplate.execute("alter table " + table + " alter column id restart with " + nextId);
+    }
+
+    private void flushIfFull(List<Object[]> batch, int batchSize, String sql) {
+        if (batch.size() >= batchSize) {
+            flush(batch, sql);
+        }
+    }
+
+    private void flush(List<Object[]> batch, String sql) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, batch);
+        batch.clear();
+    }
+}
@@ -0,0 +1,42 @@
+package qna.loadtest;
+
+/**
+ * 합성 데이터셋의 모양.
+ *
+ * @param users                  생성할 사용자 수
+ * @param questions              생성할 질문 수
+ * @param meanAnswersPerQuestion 일반 질문의 평균 답변 수 (지수 분포)
+ * @param hotThreadRatio         답변이 몰리는 인기 질문의 비율 (0~1)
+ * @param hotThreadAnswers       인기 질문의 최소 답변 수 (파레토 분포로 꼬리가 길어진다)
+ * @param ownAnswerRatio         모든 답변을 질문 작성자가 단 질문의 비율 (삭제 가능한 질문)
+ * @param batchSize              JDBC 배치 크기
+ * @param seed                   난수 시드 (같은 시드면 같은 데이터셋)
+ */
+public record DatasetSpec(
+        int users,
+        int questions,
+        double meanAnswersPerQuestion,
+        double hotThreadRatio,
+        int hotThreadAnswers,
+        double ownAnswerRatio,
+        int batchSize,
+        long seed
+) {
+    public static DatasetSpec fromSystemProperties() {
+        return new DatasetSpec(
+                Integer.getInteger("loadtest.users", 1_000),
+                Integer.getInteger("loadtest.questions", 10_000),
+                doubleProperty("loadtest.answers.mean", 3.0),
+                doubleProperty("loadtest.answers.hot-ratio", 0.001),
+                Integer.getInteger("loadtest.answers.hot-min", 1_000),
+                doubleProperty("loadtest.answers.own-ratio", 0.5),
+                Integer.getInteger("loadtest.batch-size", 1_000),
+                Long.getLong("loadtest.seed", 42L)
+        );
+    }
+
+    static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,48 @@
+package qna.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import qna.application.QnaService;
+import qna.application.QuestionListingService;
+import qna.domain.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 H2에 합성 데이터셋을 만들고 혼합 작업 부하를 건다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest -Dloadtest.rate=1000 처럼 실행한다.
+ */
+@Tag("loadtest")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO"
+})
+class LoadTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    QnaService qnaService;
+
+    @Autowired
+    QuestionListingService questionListingService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    void 혼합_작업_부하() throws InterruptedException {
+        Dataset dataset = new DatasetGenerator(jdbcTemplate).generate(DatasetSpec.fromSystemProperties());
+        questionListingService.rebuild();
+
+        LoadTestReport report = new LoadTestDriver(qnaService, questionListingService, userRepository)
+                .run(dataset, Workload.fromSystemProperties());
+
+        System.out.println(report.format());
+        assertThat(report.totalRequests()).isPositive();
+    }
+}
@@ -0,0 +1,104 @@
+package qna.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import qna.application.QnaService;
+import qna.application.QuestionListingService;
+import qna.domain.User;
+import qna.domain.UserRepository;
+import qna.exception.CannotDeleteException;
+import qna.exception.NotFoundException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 목표 처리량으로 findQuestionById / deleteQuestion / 목록 조회를 섞어 호출하고 지연 시간 분포를 기록한다.
+ * 요청은 미리 정한 발사 시각에 맞춰 보내고 지연 시간도 그 시각부터 재므로,
+ * 시스템이 밀려 요청을 늦게 보내게 되더라도 그 대기 시간이 측정에서 빠지지 않는다. (coordinated omission 보정)
+ */
+public class LoadTestDriver {
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final QnaService qnaService;
+    private final QuestionListingService questionListingService;
+    private final UserRepository userRepository;
+    private final Map<Long, User> users = new ConcurrentHashMap<>();
+
+    public LoadTestDriver(QnaService qnaService, QuestionListingService questionListingService, UserRepository userRepository) {
+        this.qnaService = qnaService;
+        this.questionListingService = questionListingService;
+        this.userRepository = userRepository;
+    }
+
+    public LoadTestReport run(Dataset dataset, Workload workload) throws InterruptedException {
+        Map<Workload.Operation, Recorder> recorders = new EnumMap<>(Workload.Operation.class);
+        Map<Workload.Operation, LongAdder> failures = new EnumMap<>(Workload.Operation.class);
+        for (Workload.Operation operation : Workload.Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            failures.put(operation, new LongAdder());
+        }
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / workload.targetRate();
+        long totalRequests = workload.duration().getSeconds() * workload.targetRate();
+        AtomicLong sequence = new AtomicLong();
+        long startedAt = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workload.threads());
+        for (int t = 0; t < workload.threads(); t++) {
+            SplittableRandom random = new SplittableRandom(workload.seed() + t);
+            executor.execute(() -> {
+                long n;
+                while ((n = sequence.getAndIncrement()) < totalRequests) {
+                    long intendedStart = startedAt + n * intervalNanos;
+                    long wait = intendedStart - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    Workload.Operation operation = workload.pick(random.nextDouble());
+                    if (!execute(operation, dataset, workload, random)) {
+                        failures.get(operation).increment();
+                    }
+                    recorders.get(operation).recordValue(Math.min(System.nanoTime() - intendedStart, HIGHEST_TRACKABLE_NANOS));
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(workload.duration().toSeconds() * 10 + 60, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Map<Workload.Operation, Histogram> histograms = new EnumMap<>(Workload.Operation.class);
+        recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+        Map<Workload.Operation, Long> failureCounts = new EnumMap<>(Workload.Operation.class);
+        failures.forEach((operation, count) -> failureCounts.put(operation, count.sum()));
+        return new LoadTestReport(workload, elapsedNanos, histograms, failureCounts);
+    }
+
+    // 삭제된 질문 조회(NotFound)나 권한 없는 삭제(CannotDelete)는 실패로 세지만 지연 시간은 그대로 기록한다.
+    private boolean execute(Workload.Operation operation, Dataset dataset, Workload workload, SplittableRandom random) {
+        int index = random.nextInt(dataset.questionCount());
+        long questionId = dataset.questionIds()[index];
+        try {
+            switch (operation) {
+                case FIND_QUESTION -> qnaService.findQuestionById(questionId);
+                case DELETE_QUESTION -> qnaService.deleteQuestion(user(dataset.questionWriterIds()[index]), questionId);
+                case LIST_QUESTIONS -> questionListingService.findLatest(random.nextInt(10), workload.listPageSize());
+            }
+            return true;
+        } catch (NotFoundException | CannotDeleteException e) {
+            return false;
+        }
+    }
+
+    private User user(long id) {
+        return users.computeIfAbsent(id, key -> userRepository.findById(key).orElseThrow(NotFoundException::new));
+    }
+}
@@ -0,0 +1,47 @@
+package qna.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업별 처리량과 지연 시간 백분위수.
+ */
+public record LoadTestReport(
+        Workload workload,
+        long elapsedNanos,
+        Map<Workload.Operation, Histogram> histograms,
+        Map<Workload.Operation, Long> failures
+) {
+    public long totalRequests() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    public double throughput() {
+        return totalRequests() / (elapsedNanos / 1e9);
+    }
+
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("target=%d/s achieved=%.1f/s requests=%d elapsed=%.1fs%n",
+                workload.targetRate(), throughput(), totalRequests(), elapsedNanos / 1e9));
+        report.append(String.format("%-16s %8s %8s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "failed", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        histograms.forEach((operation, histogram) -> report.append(String.format(
+                "%-16s %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation,
+                histogram.getTotalCount(),
+                failures.get(operation),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()))));
+        return report.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,50 @@
+package qna.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 작업 구성. 비율(weight)은 합이 1이 아니어도 되며 상대값으로 해석한다.
+ *
+ * @param targetRate 초당 목표 요청 수
+ * @param duration   측정 시간
+ * @param threads    요청을 보내는 스레드 수
+ */
+public record Workload(
+        double findWeight,
+        double deleteWeight,
+        double listWeight,
+        int listPageSize,
+        int targetRate,
+        Duration duration,
+        int threads,
+        long seed
+) {
+    public static Workload fromSystemProperties() {
+        return new Workload(
+                DatasetSpec.doubleProperty("loadtest.mix.find", 0.80),
+                DatasetSpec.doubleProperty("loadtest.mix.delete", 0.05),
+                DatasetSpec.doubleProperty("loadtest.mix.list", 0.15),
+                Integer.getInteger("loadtest.list.page-size", 20),
+                Integer.getInteger("loadtest.rate", 500),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30L)),
+                Integer.getInteger("loadtest.threads", 8),
+                Long.getLong("loadtest.seed", 42L)
+        );
+    }
+
+    Operation pick(double random) {
+        double total = findWeight + deleteWeight + listWeight;
+        double point = random * total;
+        if (point < findWeight) {
+            return Operation.FIND_QUESTION;
+        }
+        if (point < findWeight + deleteWeight) {
+            return Operation.DELETE_QUESTION;
+        }
+        return Operation.LIST_QUESTIONS;
+    }
+
+    enum Operation {
+        FIND_QUESTION, DELETE_QUESTION, LIST_QUESTIONS
+    }
+}
@@ -0,0 +1,163 @@
+package qna.shard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import qna.application.AnswerImportRequest;
+import qna.application.AnswerIngestionResult;
+import qna.application.AnswerIngestionService;
+import qna.application.QnaService;
+import qna.application.QuestionListingService;
+import qna.application.QuestionShardQueryService;
+import qna.domain.Answer;
+import qna.domain.AnswerRepository;
+import qna.domain.Question;
+import qna.domain.QuestionListing;
+import qna.domain.QuestionView;
+import qna.domain.User;
+import qna.domain.UserRepository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 H2 인메모리 DB 두 개를 샤드로 쓴다.
+ */
+@SpringBootTest(properties = {
+        "qna.sharding.datasources[0].url=jdbc:h2:mem:qna-shard-${random.uuid}",
+        "qna.sharding.initialize-schema=true"
+})
+class ShardingTest {
+
+    @Autowired
+    QnaService qnaService;
+
+    @Autowired
+    QuestionShardQueryService questionShardQueryService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Autowired
+    AnswerIngestionService answerIngestionService;
+
+    @Autowired
+    QuestionListingService questionListingService;
+
+    @Autowired
+    ShardRouter shardRouter;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    User writer;
+
+    @BeforeEach
+    void setUp() {
+        String userId = UUID.randomUUID().toString().substring(0, 8);
+        writer = userRepository.save(new User(userId, "password", "name", userId + "@gmail.com"));
+    }
+
+    @Test
+    @DisplayName("사용자는 모든 샤드에 복제된다")
+    void usersReplicated() {
+        assertThat(count(0, "select count(*) from users where id = ?", writer.getId())).isEqualTo(1);
+        assertThat(count(1, "select count(*) from users where id = ?", writer.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("질문은 샤드를 돌아가며 저장되고, id만으로 저장된 샤드를 알 수 있다")
+    void questionsSpreadAcrossShards() {
+        // given & when
+        List<Question> questions = List.of(
+                qnaService.createQuestion(new Question("title1", "contents1", writer)),
+                qnaService.createQuestion(new Question("title2", "contents2", writer)));
+
+        // then
+        assertThat(questions).extracting(question -> shardRouter.shardOf(question.getId()))
+                .containsExactlyInAnyOrder(0, 1);
+        for (Question question : questions) {
+            int shard = shardRouter.shardOf(question.getId());
+            assertThat(count(shard, "select count(*) from question where id = ?", question.getId())).isEqualTo(1);
+            assertThat(count(1 - shard, "select count(*) from question where id = ?", question.getId())).isZero();
+            assertThat(qnaService.findQuestionById(question.getId()).getTitle()).isEqualTo(question.getTitle());
+        }
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 질문 목록은 모든 샤드에서 모은다")
+    void scatterGather() {
+        // given
+        Question question1 = qnaService.createQuestion(new Question("title1", "contents1", writer));
+        Question question2 = qnaService.createQuestion(new Question("title2", "contents2", writer));
+
+        // when
+        List<QuestionView> questions = questionShardQueryService.findByDeletedFalse();
+
+        // then
+        assertThat(questions).extracting(QuestionView::id)
+                .contains(question1.getId(), question2.getId())
+                .isSorted();
+    }
+
+    @Test
+    @DisplayName("질문 삭제는 질문과 답변, 삭제 이력이 있는 한 샤드 안에서 끝난다")
+    void deleteStaysOnOneShard() {
+        // given
+        Question question = qnaService.createQuestion(new Question("title", "contents", writer));
+        int shard = shardRouter.shardOf(question.getId());
+        Answer answer;
+        try (ShardContext.Scope scope = shardRouter.bindQuestion(question.getId())) {
+            answer = answerRepository.save(new Answer(writer, question, "answer"));
+        }
+
+        // when
+        qnaService.deleteQuestion(writer, question.getId());
+
+        // then
+        assertThat(count(shard, "select count(*) from question where id = ? and deleted = true", question.getId())).isEqualTo(1);
+        assertThat(count(shard, "select count(*) from answer where id = ? and deleted = true", answer.getId())).isEqualTo(1);
+        assertThat(count(shard, "select count(*) from delete_history where content_type = 'QUESTION' and content_id = ?", question.getId())).isEqualTo(1);
+        assertThat(count(1 - shard, "select count(*) from delete_history where content_type = 'QUESTION' and content_id = ?", question.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 수집한 답변은 질문의 샤드에 들어가고, 목록 읽기 모델은 모든 샤드의 질문을 기본 샤드에 모은다")
+    void ingestAndListAcrossShards() {
+        // given
+        Question question1 = qnaService.createQuestion(new Question("title1", "contents1", writer));
+        Question question2 = qnaService.createQuestion(new Question("title2", "contents2", writer));
+
+        // when
+        AnswerIngestionResult result = answerIngestionService.ingest(Stream.of(
+                new AnswerImportRequest(question1.getId(), writer.getId(), "answer1"),
+                new AnswerImportRequest(question2.getId(), writer.getId(), "answer2")));
+        questionListingService.rebuild();
+
+        // then
+        assertThat(result.inserted()).isEqualTo(2);
+        for (Question question : List.of(question1, question2)) {
+            int shard = shardRouter.shardOf(question.getId());
+            assertThat(count(shard, "select count(*) from answer where question_id = ?", question.getId())).isEqualTo(1);
+        }
+        assertThat(questionListingService.findLatest(0, 100))
+                .filteredOn(listing -> List.of(question1.getId(), question2.getId()).contains(listing.getQuestionId()))
+                .extracting(QuestionListing::getAnswerCount)
+                .containsExactly(1L, 1L);
+    }
+
+    private long count(int shard, String sql, Long id) {
+        try (ShardContext.Scope scope = ShardContext.bind(shard)) {
+            return jdbcTemplate.queryForObject(sql, Long.class, id);
+        }
+    }
+}